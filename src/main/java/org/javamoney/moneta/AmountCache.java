@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2012, 2020, Anatole Tresch, Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Logger;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryAmount;
+
+import org.javamoney.moneta.spi.MonetaryConfig;
+
+/**
+ * Per-currency cache of the amounts with zero and small integral values, used by the factory methods of
+ * {@link FastMoney} and {@link Money}, so aggregations and roundings creating many such amounts share
+ * their instances. The amounts are created lazily on first use, concurrent first uses may create equal
+ * instances more than once, which is harmless, since the amounts are immutable.
+ * <p>
+ * The range of cached values is configured using the {@code org.javamoney.moneta.AmountCache.low} and
+ * {@code org.javamoney.moneta.AmountCache.high} properties, by default {@code [-128, 127]} is cached.
+ * Configuring a high value less than the low value disables the cache.
+ * <p>
+ * Amounts are only cached for the first {@link CurrencyUnit} instance seen for a currency code, which
+ * normally is the shared instance returned by {@link javax.money.Monetary#getCurrency(String)}, other
+ * instances are never replaced by the cached amounts.
+ *
+ * @param <T> the amount type.
+ */
+abstract class AmountCache<T extends MonetaryAmount> {
+
+    private static final Logger LOG = Logger.getLogger(AmountCache.class.getName());
+
+    /**
+     * The maximal number of values cached per currency.
+     */
+    private static final int MAX_SIZE = 1 << 16;
+
+    /**
+     * The maximal number of currencies cached.
+     */
+    private static final int MAX_CURRENCIES = 512;
+
+    private static final int DEFAULT_LOW = -128;
+
+    private static final int DEFAULT_HIGH = 127;
+
+    /**
+     * The lowest value cached.
+     */
+    static final long LOW;
+
+    /**
+     * The highest value cached, if less than {@link #LOW}, nothing is cached.
+     */
+    static final long HIGH;
+
+    static {
+        long low = MonetaryConfig.getInt("org.javamoney.moneta.AmountCache.low", DEFAULT_LOW);
+        long high = MonetaryConfig.getInt("org.javamoney.moneta.AmountCache.high", DEFAULT_HIGH);
+        if (high >= low && high - low >= MAX_SIZE) {
+            LOG.warning("Range of cached amounts exceeds " + MAX_SIZE + " values, using [" + DEFAULT_LOW + ", "
+                    + DEFAULT_HIGH + "].");
+            low = DEFAULT_LOW;
+            high = DEFAULT_HIGH;
+        }
+        LOW = low;
+        HIGH = high;
+    }
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * The entry used last, avoiding the lookup in {@link #entries}, when the same currency is used
+     * repeatedly.
+     */
+    private volatile Entry lastEntry;
+
+    /**
+     * Access the cached amount for the given integral value.
+     *
+     * @param value    the integral value.
+     * @param currency the currency, not null.
+     * @return the cached amount, or null, if the value or currency is not cached.
+     */
+    @SuppressWarnings("unchecked")
+    final T get(long value, CurrencyUnit currency) {
+        if (value < LOW || value > HIGH) {
+            return null;
+        }
+        Entry entry = this.lastEntry;
+        if (entry == null || entry.currency != currency) {
+            entry = getEntry(currency);
+            if (entry == null) {
+                return null;
+            }
+            this.lastEntry = entry;
+        }
+        int index = (int) (value - LOW);
+        T amount = (T) entry.amounts[index];
+        if (amount == null) {
+            amount = create(value, currency);
+            entry.amounts[index] = amount;
+        }
+        return amount;
+    }
+
+    private Entry getEntry(CurrencyUnit currency) {
+        String code = currency.getCurrencyCode();
+        Entry entry = entries.get(code);
+        if (entry == null) {
+            if (entries.size() >= MAX_CURRENCIES) {
+                return null;
+            }
+            entry = new Entry(currency);
+            Entry existing = entries.putIfAbsent(code, entry);
+            if (existing != null) {
+                entry = existing;
+            }
+        }
+        return entry.currency == currency ? entry : null;
+    }
+
+    /**
+     * Creates the amount to be cached.
+     *
+     * @param value    the integral value.
+     * @param currency the currency, not null.
+     * @return the new amount, not null.
+     */
+    protected abstract T create(long value, CurrencyUnit currency);
+
+    private static final class Entry {
+
+        private final CurrencyUnit currency;
+
+        private final Object[] amounts = new Object[(int) (HIGH - LOW + 1)];
+
+        private Entry(CurrencyUnit currency) {
+            this.currency = currency;
+        }
+    }
+
+}
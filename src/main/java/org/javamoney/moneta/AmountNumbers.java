@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2012, 2020, Anatole Tresch, Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta;
+
+import java.math.BigDecimal;
+
+import javax.money.MonetaryAmount;
+
+/**
+ * Type dispatch for the numeric values of amounts passed to the arithmetic and comparison methods of
+ * {@link Money}, {@link FastMoney} and {@link RoundedMoney}. The amount types of this package are accessed
+ * on their internal representation, only foreign amount types are evaluated using
+ * {@link MonetaryAmount#getNumber()}.
+ */
+final class AmountNumbers {
+
+    private AmountNumbers() {
+    }
+
+    /**
+     * Evaluates the numeric value of the given amount as {@link BigDecimal}, without creating a
+     * {@link javax.money.NumberValue} for the amount types of this package.
+     *
+     * @param amount the amount, not null.
+     * @return the numeric value, never null.
+     */
+    static BigDecimal getBigDecimal(MonetaryAmount amount) {
+        if (amount instanceof Money) {
+            return ((Money) amount).getBigDecimal();
+        }
+        if (amount instanceof FastMoney) {
+            return BigDecimal.valueOf(((FastMoney) amount).getRawValue(), FastMoney.SCALE);
+        }
+        if (amount instanceof RoundedMoney) {
+            return ((RoundedMoney) amount).getBigDecimal();
+        }
+        return amount.getNumber().numberValue(BigDecimal.class);
+    }
+
+    /**
+     * Evaluates the scale of the numeric value of the given amount.
+     *
+     * @param amount the amount, not null.
+     * @return the scale.
+     */
+    static int getScale(MonetaryAmount amount) {
+        if (amount instanceof Money) {
+            return ((Money) amount).getScale();
+        }
+        if (amount instanceof FastMoney) {
+            return FastMoney.SCALE;
+        }
+        if (amount instanceof RoundedMoney) {
+            return ((RoundedMoney) amount).getBigDecimal().scale();
+        }
+        return amount.getNumber().getScale();
+    }
+
+    /**
+     * Evaluates the precision of the numeric value of the given amount.
+     *
+     * @param amount the amount, not null.
+     * @return the precision.
+     */
+    static int getPrecision(MonetaryAmount amount) {
+        if (amount instanceof Money) {
+            return ((Money) amount).getPrecision();
+        }
+        if (amount instanceof RoundedMoney) {
+            return ((RoundedMoney) amount).getBigDecimal().precision();
+        }
+        return amount.getNumber().getPrecision();
+    }
+
+}
@@ -26,6 +26,7 @@ import javax.money.MonetaryContext;
 import javax.money.MonetaryContextBuilder;
 
 import org.javamoney.moneta.spi.MonetaryConfig;
+import org.javamoney.moneta.spi.MoneyUtils;
 
 /**
  * Evaluates the default {@link MonetaryContext} to be used for {@link Money}.
@@ -47,7 +48,18 @@ import org.javamoney.moneta.spi.MonetaryConfig;
  */
 class DefaultMonetaryContextFactory {
 
+    /**
+     * Evaluates the default {@link MonetaryContext} for {@link Money}. The instance returned is interned
+     * using {@link MoneyUtils#intern(MonetaryContext)}, so amounts created with an equal context share it
+     * and its numeric settings are looked up by identity.
+     *
+     * @return the default {@link MonetaryContext}, never null.
+     */
     public MonetaryContext getContext() {
+        return MoneyUtils.intern(evaluateContext());
+    }
+
+    private MonetaryContext evaluateContext() {
         try {
             Map<String, String> config = MonetaryConfig.getConfig();
             String value = config.get("org.javamoney.moneta.Money.defaults.precision");
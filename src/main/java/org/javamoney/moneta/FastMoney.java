@@ -34,7 +34,11 @@ import org.javamoney.moneta.spi.MoneyUtils;
 
 import java.io.Serializable;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -108,10 +112,54 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
      */
     private final long number;
 
+    /**
+     * The {@link NumberValue} view of this amount, created lazily on first access by {@link #getNumber()}.
+     * Concurrent first accesses may create equal instances more than once, which is harmless, since
+     * {@link DefaultNumberValue} is immutable.
+     */
+    private transient NumberValue numberValue;
+
     /**
      * The current scale represented by the number.
      */
-    private static final int SCALE = 5;
+    static final int SCALE = 5;
+
+    /**
+     * The powers of ten, which can be represented as {@code long}.
+     */
+    static final long[] POWERS_OF_TEN = {1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L,
+            100000000L, 1000000000L, 10000000000L, 100000000000L, 1000000000000L, 10000000000000L,
+            100000000000000L, 1000000000000000L, 10000000000000000L, 100000000000000000L,
+            1000000000000000000L};
+
+    private static final long INT_MASK = 0xFFFFFFFFL;
+
+    /**
+     * The largest magnitude of integral values, which can be represented, {@code Long.MAX_VALUE / 10^5}.
+     */
+    private static final long MAX_INTEGRAL_VALUE = Long.MAX_VALUE / POWERS_OF_TEN[SCALE];
+
+    /**
+     * The number of integral digits, which can always be represented.
+     */
+    private static final int MAX_INTEGRAL_DIGITS = 13;
+
+    /**
+     * The shared instances for zero and small integral values.
+     */
+    private static final AmountCache<FastMoney> CACHE = new AmountCache<FastMoney>() {
+        @Override
+        protected FastMoney create(long value, CurrencyUnit currency) {
+            return new FastMoney(value * POWERS_OF_TEN[SCALE], currency);
+        }
+    };
+
+    /**
+     * The {@link RoundingMode} applied by arithmetic operations without an explicit rounding mode. It can be
+     * configured using the {@code org.javamoney.moneta.FastMoney.defaults.roundingMode} property, by default
+     * {@link RoundingMode#HALF_EVEN} is used.
+     */
+    static final RoundingMode DEFAULT_ROUNDING_MODE = evaluateDefaultRoundingMode();
 
     /**
      * the {@link MonetaryContext} used by this instance, e.g. on division.
@@ -199,7 +247,50 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
         return MONETARY_CONTEXT;
     }
 
-    private long getInternalNumber(Number number, boolean allowInternalRounding) {
+    private static RoundingMode evaluateDefaultRoundingMode() {
+        String value = MonetaryConfig.getConfig().get("org.javamoney.moneta.FastMoney.defaults.roundingMode");
+        if (value != null) {
+            try {
+                return RoundingMode.valueOf(value.trim().toUpperCase(Locale.ENGLISH));
+            } catch (IllegalArgumentException e) {
+                LOG.warning("Invalid rounding mode configured for FastMoney: " + value + ", using HALF_EVEN.");
+            }
+        }
+        return RoundingMode.HALF_EVEN;
+    }
+
+    private static long getInternalNumber(Number number, boolean allowInternalRounding) {
+        if (isIntegral(number)) {
+            long value = number.longValue();
+            if (value < -MAX_INTEGRAL_VALUE) {
+                throw new ArithmeticException("Overflow: " + number + " < " + MIN_BD);
+            } else if (value > MAX_INTEGRAL_VALUE) {
+                throw new ArithmeticException("Overflow: " + number + " > " + MAX_BD);
+            }
+            return value * POWERS_OF_TEN[SCALE];
+        }
+        if (number.getClass() == BigDecimal.class) {
+            BigDecimal bd = (BigDecimal) number;
+            int scale = bd.scale();
+            // values of FastMoney's scale and range are converted without any intermediate BigDecimal
+            if (scale >= 0 && scale <= SCALE && bd.precision() <= MAX_INTEGRAL_DIGITS + scale) {
+                return bd.unscaledValue().longValue() * POWERS_OF_TEN[SCALE - scale];
+            }
+        } else if (number.getClass() == Double.class) {
+            double value = number.doubleValue();
+            int scale = MoneyUtils.getDecimalScale(value);
+            if (scale >= 0 && (scale <= SCALE || allowInternalRounding)) {
+                long unscaled = MoneyUtils.getUnscaledValue(value, scale);
+                if (scale > SCALE) {
+                    // truncates like BigDecimal.longValue() below
+                    return unscaled / POWERS_OF_TEN[scale - SCALE];
+                }
+                long factor = POWERS_OF_TEN[SCALE - scale];
+                if (Math.abs(unscaled) <= Long.MAX_VALUE / factor) {
+                    return unscaled * factor;
+                }
+            }
+        }
         BigDecimal bd = MoneyUtils.getBigDecimal(number);
         if (!allowInternalRounding && bd.scale() > SCALE) {
             throw new ArithmeticException(number + " can not be represented by this class, scale > " + SCALE);
@@ -213,6 +304,26 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
     }
 
 
+    /**
+     * Creates a new instance based on its internal representation, the numeric value multiplied by 10^5.
+     *
+     * @param rawValue the internal representation.
+     * @param currency the currency, not null.
+     * @return the corresponding instance.
+     */
+    public static FastMoney ofRaw(long rawValue, CurrencyUnit currency) {
+        return new FastMoney(rawValue, currency);
+    }
+
+    /**
+     * Access the internal representation, the numeric value multiplied by 10^5.
+     *
+     * @return the internal representation.
+     */
+    public long getRawValue() {
+        return number;
+    }
+
     /**
      * Static factory method for creating a new instance of {@link FastMoney}.
      *
@@ -221,7 +332,9 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
      * @return A new instance of {@link FastMoney}.
      */
     public static FastMoney of(NumberValue numberBinding, CurrencyUnit currency) {
-        return new FastMoney(numberBinding, currency, false);
+        Objects.requireNonNull(currency, "Currency is required.");
+        Objects.requireNonNull(numberBinding, "Number is required.");
+        return valueOf(getInternalNumber(numberBinding.numberValue(BigDecimal.class), false), currency);
     }
 
     /**
@@ -232,7 +345,9 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
      * @return A new instance of {@link FastMoney}.
      */
     public static FastMoney of(Number number, CurrencyUnit currency) {
-        return new FastMoney(number, currency, false);
+        Objects.requireNonNull(currency, "Currency is required.");
+        Objects.requireNonNull(number, "Number is required.");
+        return valueOf(getInternalNumber(number, false), currency);
     }
 
     /**
@@ -254,7 +369,7 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
      * @since 1.0.1
      */
     public static FastMoney zero(CurrencyUnit currency) {
-        return of(BigDecimal.ZERO, currency);
+        return valueOf(0L, currency);
     }
 
     /**
@@ -292,15 +407,37 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
     	return of(BigDecimal.valueOf(amountMinor, factionDigits), currency);
     }
 
+    /**
+     * Returns an instance for the given internal representation, sharing the instances for zero and small
+     * integral values.
+     *
+     * @param number   the numeric value multiplied by 10^5.
+     * @param currency the currency, not null.
+     * @return the instance.
+     */
+    private static FastMoney valueOf(long number, CurrencyUnit currency) {
+        Objects.requireNonNull(currency, "Currency is required.");
+        if (number % POWERS_OF_TEN[SCALE] == 0L) {
+            FastMoney cached = CACHE.get(number / POWERS_OF_TEN[SCALE], currency);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        return new FastMoney(number, currency);
+    }
+
     /*
      * @see java.lang.Comparable#compareTo(java.lang.Object)
      */
     @Override
     public int compareTo(MonetaryAmount o) {
         Objects.requireNonNull(o);
-        int compare = getCurrency().getCurrencyCode().compareTo(o.getCurrency().getCurrencyCode());
+        int compare = 0;
+        if (currency != o.getCurrency()) {
+            compare = getCurrency().getCurrencyCode().compareTo(o.getCurrency().getCurrencyCode());
+        }
         if (compare == 0) {
-            compare = getNumber().numberValue(BigDecimal.class).compareTo(o.getNumber().numberValue(BigDecimal.class));
+            compare = compareNumber(o);
         }
         return compare;
     }
@@ -355,10 +492,10 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
         if (amount.isZero()) {
             return this;
         }
-        return new FastMoney(addExact(this.number, getInternalNumber(amount.getNumber(), false)), getCurrency());
+        return new FastMoney(addExact(this.number, getInternalNumber(amount)), getCurrency());
     }
 
-    private long addExact(long num1, long num2) {
+    static long addExact(long num1, long num2) {
         if(num1==0){
             return num2;
         }
@@ -379,15 +516,64 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
 
     private void checkAmountParameter(MonetaryAmount amount) {
         MoneyUtils.checkAmountParameter(amount, this.currency);
+        if (amount instanceof FastMoney) {
+            // same scale and range by definition
+            return;
+        }
         // numeric check for overflow...
-        if (amount.getNumber().getScale() > SCALE) {
+        if (AmountNumbers.getScale(amount) > SCALE) {
             throw new ArithmeticException("Parameter exceeds maximal scale: " + SCALE);
         }
-        if (amount.getNumber().getPrecision() > MAX_BD.precision()) {
+        if (AmountNumbers.getPrecision(amount) > MAX_BD.precision()) {
             throw new ArithmeticException("Parameter exceeds maximal precision: " + SCALE);
         }
     }
 
+    /**
+     * Evaluates the internal representation of the numeric value of the given amount, which was checked
+     * by {@link #checkAmountParameter(MonetaryAmount)}. A compact {@link Money} is scaled directly on its
+     * unscaled {@code long} value.
+     *
+     * @param amount the amount, not null.
+     * @return the numeric value multiplied by {@code 10^SCALE}.
+     * @throws ArithmeticException if the value exceeds the range of this class.
+     */
+    private long getInternalNumber(MonetaryAmount amount) {
+        if (amount instanceof FastMoney) {
+            return ((FastMoney) amount).number;
+        }
+        if (amount instanceof Money && ((Money) amount).isCompact()) {
+            Money money = (Money) amount;
+            long digits = (long) SCALE - money.getScale();
+            long unscaled = money.getUnscaled();
+            if (digits < POWERS_OF_TEN.length && Math.abs(unscaled) <= Long.MAX_VALUE / POWERS_OF_TEN[(int) digits]) {
+                return unscaled * POWERS_OF_TEN[(int) digits];
+            }
+            throw new ArithmeticException("Overflow: " + money.getBigDecimal() + " exceeds " + MAX_BD);
+        }
+        return getInternalNumber(AmountNumbers.getBigDecimal(amount), false);
+    }
+
+    /**
+     * Compares the numeric value of this instance with the numeric value of the given amount. Another
+     * {@link FastMoney} is compared on its {@code long} representation, a compact {@link Money} on its
+     * unscaled value, all other amounts are evaluated using {@link AmountNumbers#getBigDecimal(MonetaryAmount)}.
+     *
+     * @param amount the amount to compare with, not null.
+     * @return a negative integer, zero, or a positive integer as this amount is less than, equal to,
+     * or greater than the given amount.
+     */
+    private int compareNumber(MonetaryAmount amount) {
+        if (amount instanceof FastMoney) {
+            return Long.compare(this.number, ((FastMoney) amount).number);
+        }
+        if (amount instanceof Money && ((Money) amount).isCompact()) {
+            Money money = (Money) amount;
+            return Money.compareCompact(this.number, SCALE, money.getUnscaled(), money.getScale());
+        }
+        return getBigDecimal().compareTo(AmountNumbers.getBigDecimal(amount));
+    }
+
 
     /*
          * (non-Javadoc)
@@ -395,14 +581,59 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
          */
     @Override
     public FastMoney divide(Number divisor) {
+        if (isInfinityAndNotNaN(divisor)) {
+            return new FastMoney(0L, getCurrency());
+        }
+        return divide(divisor, DEFAULT_ROUNDING_MODE);
+    }
+
+    /**
+     * Returns a {@code FastMoney} whose value is <code>this / divisor</code>, rounded using the given
+     * {@link RoundingMode} to the scale of this class. Integral divisors and decimal divisors with
+     * up to 18 digits are evaluated exactly on the internal {@code long} representation.
+     *
+     * @param divisor      value by which this {@code FastMoney} is to be divided, not null.
+     * @param roundingMode the rounding mode to apply, not null.
+     * @return {@code this / divisor}, rounded as necessary.
+     * @throws ArithmeticException if the divisor is zero, if the result exceeds the numeric capabilities
+     *                             of this class, or if {@link RoundingMode#UNNECESSARY} is given and
+     *                             rounding is required.
+     */
+    public FastMoney divide(Number divisor, RoundingMode roundingMode) {
+        Objects.requireNonNull(roundingMode, "RoundingMode is required.");
         if (isInfinityAndNotNaN(divisor)) {
             return new FastMoney(0L, getCurrency());
         }
         checkNumber(divisor);
+        if (isIntegral(divisor)) {
+            return divide(divisor.longValue(), roundingMode);
+        }
         if (isOne(divisor)) {
             return this;
         }
-        return new FastMoney(Math.round(this.number / divisor.doubleValue()), getCurrency());
+        return new FastMoney(divide(this.number, toBigDecimal(divisor), roundingMode), getCurrency());
+    }
+
+    /**
+     * Divides an internal value by a decimal divisor, rounding the quotient using the given
+     * {@link RoundingMode} to {@link #SCALE}. Divisors with up to 18 digits are evaluated exactly on
+     * {@code long} values.
+     *
+     * @param value        the internal value.
+     * @param divisor      the divisor, not null.
+     * @param roundingMode the rounding mode, not null.
+     * @return the internal value of the rounded quotient.
+     * @throws ArithmeticException if the divisor is zero or the quotient overflows.
+     */
+    static long divide(long value, BigDecimal divisor, RoundingMode roundingMode) {
+        int scale = divisor.scale();
+        if (scale >= 0 && scale < POWERS_OF_TEN.length && divisor.precision() < POWERS_OF_TEN.length) {
+            return multiplyDivide(value, POWERS_OF_TEN[scale], divisor.unscaledValue().longValue(), roundingMode);
+        }
+        if (divisor.signum() == 0) {
+            throw new ArithmeticException("Division by zero");
+        }
+        return toInternalNumber(BigDecimal.valueOf(value, SCALE).divide(divisor, SCALE, roundingMode));
     }
 
     /**
@@ -455,13 +686,52 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
 
     @Override
     public FastMoney multiply(Number multiplicand) {
+        return multiply(multiplicand, DEFAULT_ROUNDING_MODE);
+    }
+
+    /**
+     * Returns a {@code FastMoney} whose value is <code>this * multiplicand</code>, rounded using the given
+     * {@link RoundingMode} to the scale of this class. Integral multiplicands and decimal multiplicands
+     * with up to 18 digits are evaluated exactly on the internal {@code long} representation, so only
+     * results, which cannot be represented by this class, overflow.
+     *
+     * @param multiplicand value to be multiplied by this {@code FastMoney}, not null.
+     * @param roundingMode the rounding mode to apply, not null.
+     * @return {@code this * multiplicand}, rounded as necessary.
+     * @throws ArithmeticException if the result exceeds the numeric capabilities of this class, or if
+     *                             {@link RoundingMode#UNNECESSARY} is given and rounding is required.
+     */
+    public FastMoney multiply(Number multiplicand, RoundingMode roundingMode) {
+        Objects.requireNonNull(roundingMode, "RoundingMode is required.");
         checkNoInfinityOrNaN(multiplicand);
         checkNumber(multiplicand);
+        if (isIntegral(multiplicand)) {
+            return multiply(multiplicand.longValue());
+        }
         if (isOne(multiplicand)) {
             return this;
         }
-        return new FastMoney(multiplyExact(this.number, getInternalNumber(multiplicand, false)) / 100000L,
-                getCurrency());
+        return new FastMoney(multiply(this.number, toBigDecimal(multiplicand), roundingMode), getCurrency());
+    }
+
+    /**
+     * Multiplies an internal value by a decimal multiplicand, rounding the product using the given
+     * {@link RoundingMode} to {@link #SCALE}. Multiplicands with up to 18 digits are evaluated exactly on
+     * {@code long} values.
+     *
+     * @param value        the internal value.
+     * @param multiplicand the multiplicand, not null.
+     * @param roundingMode the rounding mode, not null.
+     * @return the internal value of the rounded product.
+     * @throws ArithmeticException if the product overflows.
+     */
+    static long multiply(long value, BigDecimal multiplicand, RoundingMode roundingMode) {
+        int scale = multiplicand.scale();
+        if (scale >= 0 && scale < POWERS_OF_TEN.length && multiplicand.precision() < POWERS_OF_TEN.length) {
+            return multiplyDivide(value, multiplicand.unscaledValue().longValue(), POWERS_OF_TEN[scale],
+                    roundingMode);
+        }
+        return toInternalNumber(BigDecimal.valueOf(value, SCALE).multiply(multiplicand).setScale(SCALE, roundingMode));
     }
 
     private static void checkNoInfinityOrNaN(Number number) {
@@ -475,7 +745,7 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
         }
     }
 
-    private long multiplyExact(long num1, long num2) {
+    static long multiplyExact(long num1, long num2) {
         if(num1==0 || num2==0){
             return 0;
         }
@@ -539,11 +809,10 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
         if (subtrahend.isZero()) {
             return this;
         }
-        return new FastMoney(subtractExact(this.number, getInternalNumber(subtrahend.getNumber(), false)),
-                getCurrency());
+        return new FastMoney(subtractExact(this.number, getInternalNumber(subtrahend)), getCurrency());
     }
 
-    private long subtractExact(long num1, long num2) {
+    static long subtractExact(long num1, long num2) {
         if(num2==0){
             return num1;
         }
@@ -572,6 +841,9 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
     }
 
     private boolean isOne(Number number) {
+        if (isIntegral(number)) {
+            return number.longValue() == 1L;
+        }
         BigDecimal bd = MoneyUtils.getBigDecimal(number);
         try {
             return bd.scale() == 0 && bd.longValueExact() == 1L;
@@ -675,7 +947,7 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
     @Override
     public boolean isLessThan(MonetaryAmount amount) {
         checkAmountParameter(amount);
-        return getBigDecimal().compareTo(amount.getNumber().numberValue(BigDecimal.class)) < 0;
+        return compareNumber(amount) < 0;
     }
 
     /*
@@ -694,7 +966,7 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
     @Override
     public boolean isLessThanOrEqualTo(MonetaryAmount amount) {
         checkAmountParameter(amount);
-        return getBigDecimal().compareTo(amount.getNumber().numberValue(BigDecimal.class)) <= 0;
+        return compareNumber(amount) <= 0;
     }
 
     /*
@@ -713,7 +985,7 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
     @Override
     public boolean isGreaterThan(MonetaryAmount amount) {
         checkAmountParameter(amount);
-        return getBigDecimal().compareTo(amount.getNumber().numberValue(BigDecimal.class)) > 0;
+        return compareNumber(amount) > 0;
     }
 
     /*
@@ -732,7 +1004,7 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
     @Override
     public boolean isGreaterThanOrEqualTo(MonetaryAmount amount) {
         checkAmountParameter(amount);
-        return getBigDecimal().compareTo(amount.getNumber().numberValue(BigDecimal.class)) >= 0;
+        return compareNumber(amount) >= 0;
     }
 
     /*
@@ -751,7 +1023,7 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
     @Override
     public boolean isEqualTo(MonetaryAmount amount) {
         checkAmountParameter(amount);
-        return getBigDecimal().compareTo(amount.getNumber().numberValue(BigDecimal.class)) == 0;
+        return compareNumber(amount) == 0;
     }
 
     /*
@@ -775,7 +1047,12 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
      */
     @Override
     public NumberValue getNumber() {
-        return new DefaultNumberValue(getBigDecimal());
+        NumberValue value = this.numberValue;
+        if (value == null) {
+            value = new DefaultNumberValue(getBigDecimal());
+            this.numberValue = value;
+        }
+        return value;
     }
 
     @Override
@@ -798,17 +1075,15 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
         if (number.longValue() > MAX_BD.longValue()) {
             throw new ArithmeticException("Value exceeds maximal value: " + MAX_BD);
         }
+        if (isIntegral(number)) {
+            return;
+        }
         BigDecimal bd = MoneyUtils.getBigDecimal(number);
         if (bd.precision() > MAX_BD.precision()) {
             throw new ArithmeticException("Precision exceeds maximal precision: " + MAX_BD.precision());
         }
         if (bd.scale() > SCALE) {
-            String val = MonetaryConfig.getConfig()
-                    .get("org.javamoney.moneta.FastMoney.enforceScaleCompatibility");
-            if(val==null){
-                val = "false";
-            }
-            if (Boolean.parseBoolean(val)) {
+            if (MonetaryConfig.getBoolean("org.javamoney.moneta.FastMoney.enforceScaleCompatibility", false)) {
                 throw new ArithmeticException("Scale of " + bd + " exceeds maximal scale: " + SCALE);
             } else {
                 if (LOG.isLoggable(Level.FINEST)) {
@@ -881,7 +1156,237 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
             .of(ToStringMonetaryAmountFormat.ToStringMonetaryAmountFormatStyle.FAST_MONEY);
 
     private BigDecimal getBigDecimal() {
-        return BigDecimal.valueOf(this.number).movePointLeft(SCALE);
+        return BigDecimal.valueOf(this.number, SCALE);
+    }
+
+    /**
+     * Checks if the given number is of one of the integral JDK types, which can be represented as
+     * {@code long} without loss.
+     *
+     * @param number the number, not null.
+     * @return true, if {@link Number#longValue()} is exact.
+     */
+    static boolean isIntegral(Number number) {
+        Class<?> type = number.getClass();
+        return type == Long.class || type == Integer.class || type == Short.class || type == Byte.class
+                || type == AtomicLong.class || type == AtomicInteger.class;
+    }
+
+    private static BigDecimal toBigDecimal(Number number) {
+        if (number.getClass() == BigDecimal.class) {
+            return (BigDecimal) number;
+        }
+        return MoneyUtils.getBigDecimal(number);
+    }
+
+    /**
+     * Converts an already scaled {@link BigDecimal} into the internal representation.
+     *
+     * @param scaled the value with a scale of at most {@link #SCALE}.
+     * @return the internal {@code long} representation.
+     * @throws ArithmeticException if the value exceeds the numeric capabilities of this class.
+     */
+    private static long toInternalNumber(BigDecimal scaled) {
+        if (scaled.compareTo(MIN_BD) < 0) {
+            throw new ArithmeticException("Overflow: " + scaled + " < " + MIN_BD);
+        } else if (scaled.compareTo(MAX_BD) > 0) {
+            throw new ArithmeticException("Overflow: " + scaled + " > " + MAX_BD);
+        }
+        return scaled.movePointRight(SCALE).longValue();
+    }
+
+    /**
+     * Divides two {@code long} values, rounding the quotient using the given {@link RoundingMode}.
+     *
+     * @param dividend     the dividend.
+     * @param divisor      the divisor.
+     * @param roundingMode the rounding mode, not null.
+     * @return the rounded quotient.
+     * @throws ArithmeticException if the divisor is zero or the quotient overflows.
+     */
+    static long divide(long dividend, long divisor, RoundingMode roundingMode) {
+        if (divisor == 0L) {
+            throw new ArithmeticException("Division by zero");
+        }
+        if (dividend == Long.MIN_VALUE && divisor == -1L) {
+            throw new ArithmeticException("Long evaluation positive overflow.");
+        }
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder == 0L) {
+            return quotient;
+        }
+        int signum = (dividend < 0) == (divisor < 0) ? 1 : -1;
+        // Math.abs(Long.MIN_VALUE) is Long.MIN_VALUE, which is 2^63 when interpreted as unsigned
+        if (roundUp(roundingMode, signum, quotient, Math.abs(remainder), Math.abs(divisor))) {
+            return quotient + signum;
+        }
+        return quotient;
+    }
+
+    /**
+     * Evaluates <code>value * multiplicand / divisor</code> exactly, using a 128 bit intermediate result, and
+     * rounds the quotient using the given {@link RoundingMode}.
+     *
+     * @param value        the value.
+     * @param multiplicand the multiplicand.
+     * @param divisor      the divisor.
+     * @param roundingMode the rounding mode, not null.
+     * @return the rounded result.
+     * @throws ArithmeticException if the divisor is zero or the result does not fit into a {@code long}.
+     */
+    private static long multiplyDivide(long value, long multiplicand, long divisor, RoundingMode roundingMode) {
+        if (divisor == 0L) {
+            throw new ArithmeticException("Division by zero");
+        }
+        if (value == 0L || multiplicand == 0L) {
+            return 0L;
+        }
+        int signum = ((value < 0) ^ (multiplicand < 0) ^ (divisor < 0)) ? -1 : 1;
+        // magnitudes are treated as unsigned, so Long.MIN_VALUE represents 2^63
+        long a = Math.abs(value);
+        long b = Math.abs(multiplicand);
+        long d = Math.abs(divisor);
+        long high = multiplyHighUnsigned(a, b);
+        long low = a * b;
+        if (compareUnsigned(high, d) >= 0) {
+            throw new ArithmeticException(signum > 0 ? "Long evaluation positive overflow."
+                    : "Long evaluation negative overflow.");
+        }
+        long quotient;
+        long remainder;
+        if (high == 0L && low >= 0L && d > 0L) {
+            quotient = low / d;
+            remainder = low % d;
+        } else {
+            long[] result = divideUnsigned128(high, low, d);
+            quotient = result[0];
+            remainder = result[1];
+        }
+        if (remainder != 0L && roundUp(roundingMode, signum, quotient, remainder, d)) {
+            quotient++;
+            if (quotient == 0L) {
+                throw new ArithmeticException(signum > 0 ? "Long evaluation positive overflow."
+                        : "Long evaluation negative overflow.");
+            }
+        }
+        if (signum > 0) {
+            if (quotient < 0L) {
+                throw new ArithmeticException("Long evaluation positive overflow.");
+            }
+            return quotient;
+        }
+        if (quotient < 0L && quotient != Long.MIN_VALUE) {
+            throw new ArithmeticException("Long evaluation negative overflow.");
+        }
+        return -quotient;
+    }
+
+    /**
+     * Evaluates if the magnitude of a truncated quotient must be incremented.
+     *
+     * @param roundingMode the rounding mode, not null.
+     * @param signum       the signum of the exact result.
+     * @param quotient     the truncated quotient (only its lowest bit is evaluated).
+     * @param remainder    the non zero remainder magnitude, unsigned.
+     * @param divisor      the divisor magnitude, unsigned.
+     * @return true, if the magnitude must be incremented by one.
+     */
+    static boolean roundUp(RoundingMode roundingMode, int signum, long quotient, long remainder,
+                           long divisor) {
+        switch (roundingMode) {
+            case UP:
+                return true;
+            case DOWN:
+                return false;
+            case CEILING:
+                return signum > 0;
+            case FLOOR:
+                return signum < 0;
+            case HALF_UP:
+                return compareUnsigned(remainder, divisor - remainder) >= 0;
+            case HALF_DOWN:
+                return compareUnsigned(remainder, divisor - remainder) > 0;
+            case HALF_EVEN:
+                int half = compareUnsigned(remainder, divisor - remainder);
+                return half > 0 || (half == 0 && (quotient & 1L) != 0L);
+            case UNNECESSARY:
+            default:
+                throw new ArithmeticException("Rounding necessary");
+        }
+    }
+
+    static int compareUnsigned(long a, long b) {
+        return Long.compare(a ^ Long.MIN_VALUE, b ^ Long.MIN_VALUE);
+    }
+
+    /**
+     * Evaluates the upper 64 bits of the unsigned 128 bit product of two unsigned 64 bit values.
+     */
+    static long multiplyHighUnsigned(long a, long b) {
+        long a0 = a & INT_MASK;
+        long a1 = a >>> 32;
+        long b0 = b & INT_MASK;
+        long b1 = b >>> 32;
+        long t = a1 * b0 + ((a0 * b0) >>> 32);
+        long w1 = (t & INT_MASK) + a0 * b1;
+        return a1 * b1 + (t >>> 32) + (w1 >>> 32);
+    }
+
+    /**
+     * Divides the unsigned 128 bit value {@code high:low} by the unsigned 64 bit divisor, based on the
+     * {@code divlu} algorithm of Hacker's Delight (2nd edition, 9-4), using 32 bit digits. The caller must
+     * ensure {@code high < divisor}, so the quotient fits into 64 bits.
+     *
+     * @return the unsigned quotient and remainder.
+     */
+    static long[] divideUnsigned128(long high, long low, long divisor) {
+        int shift = Long.numberOfLeadingZeros(divisor);
+        long v = divisor << shift;
+        long vn1 = v >>> 32;
+        long vn0 = v & INT_MASK;
+        long un32 = shift == 0 ? high : (high << shift) | (low >>> (64 - shift));
+        long un10 = low << shift;
+        long un1 = un10 >>> 32;
+        long un0 = un10 & INT_MASK;
+
+        long q1 = divideUnsignedByDigit(un32, vn1);
+        long rhat = un32 - q1 * vn1;
+        while (q1 > INT_MASK || compareUnsigned(q1 * vn0, (rhat << 32) | un1) > 0) {
+            q1--;
+            rhat += vn1;
+            if (rhat > INT_MASK) {
+                break;
+            }
+        }
+        long un21 = (un32 << 32) + un1 - q1 * v;
+
+        long q0 = divideUnsignedByDigit(un21, vn1);
+        rhat = un21 - q0 * vn1;
+        while (q0 > INT_MASK || compareUnsigned(q0 * vn0, (rhat << 32) | un0) > 0) {
+            q0--;
+            rhat += vn1;
+            if (rhat > INT_MASK) {
+                break;
+            }
+        }
+        long remainder = ((un21 << 32) + un0 - q0 * v) >>> shift;
+        return new long[]{(q1 << 32) + q0, remainder};
+    }
+
+    /**
+     * Divides an unsigned 64 bit value by a positive divisor below 2^32.
+     */
+    private static long divideUnsignedByDigit(long dividend, long divisor) {
+        if (dividend >= 0L) {
+            return dividend / divisor;
+        }
+        long quotient = ((dividend >>> 1) / divisor) << 1;
+        long remainder = dividend - quotient * divisor;
+        if (compareUnsigned(remainder, divisor) >= 0) {
+            quotient++;
+        }
+        return quotient;
     }
 
     @Override
@@ -898,10 +1403,25 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
 
     @Override
     public FastMoney divide(long divisor) {
+        return divide(divisor, DEFAULT_ROUNDING_MODE);
+    }
+
+    /**
+     * Returns a {@code FastMoney} whose value is <code>this / divisor</code>, rounded using the given
+     * {@link RoundingMode} to the scale of this class.
+     *
+     * @param divisor      value by which this {@code FastMoney} is to be divided.
+     * @param roundingMode the rounding mode to apply, not null.
+     * @return {@code this / divisor}, rounded as necessary.
+     * @throws ArithmeticException if the divisor is zero, or if {@link RoundingMode#UNNECESSARY} is given and
+     *                             rounding is required.
+     */
+    public FastMoney divide(long divisor, RoundingMode roundingMode) {
+        Objects.requireNonNull(roundingMode, "RoundingMode is required.");
         if (divisor == 1L) {
             return this;
         }
-        return new FastMoney(this.number / divisor, this.currency);
+        return new FastMoney(divide(this.number, divisor, roundingMode), this.currency);
     }
 
     @Override
@@ -925,7 +1445,7 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
         if (NumberVerifier.isInfinityAndNotNaN(divisor)) {
             return new FastMoney(0L, getCurrency());
         }
-        return remainder(new BigDecimal(String.valueOf(divisor)));
+        return remainder(MoneyUtils.getBigDecimal(divisor));
     }
 
     @Override
@@ -941,7 +1461,7 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
         } else if (Double.isNaN(divisor)) {
             throw new ArithmeticException("Not a number: NaN.");
         }
-        return divideAndRemainder(new BigDecimal(String.valueOf(divisor)));
+        return divideAndRemainder(MoneyUtils.getBigDecimal(divisor));
     }
 
     @Override
@@ -984,4 +1504,13 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
         return new FastMoneyAmountFactory().setAmount(this);
     }
 
+    /**
+     * Serializes this instance using the compact form defined by {@link Ser}.
+     *
+     * @return the instance to be serialized.
+     */
+    private Object writeReplace() {
+        return new Ser(this);
+    }
+
 }
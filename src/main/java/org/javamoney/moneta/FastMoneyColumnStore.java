@@ -0,0 +1,581 @@
+/*
+  Copyright (c) 2012, 2020, Anatole Tresch, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.MonetaryAmount;
+
+/**
+ * Read-only store of {@link FastMoney} amounts backed by a {@link ByteBuffer}, typically a
+ * {@link java.nio.MappedByteBuffer} of a file written by {@link Writer}. Each amount is stored as the
+ * internal {@code long} representation of {@link FastMoney} plus a dictionary encoded currency id, so
+ * amounts can be read and aggregated without creating any objects. {@link FastMoney} instances are only
+ * created on explicit access, e.g. by {@link #get(int)}.
+ *
+ * The format is little endian and laid out as follows:
+ * <pre>
+ * int      magic ('FMCS')
+ * int      version
+ * record*  long raw value, short currency id
+ * int      number of currencies
+ * entry*   short length, currency code (UTF-8)
+ * long     number of records
+ * long     offset of the currency dictionary
+ * int      magic ('FMCS')
+ * </pre>
+ *
+ * Since a {@link ByteBuffer} is limited to {@link Integer#MAX_VALUE} bytes, a single store holds up to
+ * about 200 million amounts. Larger ledgers must be split into several files.
+ *
+ * Instances of this class are immutable and thread-safe, {@link Cursor} instances are not.
+ *
+ * @since 1.4.2
+ */
+public final class FastMoneyColumnStore implements Iterable<FastMoney> {
+
+    private static final int MAGIC = 0x46_4D_43_53;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+    private static final int FOOTER_SIZE = 20;
+    private static final int RECORD_SIZE = 10;
+    private static final int MAX_CURRENCIES = 0xFFFF;
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    /**
+     * The underlying buffer, with position 0 at the start of the store.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * The number of records.
+     */
+    private final int size;
+
+    /**
+     * The currencies, indexed by currency id.
+     */
+    private final CurrencyUnit[] currencies;
+
+    private FastMoneyColumnStore(ByteBuffer buffer, int size, CurrencyUnit[] currencies) {
+        this.buffer = buffer;
+        this.size = size;
+        this.currencies = currencies;
+    }
+
+    /**
+     * Opens a store from the given buffer, starting at its current position and ending at its limit. The
+     * buffer's position, limit and byte order are not changed.
+     *
+     * @param buffer the buffer, not null.
+     * @return the store.
+     * @throws IllegalArgumentException if the buffer does not contain a valid store.
+     */
+    public static FastMoneyColumnStore of(ByteBuffer buffer) {
+        ByteBuffer data = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+        int length = data.remaining();
+        if (length < HEADER_SIZE + FOOTER_SIZE || data.getInt(0) != MAGIC || data.getInt(length - 4) != MAGIC) {
+            throw new IllegalArgumentException("Not a FastMoney column store.");
+        }
+        if (data.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Unsupported FastMoney column store version: " + data.getInt(4));
+        }
+        long count = data.getLong(length - FOOTER_SIZE);
+        long dictionaryOffset = data.getLong(length - FOOTER_SIZE + 8);
+        if (count < 0 || dictionaryOffset != HEADER_SIZE + count * RECORD_SIZE
+                || dictionaryOffset > length - FOOTER_SIZE - 4) {
+            throw new IllegalArgumentException("Corrupt FastMoney column store.");
+        }
+        data.position((int) dictionaryOffset);
+        int currencyCount = data.getInt();
+        if (currencyCount < 0 || currencyCount > MAX_CURRENCIES) {
+            throw new IllegalArgumentException("Corrupt FastMoney column store.");
+        }
+        CurrencyUnit[] currencies = new CurrencyUnit[currencyCount];
+        for (int i = 0; i < currencyCount; i++) {
+            byte[] code = new byte[data.getShort() & 0xFFFF];
+            data.get(code);
+            currencies[i] = Monetary.getCurrency(new String(code, UTF_8));
+        }
+        data.clear();
+        return new FastMoneyColumnStore(data, (int) count, currencies);
+    }
+
+    /**
+     * Maps the given file read-only into memory and opens the store contained.
+     *
+     * @param file the file, not null.
+     * @return the store.
+     * @throws IOException              if the file cannot be read or mapped.
+     * @throws IllegalArgumentException if the file does not contain a valid store.
+     */
+    public static FastMoneyColumnStore map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return map(channel);
+        }
+    }
+
+    /**
+     * Maps the whole content of the given channel read-only into memory and opens the store contained. The
+     * mapping stays valid after the channel has been closed.
+     *
+     * @param channel the channel, not null.
+     * @return the store.
+     * @throws IOException              if the channel cannot be mapped.
+     * @throws IllegalArgumentException if the channel does not contain a valid store.
+     */
+    public static FastMoneyColumnStore map(FileChannel channel) throws IOException {
+        long length = channel.size();
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("FastMoney column store too large to be mapped: " + length);
+        }
+        return of(channel.map(FileChannel.MapMode.READ_ONLY, 0, length));
+    }
+
+    /**
+     * Creates a new writer, writing a store to the given channel.
+     *
+     * @param channel the target channel, not null. The channel is closed, when the writer is closed.
+     * @return the writer.
+     */
+    public static Writer writer(WritableByteChannel channel) {
+        return new Writer(channel);
+    }
+
+    /**
+     * Creates a new writer, writing a store to the given file, replacing any existing content.
+     *
+     * @param file the target file, not null.
+     * @return the writer.
+     * @throws IOException if the file cannot be opened.
+     */
+    public static Writer writer(Path file) throws IOException {
+        return new Writer(FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING));
+    }
+
+    /**
+     * Access the number of amounts stored.
+     *
+     * @return the number of amounts.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Access the currencies used in this store, the index in the list being the currency id.
+     *
+     * @return the currencies, never null.
+     */
+    public List<CurrencyUnit> getCurrencies() {
+        return Collections.unmodifiableList(Arrays.asList(currencies));
+    }
+
+    /**
+     * Access the internal {@link FastMoney} representation of the amount at the given index.
+     *
+     * @param index the index.
+     * @return the numeric value multiplied by 10^5.
+     * @throws IndexOutOfBoundsException if the index is invalid.
+     */
+    public long getRawValue(int index) {
+        return buffer.getLong(offset(index));
+    }
+
+    /**
+     * Access the currency id of the amount at the given index.
+     *
+     * @param index the index.
+     * @return the currency id, an index into {@link #getCurrencies()}.
+     * @throws IndexOutOfBoundsException if the index is invalid.
+     */
+    public int getCurrencyId(int index) {
+        return buffer.getShort(offset(index) + 8) & 0xFFFF;
+    }
+
+    /**
+     * Access the currency of the amount at the given index.
+     *
+     * @param index the index.
+     * @return the currency, never null.
+     * @throws IndexOutOfBoundsException if the index is invalid.
+     */
+    public CurrencyUnit getCurrency(int index) {
+        return currencies[getCurrencyId(index)];
+    }
+
+    /**
+     * Access the amount at the given index.
+     *
+     * @param index the index.
+     * @return a new {@link FastMoney} instance.
+     * @throws IndexOutOfBoundsException if the index is invalid.
+     */
+    public FastMoney get(int index) {
+        int offset = offset(index);
+        return FastMoney.ofRaw(buffer.getLong(offset), currencies[buffer.getShort(offset + 8) & 0xFFFF]);
+    }
+
+    private int offset(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+        return HEADER_SIZE + index * RECORD_SIZE;
+    }
+
+    /**
+     * Creates a new cursor for sequential access, positioned before the first amount.
+     *
+     * @return a new cursor.
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    @Override
+    public Iterator<FastMoney> iterator() {
+        return new Iterator<FastMoney>() {
+            private final Cursor cursor = cursor();
+
+            @Override
+            public boolean hasNext() {
+                return cursor.hasNext();
+            }
+
+            @Override
+            public FastMoney next() {
+                if (!cursor.next()) {
+                    throw new NoSuchElementException();
+                }
+                return cursor.get();
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException("remove");
+            }
+        };
+    }
+
+    /**
+     * Evaluates the sum of all amounts per currency.
+     *
+     * @return the sums, keyed by currency in currency id order, never null.
+     * @throws ArithmeticException if a sum exceeds the capabilities of {@link FastMoney}.
+     */
+    public Map<CurrencyUnit, FastMoney> sumByCurrency() {
+        long[] sums = new long[currencies.length];
+        boolean[] present = new boolean[currencies.length];
+        for (int i = 0, offset = HEADER_SIZE; i < size; i++, offset += RECORD_SIZE) {
+            int id = buffer.getShort(offset + 8) & 0xFFFF;
+            sums[id] = FastMoney.addExact(sums[id], buffer.getLong(offset));
+            present[id] = true;
+        }
+        return toMap(sums, present);
+    }
+
+    /**
+     * Evaluates the smallest amount per currency.
+     *
+     * @return the smallest amounts, keyed by currency in currency id order, never null.
+     */
+    public Map<CurrencyUnit, FastMoney> minByCurrency() {
+        long[] mins = new long[currencies.length];
+        Arrays.fill(mins, Long.MAX_VALUE);
+        boolean[] present = new boolean[currencies.length];
+        for (int i = 0, offset = HEADER_SIZE; i < size; i++, offset += RECORD_SIZE) {
+            int id = buffer.getShort(offset + 8) & 0xFFFF;
+            mins[id] = Math.min(mins[id], buffer.getLong(offset));
+            present[id] = true;
+        }
+        return toMap(mins, present);
+    }
+
+    /**
+     * Evaluates the largest amount per currency.
+     *
+     * @return the largest amounts, keyed by currency in currency id order, never null.
+     */
+    public Map<CurrencyUnit, FastMoney> maxByCurrency() {
+        long[] maxs = new long[currencies.length];
+        Arrays.fill(maxs, Long.MIN_VALUE);
+        boolean[] present = new boolean[currencies.length];
+        for (int i = 0, offset = HEADER_SIZE; i < size; i++, offset += RECORD_SIZE) {
+            int id = buffer.getShort(offset + 8) & 0xFFFF;
+            maxs[id] = Math.max(maxs[id], buffer.getLong(offset));
+            present[id] = true;
+        }
+        return toMap(maxs, present);
+    }
+
+    private Map<CurrencyUnit, FastMoney> toMap(long[] values, boolean[] present) {
+        Map<CurrencyUnit, FastMoney> result = new LinkedHashMap<>();
+        for (int id = 0; id < values.length; id++) {
+            if (present[id]) {
+                result.put(currencies[id], FastMoney.ofRaw(values[id], currencies[id]));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Sequential, allocation free access to the amounts of a {@link FastMoneyColumnStore}.
+     */
+    public final class Cursor {
+
+        private int index = -1;
+        private int offset = HEADER_SIZE - RECORD_SIZE;
+
+        private Cursor() {
+        }
+
+        /**
+         * Checks if there is a further amount.
+         *
+         * @return true, if {@link #next()} will succeed.
+         */
+        public boolean hasNext() {
+            return index + 1 < size;
+        }
+
+        /**
+         * Moves this cursor to the next amount.
+         *
+         * @return true, if the cursor is positioned on an amount, false if the end of the store has been
+         * reached.
+         */
+        public boolean next() {
+            if (index + 1 >= size) {
+                index = size;
+                return false;
+            }
+            index++;
+            offset += RECORD_SIZE;
+            return true;
+        }
+
+        /**
+         * Access the index of the current amount.
+         *
+         * @return the index.
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * Access the internal {@link FastMoney} representation of the current amount.
+         *
+         * @return the numeric value multiplied by 10^5.
+         */
+        public long getRawValue() {
+            checkPositioned();
+            return buffer.getLong(offset);
+        }
+
+        /**
+         * Access the currency id of the current amount.
+         *
+         * @return the currency id, an index into {@link FastMoneyColumnStore#getCurrencies()}.
+         */
+        public int getCurrencyId() {
+            checkPositioned();
+            return buffer.getShort(offset + 8) & 0xFFFF;
+        }
+
+        /**
+         * Access the currency of the current amount.
+         *
+         * @return the currency, never null.
+         */
+        public CurrencyUnit getCurrency() {
+            return currencies[getCurrencyId()];
+        }
+
+        /**
+         * Creates a {@link FastMoney} for the current amount.
+         *
+         * @return a new {@link FastMoney} instance.
+         */
+        public FastMoney get() {
+            return FastMoney.ofRaw(getRawValue(), getCurrency());
+        }
+
+        private void checkPositioned() {
+            if (index < 0 || index >= size) {
+                throw new NoSuchElementException("Cursor is not positioned on an amount.");
+            }
+        }
+    }
+
+    /**
+     * Writer creating a {@link FastMoneyColumnStore}. Amounts are buffered and streamed to the target
+     * channel, the currency dictionary is written on {@link #close()}.
+     *
+     * Instances of this class are not thread-safe.
+     */
+    public static final class Writer implements Closeable {
+
+        private static final int BUFFER_SIZE = 64 * 1024;
+
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        private final Map<String, Integer> currencyIds = new HashMap<>();
+        private final List<String> currencyCodes = new ArrayList<>();
+        private long count;
+        private boolean closed;
+
+        private Writer(WritableByteChannel channel) {
+            this.channel = Objects.requireNonNull(channel, "Channel required.");
+            buffer.putInt(MAGIC);
+            buffer.putInt(VERSION);
+        }
+
+        /**
+         * Appends an amount.
+         *
+         * @param amount the amount, convertible to {@link FastMoney}, not null.
+         * @return this writer.
+         * @throws IOException         if writing fails.
+         * @throws ArithmeticException if the amount exceeds the capabilities of {@link FastMoney}.
+         */
+        public Writer write(MonetaryAmount amount) throws IOException {
+            Objects.requireNonNull(amount, "Amount must not be null.");
+            return writeRaw(FastMoney.from(amount).getRawValue(), amount.getCurrency());
+        }
+
+        /**
+         * Appends an amount given by its internal {@link FastMoney} representation.
+         *
+         * @param rawValue the numeric value multiplied by 10^5.
+         * @param currency the currency, not null.
+         * @return this writer.
+         * @throws IOException if writing fails.
+         */
+        public Writer writeRaw(long rawValue, CurrencyUnit currency) throws IOException {
+            checkOpen();
+            if (count * RECORD_SIZE + HEADER_SIZE + RECORD_SIZE > Integer.MAX_VALUE - FOOTER_SIZE) {
+                throw new IllegalStateException("FastMoney column store is full.");
+            }
+            int id = currencyId(currency);
+            if (buffer.remaining() < RECORD_SIZE) {
+                flush();
+            }
+            buffer.putLong(rawValue);
+            buffer.putShort((short) id);
+            count++;
+            return this;
+        }
+
+        private int currencyId(CurrencyUnit currency) {
+            String code = currency.getCurrencyCode();
+            Integer id = currencyIds.get(code);
+            if (id == null) {
+                if (currencyCodes.size() == MAX_CURRENCIES) {
+                    throw new IllegalStateException("Too many currencies, maximum is " + MAX_CURRENCIES);
+                }
+                id = currencyCodes.size();
+                currencyIds.put(code, id);
+                currencyCodes.add(code);
+            }
+            return id;
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private void put(byte[] bytes) throws IOException {
+            int offset = 0;
+            while (offset < bytes.length) {
+                if (!buffer.hasRemaining()) {
+                    flush();
+                }
+                int length = Math.min(buffer.remaining(), bytes.length - offset);
+                buffer.put(bytes, offset, length);
+                offset += length;
+            }
+        }
+
+        private void ensureRemaining(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        private void checkOpen() {
+            if (closed) {
+                throw new IllegalStateException("Writer is closed.");
+            }
+        }
+
+        /**
+         * Writes the currency dictionary and the footer and closes the underlying channel.
+         *
+         * @throws IOException if writing fails.
+         */
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                ensureRemaining(4);
+                buffer.putInt(currencyCodes.size());
+                for (String code : currencyCodes) {
+                    byte[] bytes = code.getBytes(UTF_8);
+                    ensureRemaining(2);
+                    buffer.putShort((short) bytes.length);
+                    put(bytes);
+                }
+                ensureRemaining(FOOTER_SIZE);
+                buffer.putLong(count);
+                buffer.putLong(HEADER_SIZE + count * RECORD_SIZE);
+                buffer.putInt(MAGIC);
+                flush();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2012, 2020, Anatole Tresch, Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+/**
+ * Arithmetic on the raw values of {@link FastMoney}, the numeric value multiplied by
+ * {@code 10^}{@value #SCALE}, without creating any objects. This is intended for hot loops, which keep
+ * their amounts as {@code long} values and convert them using {@link FastMoney#ofRaw(long, javax.money.CurrencyUnit)}
+ * and {@link FastMoney#getRawValue()} only at their boundaries.
+ * <p>
+ * All operations share their implementation with {@link FastMoney}, so their results are identical to the
+ * raw value of the corresponding {@link FastMoney} operation, including the detection of overflows,
+ * which are reported as {@link ArithmeticException}. Other than {@link FastMoney}, decimal operands are
+ * not restricted to the precision and scale of {@link FastMoney}.
+ *
+ * @since 1.4.2
+ */
+public final class FastMoneyMath {
+
+    /**
+     * The scale of the raw values.
+     */
+    public static final int SCALE = FastMoney.SCALE;
+
+    private static final BigDecimal ONE_HUNDRED = new BigDecimal(100, MathContext.DECIMAL64);
+
+    private FastMoneyMath() {
+    }
+
+    /**
+     * Adds two raw values, as {@link FastMoney#add(javax.money.MonetaryAmount)}.
+     *
+     * @param value  the raw value.
+     * @param augend the raw value to add.
+     * @return the raw sum.
+     * @throws ArithmeticException if the sum overflows.
+     */
+    public static long add(long value, long augend) {
+        return FastMoney.addExact(value, augend);
+    }
+
+    /**
+     * Subtracts two raw values, as {@link FastMoney#subtract(javax.money.MonetaryAmount)}.
+     *
+     * @param value      the raw value.
+     * @param subtrahend the raw value to subtract.
+     * @return the raw difference.
+     * @throws ArithmeticException if the difference overflows.
+     */
+    public static long subtract(long value, long subtrahend) {
+        return FastMoney.subtractExact(value, subtrahend);
+    }
+
+    /**
+     * Negates a raw value, as {@link FastMoney#negate()}.
+     *
+     * @param value the raw value.
+     * @return the negated raw value.
+     * @throws ArithmeticException if the value is {@link Long#MIN_VALUE}.
+     */
+    public static long negate(long value) {
+        return FastMoney.multiplyExact(value, -1L);
+    }
+
+    /**
+     * Multiplies a raw value by an integral factor, as {@link FastMoney#multiply(long)}.
+     *
+     * @param value        the raw value.
+     * @param multiplicand the factor.
+     * @return the raw product.
+     * @throws ArithmeticException if the product overflows.
+     */
+    public static long multiply(long value, long multiplicand) {
+        if (multiplicand == 1L) {
+            return value;
+        }
+        return FastMoney.multiplyExact(multiplicand, value);
+    }
+
+    /**
+     * Multiplies a raw value by a rate, as {@link FastMoney#multiply(Number, RoundingMode)}. Rates with up to
+     * 18 digits are evaluated exactly on {@code long} values.
+     *
+     * @param value        the raw value.
+     * @param rate         the rate, not null.
+     * @param roundingMode the rounding mode applied to the product, not null.
+     * @return the rounded raw product.
+     * @throws ArithmeticException if the product overflows, or if {@link RoundingMode#UNNECESSARY} is given
+     *                             and rounding is required.
+     */
+    public static long multiply(long value, BigDecimal rate, RoundingMode roundingMode) {
+        Objects.requireNonNull(rate, "Rate is required.");
+        Objects.requireNonNull(roundingMode, "RoundingMode is required.");
+        return FastMoney.multiply(value, rate, roundingMode);
+    }
+
+    /**
+     * Divides a raw value by an integral divisor, as {@link FastMoney#divide(long, RoundingMode)}.
+     *
+     * @param value        the raw value.
+     * @param divisor      the divisor.
+     * @param roundingMode the rounding mode applied to the quotient, not null.
+     * @return the rounded raw quotient.
+     * @throws ArithmeticException if the divisor is zero, the quotient overflows, or if
+     *                             {@link RoundingMode#UNNECESSARY} is given and rounding is required.
+     */
+    public static long divide(long value, long divisor, RoundingMode roundingMode) {
+        Objects.requireNonNull(roundingMode, "RoundingMode is required.");
+        return FastMoney.divide(value, divisor, roundingMode);
+    }
+
+    /**
+     * Divides a raw value by a decimal divisor, as {@link FastMoney#divide(Number, RoundingMode)}.
+     *
+     * @param value        the raw value.
+     * @param divisor      the divisor, not null.
+     * @param roundingMode the rounding mode applied to the quotient, not null.
+     * @return the rounded raw quotient.
+     * @throws ArithmeticException if the divisor is zero, the quotient overflows, or if
+     *                             {@link RoundingMode#UNNECESSARY} is given and rounding is required.
+     */
+    public static long divide(long value, BigDecimal divisor, RoundingMode roundingMode) {
+        Objects.requireNonNull(divisor, "Divisor is required.");
+        Objects.requireNonNull(roundingMode, "RoundingMode is required.");
+        return FastMoney.divide(value, divisor, roundingMode);
+    }
+
+    /**
+     * Evaluates the given percentage of a raw value, as
+     * {@link org.javamoney.moneta.function.MonetaryOperators#percent(Number)} applied to a {@link FastMoney},
+     * rounding with {@link FastMoney}'s default {@link RoundingMode}.
+     *
+     * @param value   the raw value.
+     * @param percent the percentage, e.g. {@code 10} for 10%, not null.
+     * @return the rounded raw percentage.
+     * @throws ArithmeticException if the result overflows.
+     */
+    public static long percent(long value, BigDecimal percent) {
+        return percent(value, percent, FastMoney.DEFAULT_ROUNDING_MODE);
+    }
+
+    /**
+     * Evaluates the given percentage of a raw value.
+     *
+     * @param value        the raw value.
+     * @param percent      the percentage, e.g. {@code 10} for 10%, not null.
+     * @param roundingMode the rounding mode applied to the result, not null.
+     * @return the rounded raw percentage.
+     * @throws ArithmeticException if the result overflows, or if {@link RoundingMode#UNNECESSARY} is given
+     *                             and rounding is required.
+     */
+    public static long percent(long value, BigDecimal percent, RoundingMode roundingMode) {
+        Objects.requireNonNull(percent, "Percent is required.");
+        return multiply(value, percent.divide(ONE_HUNDRED, MathContext.DECIMAL64), roundingMode);
+    }
+
+    /**
+     * Rounds a raw value to the given number of fraction digits.
+     *
+     * @param value        the raw value.
+     * @param scale        the number of fraction digits, values {@code >= SCALE} leave the value unchanged.
+     * @param roundingMode the rounding mode, not null.
+     * @return the rounded raw value.
+     * @throws IllegalArgumentException if {@code scale} is negative.
+     * @throws ArithmeticException      if the result overflows, or if {@link RoundingMode#UNNECESSARY} is
+     *                                  given and rounding is required.
+     */
+    public static long round(long value, int scale, RoundingMode roundingMode) {
+        Objects.requireNonNull(roundingMode, "RoundingMode is required.");
+        if (scale < 0) {
+            throw new IllegalArgumentException("scale < 0");
+        }
+        if (scale >= SCALE) {
+            return value;
+        }
+        long factor = FastMoney.POWERS_OF_TEN[SCALE - scale];
+        return FastMoney.multiplyExact(FastMoney.divide(value, factor, roundingMode), factor);
+    }
+
+    /**
+     * Rounds a raw value for cash payments, as the cash rounding provided by
+     * {@link javax.money.Monetary#getRounding(javax.money.RoundingQuery)}: the value is rounded to the given
+     * number of fraction digits, and then to a multiple of the given minimal minor units, e.g. {@code 5} for
+     * CHF.
+     *
+     * @param value         the raw value.
+     * @param scale         the number of fraction digits, at most {@link #SCALE}.
+     * @param minimalMinors the minimal minor units, {@code > 0}.
+     * @param roundingMode  the rounding mode, not null.
+     * @return the rounded raw value.
+     * @throws IllegalArgumentException if {@code scale} or {@code minimalMinors} is invalid.
+     * @throws ArithmeticException      if the result overflows.
+     */
+    public static long roundToCash(long value, int scale, int minimalMinors, RoundingMode roundingMode) {
+        Objects.requireNonNull(roundingMode, "RoundingMode is required.");
+        if (scale < 0 || scale > SCALE) {
+            throw new IllegalArgumentException("scale must be in [0, " + SCALE + "]: " + scale);
+        }
+        if (minimalMinors <= 0) {
+            throw new IllegalArgumentException("minimalMinors must be positive: " + minimalMinors);
+        }
+        long factor = FastMoney.POWERS_OF_TEN[SCALE - scale];
+        long minors = FastMoney.divide(value, factor, roundingMode);
+        // same evaluation as DefaultCashRounding
+        long low = minimalMinors * (minors / minimalMinors);
+        long high = low + minimalMinors;
+        if (minors - low > high - minors) {
+            minors = high;
+        } else if (minors - low < high - minors) {
+            minors = low;
+        } else {
+            switch (roundingMode) {
+                case HALF_UP:
+                case UP:
+                case HALF_EVEN:
+                    minors = high;
+                    break;
+                default:
+                    minors = low;
+            }
+        }
+        return FastMoney.multiplyExact(minors, factor);
+    }
+
+    /**
+     * Converts an amount in minor units to a raw value, as
+     * {@link FastMoney#ofMinor(javax.money.CurrencyUnit, long, int)}.
+     *
+     * @param amountMinor    the amount in minor units.
+     * @param fractionDigits the number of fraction digits of the minor units.
+     * @return the raw value.
+     * @throws IllegalArgumentException if {@code fractionDigits} is negative.
+     * @throws ArithmeticException      if the amount can not be represented as raw value.
+     */
+    public static long ofMinor(long amountMinor, int fractionDigits) {
+        if (fractionDigits < 0) {
+            throw new IllegalArgumentException("The factionDigits cannot be negative");
+        }
+        if (fractionDigits <= SCALE) {
+            return FastMoney.multiplyExact(amountMinor, FastMoney.POWERS_OF_TEN[SCALE - fractionDigits]);
+        }
+        int digits = fractionDigits - SCALE;
+        if (digits < FastMoney.POWERS_OF_TEN.length && amountMinor % FastMoney.POWERS_OF_TEN[digits] == 0L) {
+            return amountMinor / FastMoney.POWERS_OF_TEN[digits];
+        }
+        if (amountMinor == 0L) {
+            return 0L;
+        }
+        throw new ArithmeticException(BigDecimal.valueOf(amountMinor, fractionDigits)
+                + " can not be represented by FastMoney, scale > " + SCALE);
+    }
+
+    /**
+     * Converts a raw value to minor units.
+     *
+     * @param value          the raw value.
+     * @param fractionDigits the number of fraction digits of the minor units, at most {@link #SCALE}.
+     * @param roundingMode   the rounding mode, not null.
+     * @return the amount in minor units.
+     * @throws IllegalArgumentException if {@code fractionDigits} is invalid.
+     * @throws ArithmeticException      if {@link RoundingMode#UNNECESSARY} is given and rounding is required.
+     */
+    public static long toMinor(long value, int fractionDigits, RoundingMode roundingMode) {
+        Objects.requireNonNull(roundingMode, "RoundingMode is required.");
+        if (fractionDigits < 0 || fractionDigits > SCALE) {
+            throw new IllegalArgumentException("fractionDigits must be in [0, " + SCALE + "]: " + fractionDigits);
+        }
+        return FastMoney.divide(value, FastMoney.POWERS_OF_TEN[SCALE - fractionDigits], roundingMode);
+    }
+
+    /**
+     * Converts a raw value to a {@link BigDecimal}.
+     *
+     * @param value the raw value.
+     * @return the numeric value, with scale {@link #SCALE}.
+     */
+    public static BigDecimal toBigDecimal(long value) {
+        return BigDecimal.valueOf(value, SCALE);
+    }
+
+}
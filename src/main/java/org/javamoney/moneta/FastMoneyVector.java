@@ -0,0 +1,524 @@
+/*
+  Copyright (c) 2012, 2020, Anatole Tresch, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta;
+
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryAmount;
+import javax.money.MonetaryException;
+
+import org.javamoney.moneta.spi.MoneyUtils;
+
+/**
+ * Columnar container of {@link FastMoney} values sharing the same {@link CurrencyUnit}. Instead of one
+ * object per amount only the internal {@code long} representation of each amount is stored, which
+ * reduces the memory footprint considerably and allows bulk operations to run as plain loops over
+ * a primitive array. {@link FastMoney} instances are only created on access, e.g. by {@link #get(int)}.
+ *
+ * All arithmetic operations are evaluated with the same semantics as the corresponding operations on
+ * {@link FastMoney}, but modify this vector in place and return it, so calls can be chained. If an
+ * operation overflows, an {@link ArithmeticException} is thrown and the vector is left unchanged.
+ *
+ * As opposed to {@link FastMoney} this class is mutable and not thread-safe.
+ *
+ * @since 1.4.2
+ */
+public final class FastMoneyVector implements Iterable<FastMoney> {
+
+    /**
+     * The currency of all amounts.
+     */
+    private final CurrencyUnit currency;
+
+    /**
+     * The internal representations of the amounts, see {@link FastMoney#getRawValue()}.
+     */
+    private final long[] values;
+
+    private FastMoneyVector(CurrencyUnit currency, long[] values) {
+        this.currency = Objects.requireNonNull(currency, "Currency is required.");
+        this.values = values;
+    }
+
+    /**
+     * Creates a new vector with the given size, all amounts being zero.
+     *
+     * @param currency the currency, not null.
+     * @param size     the number of amounts.
+     * @return a new vector.
+     */
+    public static FastMoneyVector of(CurrencyUnit currency, int size) {
+        return new FastMoneyVector(currency, new long[size]);
+    }
+
+    /**
+     * Creates a new vector containing the given amounts.
+     *
+     * @param currency the currency, not null.
+     * @param amounts  the amounts, all of the given currency and convertible to {@link FastMoney}.
+     * @return a new vector.
+     * @throws MonetaryException   if an amount has another currency.
+     * @throws ArithmeticException if an amount exceeds the capabilities of {@link FastMoney}.
+     */
+    public static FastMoneyVector of(CurrencyUnit currency, MonetaryAmount... amounts) {
+        FastMoneyVector vector = of(currency, amounts.length);
+        for (int i = 0; i < amounts.length; i++) {
+            vector.set(i, amounts[i]);
+        }
+        return vector;
+    }
+
+    /**
+     * Creates a new vector containing the given amounts.
+     *
+     * @param currency the currency, not null.
+     * @param amounts  the amounts, all of the given currency and convertible to {@link FastMoney}.
+     * @return a new vector.
+     * @throws MonetaryException   if an amount has another currency.
+     * @throws ArithmeticException if an amount exceeds the capabilities of {@link FastMoney}.
+     */
+    public static FastMoneyVector of(CurrencyUnit currency, Iterable<? extends MonetaryAmount> amounts) {
+        long[] values = new long[16];
+        int size = 0;
+        for (MonetaryAmount amount : amounts) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = toRawValue(amount, currency);
+        }
+        return new FastMoneyVector(currency, Arrays.copyOf(values, size));
+    }
+
+    /**
+     * Access the currency of all amounts in this vector.
+     *
+     * @return the currency, never null.
+     */
+    public CurrencyUnit getCurrency() {
+        return currency;
+    }
+
+    /**
+     * Access the number of amounts in this vector.
+     *
+     * @return the number of amounts.
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Access the amount at the given index.
+     *
+     * @param index the index.
+     * @return a new {@link FastMoney} with the value at the given index.
+     * @throws IndexOutOfBoundsException if the index is invalid.
+     */
+    public FastMoney get(int index) {
+        return FastMoney.ofRaw(values[index], currency);
+    }
+
+    /**
+     * Sets the amount at the given index.
+     *
+     * @param index  the index.
+     * @param amount the amount, of the same currency and convertible to {@link FastMoney}.
+     * @return this vector.
+     * @throws IndexOutOfBoundsException if the index is invalid.
+     * @throws MonetaryException         if the amount has another currency.
+     * @throws ArithmeticException       if the amount exceeds the capabilities of {@link FastMoney}.
+     */
+    public FastMoneyVector set(int index, MonetaryAmount amount) {
+        values[index] = toRawValue(amount, currency);
+        return this;
+    }
+
+    /**
+     * Adds the given amount to all amounts of this vector.
+     *
+     * @param amount the amount to add, of the same currency and convertible to {@link FastMoney}.
+     * @return this vector.
+     * @throws ArithmeticException if a result exceeds the capabilities of {@link FastMoney}.
+     */
+    public FastMoneyVector add(MonetaryAmount amount) {
+        long value = toRawValue(amount, currency);
+        if (value == 0L || values.length == 0) {
+            return this;
+        }
+        // only the extreme value can overflow
+        FastMoney.addExact(value > 0L ? rawMax() : rawMin(), value);
+        for (int i = 0; i < values.length; i++) {
+            values[i] += value;
+        }
+        return this;
+    }
+
+    /**
+     * Adds the amounts of the given vector to the amounts at the same index in this vector.
+     *
+     * @param vector the vector to add, of the same currency and size.
+     * @return this vector.
+     * @throws MonetaryException   if the vector has another currency or size.
+     * @throws ArithmeticException if a result exceeds the capabilities of {@link FastMoney}.
+     */
+    public FastMoneyVector add(FastMoneyVector vector) {
+        long[] other = checkVector(vector);
+        if (other == values) {
+            return multiply(2L);
+        }
+        long overflow = 0L;
+        for (int i = 0; i < values.length; i++) {
+            long a = values[i];
+            long b = other[i];
+            long result = a + b;
+            overflow |= (a ^ result) & (b ^ result);
+            values[i] = result;
+        }
+        if (overflow < 0L) {
+            // undo, wrapped additions are exactly reverted by wrapped subtractions
+            for (int i = 0; i < values.length; i++) {
+                values[i] -= other[i];
+            }
+            throw new ArithmeticException("Long evaluation overflow.");
+        }
+        return this;
+    }
+
+    /**
+     * Subtracts the given amount from all amounts of this vector.
+     *
+     * @param amount the amount to subtract, of the same currency and convertible to {@link FastMoney}.
+     * @return this vector.
+     * @throws ArithmeticException if a result exceeds the capabilities of {@link FastMoney}.
+     */
+    public FastMoneyVector subtract(MonetaryAmount amount) {
+        long value = toRawValue(amount, currency);
+        if (value == 0L || values.length == 0) {
+            return this;
+        }
+        // only the extreme value can overflow
+        FastMoney.subtractExact(value > 0L ? rawMin() : rawMax(), value);
+        for (int i = 0; i < values.length; i++) {
+            values[i] -= value;
+        }
+        return this;
+    }
+
+    /**
+     * Subtracts the amounts of the given vector from the amounts at the same index in this vector.
+     *
+     * @param vector the vector to subtract, of the same currency and size.
+     * @return this vector.
+     * @throws MonetaryException   if the vector has another currency or size.
+     * @throws ArithmeticException if a result exceeds the capabilities of {@link FastMoney}.
+     */
+    public FastMoneyVector subtract(FastMoneyVector vector) {
+        long[] other = checkVector(vector);
+        if (other == values) {
+            Arrays.fill(values, 0L);
+            return this;
+        }
+        long overflow = 0L;
+        for (int i = 0; i < values.length; i++) {
+            long a = values[i];
+            long b = other[i];
+            long result = a - b;
+            overflow |= (a ^ b) & (a ^ result);
+            values[i] = result;
+        }
+        if (overflow < 0L) {
+            // undo, wrapped subtractions are exactly reverted by wrapped additions
+            for (int i = 0; i < values.length; i++) {
+                values[i] += other[i];
+            }
+            throw new ArithmeticException("Long evaluation overflow.");
+        }
+        return this;
+    }
+
+    /**
+     * Multiplies all amounts of this vector, see {@link FastMoney#multiply(long)}.
+     *
+     * @param multiplicand the multiplicand.
+     * @return this vector.
+     * @throws ArithmeticException if a result exceeds the capabilities of {@link FastMoney}.
+     */
+    public FastMoneyVector multiply(long multiplicand) {
+        if (multiplicand == 1L || values.length == 0) {
+            return this;
+        }
+        // the extreme values have the largest magnitudes
+        FastMoney.multiplyExact(rawMin(), multiplicand);
+        FastMoney.multiplyExact(rawMax(), multiplicand);
+        for (int i = 0; i < values.length; i++) {
+            values[i] *= multiplicand;
+        }
+        return this;
+    }
+
+    /**
+     * Multiplies all amounts of this vector, see {@link FastMoney#multiply(double)}.
+     *
+     * @param multiplicand the multiplicand.
+     * @return this vector.
+     * @throws ArithmeticException if the multiplicand is infinite or NaN.
+     */
+    public FastMoneyVector multiply(double multiplicand) {
+        NumberVerifier.checkNoInfinityOrNaN(multiplicand);
+        if (multiplicand == 1.0) {
+            return this;
+        }
+        if (multiplicand == 0.0) {
+            Arrays.fill(values, 0L);
+            return this;
+        }
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.round(values[i] * multiplicand);
+        }
+        return this;
+    }
+
+    /**
+     * Negates all amounts of this vector.
+     *
+     * @return this vector.
+     * @throws ArithmeticException if a result exceeds the capabilities of {@link FastMoney}.
+     */
+    public FastMoneyVector negate() {
+        if (values.length == 0) {
+            return this;
+        }
+        FastMoney.multiplyExact(rawMin(), -1L);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = -values[i];
+        }
+        return this;
+    }
+
+    /**
+     * Rounds all amounts of this vector to the default fraction digits of the currency.
+     *
+     * @param roundingMode the rounding mode, not null.
+     * @return this vector.
+     * @throws ArithmeticException if a result exceeds the capabilities of {@link FastMoney}.
+     * @see CurrencyUnit#getDefaultFractionDigits()
+     */
+    public FastMoneyVector round(RoundingMode roundingMode) {
+        int scale = currency.getDefaultFractionDigits();
+        if (scale < 0) {
+            return this;
+        }
+        return round(scale, roundingMode);
+    }
+
+    /**
+     * Rounds all amounts of this vector to the given scale.
+     *
+     * @param scale        the target scale, at least {@code -13}. Scales larger than the scale of
+     *                     {@link FastMoney} have no effect.
+     * @param roundingMode the rounding mode, not null.
+     * @return this vector.
+     * @throws IllegalArgumentException if the scale is less than {@code -13}.
+     * @throws ArithmeticException      if a result exceeds the capabilities of {@link FastMoney}.
+     */
+    public FastMoneyVector round(int scale, RoundingMode roundingMode) {
+        Objects.requireNonNull(roundingMode, "RoundingMode is required.");
+        if (scale >= FastMoney.SCALE || values.length == 0) {
+            return this;
+        }
+        int digits = FastMoney.SCALE - scale;
+        if (digits >= FastMoney.POWERS_OF_TEN.length) {
+            throw new IllegalArgumentException("Scale must not be less than "
+                    + (FastMoney.SCALE - FastMoney.POWERS_OF_TEN.length + 1) + ": " + scale);
+        }
+        long factor = FastMoney.POWERS_OF_TEN[digits];
+        // rounding is monotonic, so only the extreme values can overflow
+        round(rawMin(), factor, roundingMode);
+        round(rawMax(), factor, roundingMode);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = FastMoney.divide(values[i], factor, roundingMode) * factor;
+        }
+        return this;
+    }
+
+    private static long round(long value, long factor, RoundingMode roundingMode) {
+        return FastMoney.multiplyExact(FastMoney.divide(value, factor, roundingMode), factor);
+    }
+
+    /**
+     * Evaluates the sum of all amounts.
+     *
+     * @return the sum, zero if this vector is empty.
+     * @throws ArithmeticException if the sum, or an intermediate sum, exceeds the capabilities of
+     *                             {@link FastMoney}.
+     */
+    public FastMoney sum() {
+        long sum = 0L;
+        long overflow = 0L;
+        for (long value : values) {
+            long result = sum + value;
+            overflow |= (sum ^ result) & (value ^ result);
+            sum = result;
+        }
+        if (overflow < 0L) {
+            throw new ArithmeticException("Long evaluation overflow.");
+        }
+        return FastMoney.ofRaw(sum, currency);
+    }
+
+    /**
+     * Evaluates the smallest amount.
+     *
+     * @return the smallest amount.
+     * @throws NoSuchElementException if this vector is empty.
+     */
+    public FastMoney min() {
+        checkNotEmpty();
+        return FastMoney.ofRaw(rawMin(), currency);
+    }
+
+    /**
+     * Evaluates the largest amount.
+     *
+     * @return the largest amount.
+     * @throws NoSuchElementException if this vector is empty.
+     */
+    public FastMoney max() {
+        checkNotEmpty();
+        return FastMoney.ofRaw(rawMax(), currency);
+    }
+
+    /**
+     * Creates an independent copy of this vector.
+     *
+     * @return a new vector with the same currency and amounts.
+     */
+    public FastMoneyVector copy() {
+        return new FastMoneyVector(currency, values.clone());
+    }
+
+    /**
+     * Creates an array containing all amounts of this vector.
+     *
+     * @return a new array, never null.
+     */
+    public FastMoney[] toArray() {
+        FastMoney[] amounts = new FastMoney[values.length];
+        for (int i = 0; i < values.length; i++) {
+            amounts[i] = FastMoney.ofRaw(values[i], currency);
+        }
+        return amounts;
+    }
+
+    @Override
+    public Iterator<FastMoney> iterator() {
+        return new Iterator<FastMoney>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < values.length;
+            }
+
+            @Override
+            public FastMoney next() {
+                if (index >= values.length) {
+                    throw new NoSuchElementException();
+                }
+                return get(index++);
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException("remove");
+            }
+        };
+    }
+
+    private long rawMin() {
+        long min = Long.MAX_VALUE;
+        for (long value : values) {
+            min = Math.min(min, value);
+        }
+        return min;
+    }
+
+    private long rawMax() {
+        long max = Long.MIN_VALUE;
+        for (long value : values) {
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+
+    private void checkNotEmpty() {
+        if (values.length == 0) {
+            throw new NoSuchElementException("FastMoneyVector is empty.");
+        }
+    }
+
+    private long[] checkVector(FastMoneyVector vector) {
+        Objects.requireNonNull(vector, "Vector must not be null.");
+        if (!currency.getCurrencyCode().equals(vector.currency.getCurrencyCode())) {
+            throw new MonetaryException("Currency mismatch: " + currency + '/' + vector.currency);
+        }
+        if (values.length != vector.values.length) {
+            throw new MonetaryException("Size mismatch: " + values.length + '/' + vector.values.length);
+        }
+        return vector.values;
+    }
+
+    private static long toRawValue(MonetaryAmount amount, CurrencyUnit currency) {
+        MoneyUtils.checkAmountParameter(amount, currency);
+        return FastMoney.from(amount).getRawValue();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof FastMoneyVector) {
+            FastMoneyVector other = (FastMoneyVector) obj;
+            return currency.equals(other.currency) && Arrays.equals(values, other.values);
+        }
+        return false;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(currency, Arrays.hashCode(values));
+    }
+
+    @Override
+    public String toString() {
+        return "FastMoneyVector[currency=" + currency + ", size=" + values.length + ']';
+    }
+
+}
@@ -0,0 +1,466 @@
+/*
+ * Copyright (c) 2012, 2020, Anatole Tresch, Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.MonetaryAmount;
+import javax.money.MonetaryContext;
+import javax.money.MonetaryOperator;
+
+/**
+ * Binary codec for batches of {@link MonetaryAmount} instances, reading and writing {@link ByteBuffer}s
+ * directly, e.g. for transferring amounts between services or storing them in files. Each batch starts
+ * with a dictionary of the currencies used, followed by the amounts:
+ * <pre>
+ * int      magic ('MACB')
+ * byte     version
+ * short    number of currencies
+ * entry*   short length, currency code (UTF-8)
+ * int      number of amounts
+ * record*  byte type, short currency id, value
+ * </pre>
+ * {@link FastMoney} values are written as fixed 8 byte slots containing their internal {@code long}
+ * representation. {@link Money}, {@link RoundedMoney} and all other amounts are written as decimals: an
+ * {@code int} scale, followed by a {@code short} length and the unscaled value as two's complement big
+ * endian bytes, as defined by {@link BigInteger#toByteArray()}. All other values are little endian.
+ * {@link RoundedMoney} instances with deferred rounding are written with their unrounded value and a
+ * distinct type, so they are decoded with deferred rounding again.
+ * <p>
+ * {@link MonetaryContext}s and roundings are not written. Decoded {@link Money} and {@link RoundedMoney}
+ * instances use the context, respectively rounding, this codec was created with. Other amount types are
+ * decoded as {@link Money}.
+ * <p>
+ * Instances of this class are immutable and thread-safe.
+ *
+ * @since 1.4.2
+ */
+public final class MonetaryAmountCodec {
+
+    private static final int MAGIC = 0x4D_41_43_42;
+    private static final byte VERSION = 1;
+    private static final byte FAST_MONEY = 1;
+    private static final byte MONEY = 2;
+    private static final byte ROUNDED_MONEY = 3;
+    private static final byte DEFERRED_ROUNDED_MONEY = 4;
+    private static final int MAX_CURRENCIES = 0xFFFF;
+    private static final int MAX_NUMBER_LENGTH = 0xFFFF;
+    private static final int RECORD_HEADER_SIZE = 3;
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static final MonetaryAmountCodec DEFAULT = new MonetaryAmountCodec(Money.DEFAULT_MONETARY_CONTEXT,
+            null);
+
+    /**
+     * The context of decoded {@link Money} instances.
+     */
+    private final MonetaryContext moneyContext;
+
+    /**
+     * The rounding of decoded {@link RoundedMoney} instances, or null for the default rounding.
+     */
+    private final MonetaryOperator rounding;
+
+    private MonetaryAmountCodec(MonetaryContext moneyContext, MonetaryOperator rounding) {
+        this.moneyContext = moneyContext;
+        this.rounding = rounding;
+    }
+
+    /**
+     * Access the codec decoding {@link Money} with {@link Money#DEFAULT_MONETARY_CONTEXT} and
+     * {@link RoundedMoney} with the default rounding.
+     *
+     * @return the default codec.
+     */
+    public static MonetaryAmountCodec of() {
+        return DEFAULT;
+    }
+
+    /**
+     * Creates a codec using the given context and rounding for decoded amounts.
+     *
+     * @param moneyContext the context of decoded {@link Money} instances, not null.
+     * @param rounding     the rounding of decoded {@link RoundedMoney} instances, or null for the default
+     *                     rounding.
+     * @return the codec.
+     */
+    public static MonetaryAmountCodec of(MonetaryContext moneyContext, MonetaryOperator rounding) {
+        return new MonetaryAmountCodec(Objects.requireNonNull(moneyContext, "MonetaryContext required."),
+                rounding);
+    }
+
+    /**
+     * Evaluates the number of bytes required for encoding the given amounts as one batch.
+     *
+     * @param amounts the amounts, not null.
+     * @return the encoded size in bytes.
+     */
+    public int getEncodedSize(Collection<? extends MonetaryAmount> amounts) {
+        return new Batch(amounts).size;
+    }
+
+    /**
+     * Encodes the given amounts as one batch into a new heap buffer.
+     *
+     * @param amounts the amounts, not null.
+     * @return the buffer, ready to be read.
+     */
+    public ByteBuffer encode(Collection<? extends MonetaryAmount> amounts) {
+        Batch batch = new Batch(amounts);
+        ByteBuffer buffer = ByteBuffer.allocate(batch.size);
+        batch.write(buffer);
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Encodes the given amounts as one batch into the given buffer, starting at its current position, which
+     * is advanced by the encoded size. The buffer's byte order is not changed.
+     *
+     * @param amounts the amounts, not null.
+     * @param target  the target buffer, not null.
+     * @throws BufferOverflowException if the remaining space of the buffer is not sufficient, in which case
+     *                                 nothing is written.
+     */
+    public void encode(Collection<? extends MonetaryAmount> amounts, ByteBuffer target) {
+        Batch batch = new Batch(amounts);
+        if (target.remaining() < batch.size) {
+            throw new BufferOverflowException();
+        }
+        batch.write(target.slice());
+        target.position(target.position() + batch.size);
+    }
+
+    /**
+     * Encodes the given amounts as one batch and writes it to the given channel.
+     *
+     * @param amounts the amounts, not null.
+     * @param channel the channel, not null.
+     * @throws IOException if writing fails.
+     */
+    public void write(Collection<? extends MonetaryAmount> amounts, WritableByteChannel channel)
+            throws IOException {
+        ByteBuffer buffer = encode(amounts);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Evaluates the number of amounts of the batch starting at the buffer's current position, without
+     * decoding them. The buffer's position is not changed.
+     *
+     * @param source the buffer, not null.
+     * @return the number of amounts.
+     * @throws IllegalArgumentException if the buffer does not contain a valid batch.
+     */
+    public int getCount(ByteBuffer source) {
+        ByteBuffer data = source.slice().order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            readCurrencies(data, false);
+            return readCount(data);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated monetary amount batch.", e);
+        }
+    }
+
+    /**
+     * Decodes the batch starting at the buffer's current position, which is advanced to the end of the
+     * batch.
+     *
+     * @param source the buffer, not null.
+     * @return the amounts decoded.
+     * @throws IllegalArgumentException if the buffer does not contain a valid batch.
+     */
+    public MonetaryAmount[] decode(ByteBuffer source) {
+        MonetaryAmount[] amounts = new MonetaryAmount[getCount(source)];
+        decode(source, amounts, 0);
+        return amounts;
+    }
+
+    /**
+     * Decodes the batch starting at the buffer's current position into the given array, starting at the
+     * given offset. The buffer's position is advanced to the end of the batch.
+     *
+     * @param source the buffer, not null.
+     * @param target the target array, not null.
+     * @param offset the index of the first amount in the target array.
+     * @return the number of amounts decoded.
+     * @throws IllegalArgumentException  if the buffer does not contain a valid batch.
+     * @throws IndexOutOfBoundsException if the target array is too small, in which case nothing is decoded.
+     */
+    public int decode(ByteBuffer source, MonetaryAmount[] target, int offset) {
+        ByteBuffer data = source.slice().order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            CurrencyUnit[] currencies = readCurrencies(data, true);
+            int count = readCount(data);
+            if (offset < 0 || offset > target.length - count) {
+                throw new IndexOutOfBoundsException("Offset: " + offset + ", count: " + count + ", length: "
+                        + target.length);
+            }
+            for (int i = 0; i < count; i++) {
+                target[offset + i] = readAmount(data, currencies);
+            }
+            source.position(source.position() + data.position());
+            return count;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated monetary amount batch.", e);
+        }
+    }
+
+    /**
+     * Maps the given file read-only into memory and decodes all batches contained.
+     *
+     * @param file the file, not null.
+     * @return the amounts of all batches, in order.
+     * @throws IOException              if the file can not be read.
+     * @throws IllegalArgumentException if the file does not contain valid batches.
+     */
+    public List<MonetaryAmount> read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return read(channel);
+        }
+    }
+
+    /**
+     * Maps the given channel read-only into memory and decodes all batches contained.
+     *
+     * @param channel the channel, not null.
+     * @return the amounts of all batches, in order.
+     * @throws IOException              if the channel can not be mapped.
+     * @throws IllegalArgumentException if the channel does not contain valid batches.
+     */
+    public List<MonetaryAmount> read(FileChannel channel) throws IOException {
+        long length = channel.size();
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("File too large to be mapped: " + length);
+        }
+        ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+        List<MonetaryAmount> amounts = new ArrayList<>();
+        while (buffer.hasRemaining()) {
+            amounts.addAll(Arrays.asList(decode(buffer)));
+        }
+        return amounts;
+    }
+
+    private static CurrencyUnit[] readCurrencies(ByteBuffer data, boolean resolve) {
+        if (data.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a monetary amount batch.");
+        }
+        byte version = data.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported monetary amount batch version: " + version);
+        }
+        int currencyCount = data.getShort() & 0xFFFF;
+        CurrencyUnit[] currencies = new CurrencyUnit[currencyCount];
+        for (int i = 0; i < currencyCount; i++) {
+            int length = data.getShort() & 0xFFFF;
+            if (resolve) {
+                byte[] code = new byte[length];
+                data.get(code);
+                currencies[i] = Monetary.getCurrency(new String(code, UTF_8));
+            } else {
+                data.position(data.position() + length);
+            }
+        }
+        return currencies;
+    }
+
+    private static int readCount(ByteBuffer data) {
+        int count = data.getInt();
+        // each amount takes at least its record header, rejecting counts before arrays are allocated for them
+        if (count < 0 || count > data.remaining() / RECORD_HEADER_SIZE) {
+            throw new IllegalArgumentException("Corrupt monetary amount batch.");
+        }
+        return count;
+    }
+
+    private MonetaryAmount readAmount(ByteBuffer data, CurrencyUnit[] currencies) {
+        byte type = data.get();
+        int currencyId = data.getShort() & 0xFFFF;
+        if (currencyId >= currencies.length) {
+            throw new IllegalArgumentException("Corrupt monetary amount batch, invalid currency: " + currencyId);
+        }
+        CurrencyUnit currency = currencies[currencyId];
+        switch (type) {
+            case FAST_MONEY:
+                return FastMoney.ofRaw(data.getLong(), currency);
+            case MONEY:
+                return Money.of(readNumber(data), currency, moneyContext);
+            case ROUNDED_MONEY:
+                return readRoundedMoney(data, currency);
+            case DEFERRED_ROUNDED_MONEY:
+                return readRoundedMoney(data, currency).withDeferredRounding(true);
+            default:
+                throw new IllegalArgumentException("Corrupt monetary amount batch, invalid type: " + type);
+        }
+    }
+
+    private RoundedMoney readRoundedMoney(ByteBuffer data, CurrencyUnit currency) {
+        BigDecimal number = readNumber(data);
+        return rounding == null ? RoundedMoney.of(number, currency) : RoundedMoney.of(number, currency, rounding);
+    }
+
+    private static BigDecimal readNumber(ByteBuffer data) {
+        int scale = data.getInt();
+        int length = data.getShort() & 0xFFFF;
+        if (length == 0) {
+            throw new IllegalArgumentException("Corrupt monetary amount batch, invalid number length.");
+        }
+        if (length <= 8) {
+            long unscaled = data.get();
+            for (int i = 1; i < length; i++) {
+                unscaled = (unscaled << 8) | (data.get() & 0xFFL);
+            }
+            return BigDecimal.valueOf(unscaled, scale);
+        }
+        byte[] bytes = new byte[length];
+        data.get(bytes);
+        return new BigDecimal(new BigInteger(bytes), scale);
+    }
+
+    /**
+     * The evaluated layout of a batch to be written.
+     */
+    private static final class Batch {
+
+        private final MonetaryAmount[] amounts;
+        private final BigDecimal[] numbers;
+        private final int[] currencyIds;
+        private final Map<String, Integer> currencyCodes = new LinkedHashMap<>();
+        private final int size;
+
+        Batch(Collection<? extends MonetaryAmount> amounts) {
+            this.amounts = amounts.toArray(new MonetaryAmount[amounts.size()]);
+            this.numbers = new BigDecimal[this.amounts.length];
+            this.currencyIds = new int[this.amounts.length];
+            long total = 4 + 1 + 2 + 4;
+            for (int i = 0; i < this.amounts.length; i++) {
+                MonetaryAmount amount = Objects.requireNonNull(this.amounts[i], "Amount is required.");
+                String code = amount.getCurrency().getCurrencyCode();
+                Integer id = currencyCodes.get(code);
+                if (id == null) {
+                    if (currencyCodes.size() == MAX_CURRENCIES) {
+                        throw new IllegalArgumentException("A batch supports up to " + MAX_CURRENCIES
+                                + " currencies.");
+                    }
+                    id = currencyCodes.size();
+                    currencyCodes.put(code, id);
+                    total += 2 + code.getBytes(UTF_8).length;
+                }
+                currencyIds[i] = id;
+                total += RECORD_HEADER_SIZE;
+                if (amount instanceof FastMoney) {
+                    total += 8;
+                } else {
+                    BigDecimal number;
+                    if (amount instanceof Money) {
+                        number = ((Money) amount).getBigDecimal();
+                    } else if (isDeferred(amount)) {
+                        number = ((RoundedMoney) amount).getUnroundedNumber();
+                    } else {
+                        number = amount.getNumber().numberValue(BigDecimal.class);
+                    }
+                    numbers[i] = number;
+                    total += 4 + 2 + getNumberLength(number);
+                }
+            }
+            if (total > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Batch too large: " + total + " bytes.");
+            }
+            this.size = (int) total;
+        }
+
+        void write(ByteBuffer buffer) {
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC);
+            buffer.put(VERSION);
+            buffer.putShort((short) currencyCodes.size());
+            for (String code : currencyCodes.keySet()) {
+                byte[] bytes = code.getBytes(UTF_8);
+                buffer.putShort((short) bytes.length);
+                buffer.put(bytes);
+            }
+            buffer.putInt(amounts.length);
+            for (int i = 0; i < amounts.length; i++) {
+                MonetaryAmount amount = amounts[i];
+                if (amount instanceof FastMoney) {
+                    buffer.put(FAST_MONEY);
+                    buffer.putShort((short) currencyIds[i]);
+                    buffer.putLong(((FastMoney) amount).getRawValue());
+                } else {
+                    if (amount instanceof RoundedMoney) {
+                        buffer.put(isDeferred(amount) ? DEFERRED_ROUNDED_MONEY : ROUNDED_MONEY);
+                    } else {
+                        buffer.put(MONEY);
+                    }
+                    buffer.putShort((short) currencyIds[i]);
+                    writeNumber(buffer, numbers[i]);
+                }
+            }
+        }
+
+        private static boolean isDeferred(MonetaryAmount amount) {
+            return amount instanceof RoundedMoney && ((RoundedMoney) amount).isRoundingDeferred();
+        }
+
+        private static int getNumberLength(BigDecimal number) {
+            int length = number.unscaledValue().bitLength() / 8 + 1;
+            if (length > MAX_NUMBER_LENGTH) {
+                throw new IllegalArgumentException("Number too large to be encoded: " + number);
+            }
+            return length;
+        }
+
+        private static void writeNumber(ByteBuffer buffer, BigDecimal number) {
+            buffer.putInt(number.scale());
+            BigInteger unscaled = number.unscaledValue();
+            if (unscaled.bitLength() < 64) {
+                long value = unscaled.longValue();
+                int length = unscaled.bitLength() / 8 + 1;
+                buffer.putShort((short) length);
+                for (int shift = (length - 1) * 8; shift >= 0; shift -= 8) {
+                    buffer.put((byte) (value >> shift));
+                }
+            } else {
+                byte[] bytes = unscaled.toByteArray();
+                buffer.putShort((short) bytes.length);
+                buffer.put(bytes);
+            }
+        }
+    }
+
+}
@@ -89,10 +89,61 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
     private final MonetaryContext monetaryContext;
 
     /**
-     * The numeric part of this amount.
+     * Maximal precision of numbers stored in compact form, as {@link #unscaled} and {@link #scale}.
+     */
+    private static final int MAX_COMPACT_PRECISION = 18;
+
+    /**
+     * {@code 10^18}, all unscaled values with a smaller magnitude are stored in compact form.
+     */
+    private static final long COMPACT_LIMIT = FastMoney.POWERS_OF_TEN[MAX_COMPACT_PRECISION];
+
+    /**
+     * {@code Long.MAX_VALUE / 10^n}, the largest magnitude, which can be multiplied by {@code 10^n}
+     * without overflow.
+     */
+    private static final long[] SCALE_UP_LIMITS = new long[MAX_COMPACT_PRECISION + 1];
+
+    static {
+        for (int i = 0; i < SCALE_UP_LIMITS.length; i++) {
+            SCALE_UP_LIMITS[i] = Long.MAX_VALUE / FastMoney.POWERS_OF_TEN[i];
+        }
+    }
+
+    /**
+     * The shared instances for zero and small integral values using the default {@link MonetaryContext}.
+     */
+    private static final AmountCache<Money> CACHE = new AmountCache<Money>() {
+        @Override
+        protected Money create(long value, CurrencyUnit currency) {
+            return newCompact(value, 0, currency, DEFAULT_MONETARY_CONTEXT);
+        }
+    };
+
+    /**
+     * The numeric part of this amount, if it has more than {@value #MAX_COMPACT_PRECISION} digits, or
+     * {@code null}, if it is stored in compact form as {@link #unscaled} and {@link #scale}. Instances are
+     * serialized using {@link Ser}, this field is only read from streams written by former versions.
      */
     private final BigDecimal number;
 
+    /**
+     * The unscaled value of this amount, if {@link #number} is {@code null}.
+     */
+    private final transient long unscaled;
+
+    /**
+     * The scale of this amount, if {@link #number} is {@code null}.
+     */
+    private final transient int scale;
+
+    /**
+     * The {@link NumberValue} view of this amount, created lazily on first access by {@link #getNumber()}.
+     * Concurrent first accesses may create equal instances more than once, which is harmless, since
+     * {@link DefaultNumberValue} is immutable.
+     */
+    private transient NumberValue numberValue;
+
     /**
      * Creates a new instance os {@link Money}.
      *
@@ -118,13 +169,192 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
     private Money(BigDecimal number, CurrencyUnit currency, MonetaryContext monetaryContext) {
         Objects.requireNonNull(currency, "Currency is required.");
         this.currency = currency;
-        if (monetaryContext!=null) {
-            this.monetaryContext = monetaryContext;
-        } else {
+        if (monetaryContext == null || monetaryContext == DEFAULT_MONETARY_CONTEXT) {
             this.monetaryContext = DEFAULT_MONETARY_CONTEXT;
+        } else {
+            this.monetaryContext = MoneyUtils.intern(monetaryContext);
         }
         Objects.requireNonNull(number, "Number is required.");
-        this.number = MoneyUtils.getBigDecimal(number, this.monetaryContext);
+        BigDecimal value = MoneyUtils.getBigDecimal(number, this.monetaryContext);
+        if (value.precision() <= MAX_COMPACT_PRECISION) {
+            this.number = null;
+            this.unscaled = value.unscaledValue().longValue();
+            this.scale = value.scale();
+        } else {
+            this.number = value;
+            this.unscaled = 0L;
+            this.scale = 0;
+        }
+    }
+
+    /**
+     * Creates a new instance of {@link Money} from its internal representation, without applying any
+     * {@link MonetaryContext}.
+     *
+     * @param number          the number, if not stored in compact form, else null.
+     * @param unscaled        the unscaled value in compact form.
+     * @param scale           the scale in compact form.
+     * @param currency        the currency, not null.
+     * @param monetaryContext the {@link MonetaryContext}, not null.
+     */
+    private Money(BigDecimal number, long unscaled, int scale, CurrencyUnit currency,
+                  MonetaryContext monetaryContext) {
+        this.currency = currency;
+        this.monetaryContext = monetaryContext;
+        this.number = number;
+        this.unscaled = unscaled;
+        this.scale = scale;
+    }
+
+    /**
+     * Creates a new instance of {@link Money} for the number {@code unscaled * 10^-scale}, which is
+     * normalized and adapted to the {@link MonetaryContext} exactly as in
+     * {@link #Money(BigDecimal, CurrencyUnit, MonetaryContext)}, but without creating a {@link BigDecimal},
+     * if the number fits the context.
+     *
+     * @param unscaled        the unscaled value.
+     * @param scale           the scale.
+     * @param currency        the currency, not null.
+     * @param monetaryContext the {@link MonetaryContext}, if {@code null}, the default is used.
+     * @return the new instance.
+     */
+    private static Money ofCompact(long unscaled, int scale, CurrencyUnit currency,
+                                   MonetaryContext monetaryContext) {
+        Objects.requireNonNull(currency, "Currency is required.");
+        if (monetaryContext == null || monetaryContext == DEFAULT_MONETARY_CONTEXT) {
+            monetaryContext = DEFAULT_MONETARY_CONTEXT;
+        } else {
+            monetaryContext = MoneyUtils.intern(monetaryContext);
+        }
+        if (unscaled == 0L) {
+            scale = 0;
+        } else if (scale > 0) {
+            while (unscaled % 10L == 0L) {
+                unscaled /= 10L;
+                scale--;
+            }
+        }
+        if (scale == 0 && monetaryContext == DEFAULT_MONETARY_CONTEXT) {
+            Money cached = CACHE.get(unscaled, currency);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        return newCompact(unscaled, scale, currency, monetaryContext);
+    }
+
+    /**
+     * Creates a new instance of {@link Money} for the normalized number {@code unscaled * 10^-scale}.
+     *
+     * @param unscaled        the unscaled value, without trailing zeros.
+     * @param scale           the scale.
+     * @param currency        the currency, not null.
+     * @param monetaryContext the {@link MonetaryContext}, not null.
+     * @return the new instance.
+     */
+    private static Money newCompact(long unscaled, int scale, CurrencyUnit currency,
+                                    MonetaryContext monetaryContext) {
+        if (unscaled > -COMPACT_LIMIT && unscaled < COMPACT_LIMIT
+                && MoneyUtils.isContextCompatible(unscaled, scale, monetaryContext)) {
+            return new Money(null, unscaled, scale, currency, monetaryContext);
+        }
+        return new Money(BigDecimal.valueOf(unscaled, scale), currency, monetaryContext);
+    }
+
+    /**
+     * Serializes this instance using the compact form defined by {@link Ser}.
+     *
+     * @return the instance to be serialized.
+     */
+    private Object writeReplace() {
+        return new Ser(this);
+    }
+
+    /**
+     * Restores the compact representation of instances, which were serialized using the default form.
+     *
+     * @return the instance deserialized.
+     */
+    private Object readResolve() {
+        if (number != null && number.precision() <= MAX_COMPACT_PRECISION) {
+            return new Money(null, number.unscaledValue().longValue(), number.scale(), currency, monetaryContext);
+        }
+        return this;
+    }
+
+    /**
+     * Adds a number given in compact form to this compact instance.
+     *
+     * @param otherUnscaled the unscaled value to add.
+     * @param otherScale    the scale of the value to add.
+     * @return the sum, or {@code null}, if it can not be evaluated on {@code long} values.
+     */
+    private Money addCompact(long otherUnscaled, int otherScale) {
+        long a = this.unscaled;
+        long b = otherUnscaled;
+        int resultScale = this.scale;
+        if (resultScale != otherScale) {
+            long digits = (long) otherScale - resultScale;
+            if (digits > 0L) {
+                if (!canScaleUp(a, digits)) {
+                    return null;
+                }
+                a *= FastMoney.POWERS_OF_TEN[(int) digits];
+                resultScale = otherScale;
+            } else {
+                if (!canScaleUp(b, -digits)) {
+                    return null;
+                }
+                b *= FastMoney.POWERS_OF_TEN[(int) -digits];
+            }
+        }
+        long sum = a + b;
+        if (((a ^ sum) & (b ^ sum)) < 0L) {
+            return null;
+        }
+        return ofCompact(sum, resultScale, getCurrency(), null);
+    }
+
+    /**
+     * Compares the numeric value of this instance with the numeric value of the given amount, using the
+     * compact form of both, if possible. A {@link FastMoney} is compared as compact value with scale
+     * {@link FastMoney#SCALE}.
+     */
+    private int compareNumber(MonetaryAmount amount) {
+        if (amount instanceof Money) {
+            Money other = (Money) amount;
+            if (this.number == null && other.number == null) {
+                return compareCompact(this.unscaled, this.scale, other.unscaled, other.scale);
+            }
+        } else if (amount instanceof FastMoney && this.number == null) {
+            return compareCompact(this.unscaled, this.scale, ((FastMoney) amount).getRawValue(), FastMoney.SCALE);
+        }
+        return getBigDecimal().compareTo(AmountNumbers.getBigDecimal(amount));
+    }
+
+    static int compareCompact(long unscaled1, int scale1, long unscaled2, int scale2) {
+        if (scale1 != scale2) {
+            long digits = (long) scale1 - scale2;
+            if (digits > 0L && canScaleUp(unscaled2, digits)) {
+                unscaled2 *= FastMoney.POWERS_OF_TEN[(int) digits];
+            } else if (digits < 0L && canScaleUp(unscaled1, -digits)) {
+                unscaled1 *= FastMoney.POWERS_OF_TEN[(int) -digits];
+            } else {
+                return BigDecimal.valueOf(unscaled1, scale1).compareTo(BigDecimal.valueOf(unscaled2, scale2));
+            }
+        }
+        return Long.compare(unscaled1, unscaled2);
+    }
+
+    /**
+     * Checks if the given value can be multiplied by {@code 10^digits} without overflow.
+     */
+    private static boolean canScaleUp(long value, long digits) {
+        if (digits >= SCALE_UP_LIMITS.length) {
+            return false;
+        }
+        long limit = SCALE_UP_LIMITS[(int) digits];
+        return value <= limit && value >= -limit;
     }
 
     /**
@@ -158,7 +388,75 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
      */
     @Override
     public NumberValue getNumber() {
-        return new DefaultNumberValue(number);
+        NumberValue value = this.numberValue;
+        if (value == null) {
+            value = new DefaultNumberValue(getBigDecimal());
+            this.numberValue = value;
+        }
+        return value;
+    }
+
+    /**
+     * Access the numeric value of this amount, without wrapping it into a {@link NumberValue}.
+     *
+     * @return the internal number, never null.
+     */
+    BigDecimal getBigDecimal() {
+        BigDecimal value = this.number;
+        if (value == null) {
+            return BigDecimal.valueOf(unscaled, scale);
+        }
+        return value;
+    }
+
+    /**
+     * Checks if the numeric value is stored in compact form, accessible by {@link #getUnscaled()} and
+     * {@link #getScale()}.
+     *
+     * @return true, if the value is stored as unscaled {@code long} and scale.
+     */
+    boolean isCompact() {
+        return this.number == null;
+    }
+
+    /**
+     * Access the unscaled value of the compact form.
+     *
+     * @return the unscaled value, only valid if {@link #isCompact()}.
+     */
+    long getUnscaled() {
+        return this.unscaled;
+    }
+
+    /**
+     * Access the scale of the numeric value, without creating a {@link BigDecimal}.
+     *
+     * @return the scale.
+     */
+    int getScale() {
+        BigDecimal value = this.number;
+        if (value == null) {
+            return this.scale;
+        }
+        return value.scale();
+    }
+
+    /**
+     * Access the precision of the numeric value, without creating a {@link BigDecimal}.
+     *
+     * @return the precision.
+     */
+    int getPrecision() {
+        BigDecimal value = this.number;
+        if (value != null) {
+            return value.precision();
+        }
+        long magnitude = Math.abs(this.unscaled);
+        int precision = 1;
+        while (precision < MAX_COMPACT_PRECISION && magnitude >= FastMoney.POWERS_OF_TEN[precision]) {
+            precision++;
+        }
+        return precision;
     }
 
     /**
@@ -171,7 +469,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
         if (isZero()) {
             return BigDecimal.ZERO;
         }
-        return this.number.stripTrailingZeros();
+        return getBigDecimal().stripTrailingZeros();
     }
 
     /*
@@ -182,7 +480,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
         Objects.requireNonNull(o);
         int compare = getCurrency().getCurrencyCode().compareTo(o.getCurrency().getCurrencyCode());
         if (compare == 0) {
-            compare = this.number.compareTo(Money.from(o).number);
+            compare = compareNumber(o instanceof FastMoney ? o : Money.from(o));
         }
         return compare;
     }
@@ -228,7 +526,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
         if (divisor == 1.0) {
             return this;
         }
-        return divide(new BigDecimal(String.valueOf(divisor)));
+        return divide(MoneyUtils.getBigDecimal(divisor));
     }
 
     /*
@@ -254,7 +552,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
             Money zero = Money.of(0, getCurrency());
             return new Money[]{zero, zero};
         }
-        return divideAndRemainder(new BigDecimal(String.valueOf(divisor)));
+        return divideAndRemainder(MoneyUtils.getBigDecimal(divisor));
     }
 
     /*
@@ -267,6 +565,15 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
         if (multiplicand == 1L) {
             return this;
         }
+        if (this.number == null) {
+            long product = this.unscaled * multiplicand;
+            // the product is exact, if both factors fit into 31 bits, or if the division reverts it
+            if (((Math.abs(this.unscaled) | Math.abs(multiplicand)) >>> 31 == 0L)
+                    || (multiplicand != 0L && product / multiplicand == this.unscaled
+                    && !(this.unscaled == Long.MIN_VALUE && multiplicand == -1L))) {
+                return ofCompact(product, this.scale, getCurrency(), null);
+            }
+        }
         return multiply(BigDecimal.valueOf(multiplicand));
     }
 
@@ -281,7 +588,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
         if (multiplicand == 1.0d) {
             return this;
         }
-        return multiply(new BigDecimal(String.valueOf(multiplicand)));
+        return multiply(MoneyUtils.getBigDecimal(multiplicand));
     }
 
     /*
@@ -304,7 +611,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
         if (NumberVerifier.isInfinityAndNotNaN(divisor)) {
             return Money.of(0, getCurrency());
         }
-        return remainder(new BigDecimal(String.valueOf(divisor)));
+        return remainder(MoneyUtils.getBigDecimal(divisor));
     }
 
     /*
@@ -403,7 +710,18 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
         if (amount.isZero()) {
             return this;
         }
-        return new Money(this.number.add(amount.getNumber().numberValue(BigDecimal.class)), getCurrency());
+        if (this.number == null) {
+            Money sum = null;
+            if (amount instanceof Money && ((Money) amount).number == null) {
+                sum = addCompact(((Money) amount).unscaled, ((Money) amount).scale);
+            } else if (amount instanceof FastMoney) {
+                sum = addCompact(((FastMoney) amount).getRawValue(), FastMoney.SCALE);
+            }
+            if (sum != null) {
+                return sum;
+            }
+        }
+        return new Money(getBigDecimal().add(AmountNumbers.getBigDecimal(amount)), getCurrency());
     }
 
     /*
@@ -421,7 +739,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
             return this;
         }
         BigDecimal dec =
-                this.number.divide(divisorBD, MoneyUtils.getMathContext(getContext(), RoundingMode.HALF_EVEN));
+                getBigDecimal().divide(divisorBD, MoneyUtils.getMathContext(getContext(), RoundingMode.HALF_EVEN));
         return new Money(dec, getCurrency());
     }
 
@@ -435,7 +753,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
         if (divisorBD.equals(BigDecimal.ONE)) {
             return new Money[]{this, new Money(BigDecimal.ZERO, getCurrency())};
         }
-        BigDecimal[] dec = this.number.divideAndRemainder(divisorBD);
+        BigDecimal[] dec = getBigDecimal().divideAndRemainder(divisorBD);
         return new Money[]{new Money(dec[0], getCurrency()), new Money(dec[1], getCurrency())};
     }
 
@@ -465,7 +783,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
             return Money.of(0, getCurrency());
         }
         BigDecimal divisorBD = MoneyUtils.getBigDecimal(divisor);
-        BigDecimal dec = this.number.divideToIntegralValue(divisorBD);
+        BigDecimal dec = getBigDecimal().divideToIntegralValue(divisorBD);
         return new Money(dec, getCurrency());
     }
 
@@ -481,7 +799,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
         if (multiplicandBD.equals(BigDecimal.ONE)) {
             return this;
         }
-        BigDecimal dec = this.number.multiply(multiplicandBD);
+        BigDecimal dec = getBigDecimal().multiply(multiplicandBD);
         return new Money(dec, getCurrency());
     }
 
@@ -492,7 +810,10 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
      */
     @Override
     public Money negate() {
-        return new Money(this.number.negate(), getCurrency());
+        if (this.number == null && this.unscaled != Long.MIN_VALUE) {
+            return ofCompact(-this.unscaled, this.scale, getCurrency(), null);
+        }
+        return new Money(getBigDecimal().negate(), getCurrency());
     }
 
     /*
@@ -516,7 +837,19 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
         if (subtrahend.isZero()) {
             return this;
         }
-        return new Money(this.number.subtract(subtrahend.getNumber().numberValue(BigDecimal.class)), getCurrency());
+        if (this.number == null) {
+            Money difference = null;
+            if (subtrahend instanceof Money && ((Money) subtrahend).number == null) {
+                // compact values never reach Long.MIN_VALUE
+                difference = addCompact(-((Money) subtrahend).unscaled, ((Money) subtrahend).scale);
+            } else if (subtrahend instanceof FastMoney && ((FastMoney) subtrahend).getRawValue() != Long.MIN_VALUE) {
+                difference = addCompact(-((FastMoney) subtrahend).getRawValue(), FastMoney.SCALE);
+            }
+            if (difference != null) {
+                return difference;
+            }
+        }
+        return new Money(getBigDecimal().subtract(AmountNumbers.getBigDecimal(subtrahend)), getCurrency());
     }
 
     /*
@@ -529,7 +862,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
         if (isZero()) {
             return new Money(BigDecimal.ZERO, getCurrency());
         }
-        return new Money(this.number.stripTrailingZeros(), getCurrency());
+        return new Money(getBigDecimal().stripTrailingZeros(), getCurrency());
     }
 
     /*
@@ -543,7 +876,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
             return new Money(BigDecimal.ZERO, getCurrency());
         }
         BigDecimal bd = MoneyUtils.getBigDecimal(divisor);
-        return new Money(this.number.remainder(bd), getCurrency());
+        return new Money(getBigDecimal().remainder(bd), getCurrency());
     }
 
     /*
@@ -553,7 +886,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
      */
     @Override
     public Money scaleByPowerOfTen(int power) {
-        return new Money(this.number.scaleByPowerOfTen(power), getCurrency());
+        return new Money(getBigDecimal().scaleByPowerOfTen(power), getCurrency());
     }
 
     /*
@@ -563,6 +896,9 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
      */
     @Override
     public int signum() {
+        if (this.number == null) {
+            return Long.signum(this.unscaled);
+        }
         return this.number.signum();
     }
 
@@ -574,8 +910,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
     @Override
     public boolean isLessThan(MonetaryAmount amount) {
         MoneyUtils.checkAmountParameter(amount, this.currency);
-        return number.stripTrailingZeros()
-                .compareTo(amount.getNumber().numberValue(BigDecimal.class).stripTrailingZeros()) < 0;
+        return compareNumber(amount) < 0;
     }
 
     /*
@@ -588,8 +923,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
     @Override
     public boolean isLessThanOrEqualTo(MonetaryAmount amount) {
         MoneyUtils.checkAmountParameter(amount, this.currency);
-        return number.stripTrailingZeros()
-                .compareTo(amount.getNumber().numberValue(BigDecimal.class).stripTrailingZeros()) <= 0;
+        return compareNumber(amount) <= 0;
     }
 
     /*
@@ -600,8 +934,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
     @Override
     public boolean isGreaterThan(MonetaryAmount amount) {
         MoneyUtils.checkAmountParameter(amount, this.currency);
-        return number.stripTrailingZeros()
-                .compareTo(amount.getNumber().numberValue(BigDecimal.class).stripTrailingZeros()) > 0;
+        return compareNumber(amount) > 0;
     }
 
     /*
@@ -614,8 +947,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
     @Override
     public boolean isGreaterThanOrEqualTo(MonetaryAmount amount) {
         MoneyUtils.checkAmountParameter(amount, this.currency);
-        return number.stripTrailingZeros()
-                .compareTo(amount.getNumber().numberValue(BigDecimal.class).stripTrailingZeros()) >= 0;
+        return compareNumber(amount) >= 0;
     }
 
     /*
@@ -626,8 +958,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
     @Override
     public boolean isEqualTo(MonetaryAmount amount) {
         MoneyUtils.checkAmountParameter(amount, this.currency);
-        return number.stripTrailingZeros()
-                .compareTo(amount.getNumber().numberValue(BigDecimal.class).stripTrailingZeros()) == 0;
+        return compareNumber(amount) == 0;
     }
 
     /*
@@ -652,8 +983,13 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
         }
         if (obj instanceof Money) {
             Money other = (Money) obj;
-            return Objects.equals(getCurrency(), other.getCurrency()) &&
-                    Objects.equals(getNumberStripped(), other.getNumberStripped());
+            if (!Objects.equals(getCurrency(), other.getCurrency())) {
+                return false;
+            }
+            if (this.number == null && other.number == null) {
+                return compareCompact(this.unscaled, this.scale, other.unscaled, other.scale) == 0;
+            }
+            return Objects.equals(getNumberStripped(), other.getNumberStripped());
         }
         return false;
     }
@@ -665,7 +1001,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
      */
     @Override
     public String toString() {
-        return getCurrency().getCurrencyCode() + ' ' + number.toPlainString();
+        return getCurrency().getCurrencyCode() + ' ' + getBigDecimal().toPlainString();
     }
 
     /*
@@ -689,7 +1025,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
      *                             {@link MonetaryContext} used.
      */
     public static Money of(BigDecimal number, CurrencyUnit currency) {
-        return new Money(number, currency);
+        return of(number, currency, (MonetaryContext) null);
     }
 
     /**
@@ -706,6 +1042,9 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
      *                             {@link MonetaryContext} used.
      */
     public static Money of(BigDecimal number, CurrencyUnit currency, MonetaryContext monetaryContext) {
+        if (number != null && number.precision() <= MAX_COMPACT_PRECISION) {
+            return ofCompact(number.unscaledValue().longValue(), number.scale(), currency, monetaryContext);
+        }
         return new Money(number, currency, monetaryContext);
     }
 
@@ -720,7 +1059,10 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
      *                             {@link MonetaryContext} used.
      */
     public static Money of(Number number, CurrencyUnit currency) {
-        return new Money(MoneyUtils.getBigDecimal(number), currency);
+        if (number != null && FastMoney.isIntegral(number)) {
+            return ofCompact(number.longValue(), 0, currency, null);
+        }
+        return of(MoneyUtils.getBigDecimal(number), currency);
     }
 
     /**
@@ -736,7 +1078,10 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
      *                             {@link MonetaryContext} used.
      */
     public static Money of(Number number, CurrencyUnit currency, MonetaryContext monetaryContext) {
-        return new Money(MoneyUtils.getBigDecimal(number), currency, monetaryContext);
+        if (number != null && FastMoney.isIntegral(number)) {
+            return ofCompact(number.longValue(), 0, currency, monetaryContext);
+        }
+        return of(MoneyUtils.getBigDecimal(number), currency, monetaryContext);
     }
 
     /**
@@ -747,7 +1092,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
      * @return A new instance of {@link Money}.
      */
     public static Money of(Number number, String currencyCode) {
-        return new Money(MoneyUtils.getBigDecimal(number), Monetary.getCurrency(currencyCode));
+        return of(number, Monetary.getCurrency(currencyCode));
     }
 
     /**
@@ -758,7 +1103,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
      * @return A new instance of {@link Money}.
      */
     public static Money of(BigDecimal number, String currencyCode) {
-        return new Money(number, Monetary.getCurrency(currencyCode));
+        return of(number, Monetary.getCurrency(currencyCode));
     }
 
     /**
@@ -771,8 +1116,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
      * @return A new instance of {@link Money}.
      */
     public static Money of(Number number, String currencyCode, MonetaryContext monetaryContext) {
-        return new Money(MoneyUtils.getBigDecimal(number), Monetary.getCurrency(currencyCode),
-                monetaryContext);
+        return of(number, Monetary.getCurrency(currencyCode), monetaryContext);
     }
 
     /**
@@ -785,7 +1129,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
      * @return A new instance of {@link Money}.
      */
     public static Money of(BigDecimal number, String currencyCode, MonetaryContext monetaryContext) {
-        return new Money(number, Monetary.getCurrency(currencyCode), monetaryContext);
+        return of(number, Monetary.getCurrency(currencyCode), monetaryContext);
     }
 
     /**
@@ -795,7 +1139,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
      * @since 1.0.1
      */
     public static Money zero(CurrencyUnit currency) {
-        return new Money(BigDecimal.ZERO, currency);
+        return ofCompact(0L, 0, currency, null);
     }
 
    	 /**
@@ -830,7 +1174,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
      	if(factionDigits < 0) {
      		throw new IllegalArgumentException("The factionDigits cannot be negative");
      	}
-     	return of(BigDecimal.valueOf(amountMinor, factionDigits), currency);
+     	return ofCompact(amountMinor, factionDigits, currency, null);
      }
 
     /**
@@ -85,6 +85,17 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
      */
     private final MonetaryOperator rounding;
 
+    /**
+     * Flag, if the rounding is deferred, see {@link #withDeferredRounding(boolean)}. If set, {@link #number}
+     * holds the unrounded value.
+     */
+    private final boolean deferredRounding;
+
+    /**
+     * The rounded value of {@link #number}, evaluated lazily if the rounding is deferred.
+     */
+    private transient volatile BigDecimal roundedNumber;
+
 
     /**
      * Creates a new instance os {@link RoundedMoney}.
@@ -109,6 +120,7 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
         Objects.requireNonNull(number, "Number is required.");
         checkNumber(number);
         this.number = MoneyUtils.getBigDecimal(number, monetaryContext);
+        this.deferredRounding = false;
     }
 
     @Deprecated
@@ -126,10 +138,48 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
 
         this.monetaryContext = monetaryContextBuilder.build();
         this.number = MoneyUtils.getBigDecimal(number, monetaryContext);
+        this.deferredRounding = false;
+    }
+
+    /**
+     * Creates a new instance, using the given context and rounding as is.
+     *
+     * @param number           the number, not null.
+     * @param currency         the currency, not null.
+     * @param context          the {@link MonetaryContext}, containing the rounding, not null.
+     * @param rounding         the rounding, not null.
+     * @param deferredRounding flag, if the rounding is deferred.
+     */
+    private RoundedMoney(BigDecimal number, CurrencyUnit currency, MonetaryContext context,
+                         MonetaryOperator rounding, boolean deferredRounding) {
+        this.currency = currency;
+        this.number = number;
+        this.monetaryContext = context;
+        this.rounding = rounding;
+        this.deferredRounding = deferredRounding;
     }
 
     // Static Factory Methods
 
+    /**
+     * Creates an instance read by {@link Ser}, using the given context and the rounding it contains as is.
+     *
+     * @param number           the number, not null.
+     * @param currency         the currency, not null.
+     * @param context          the {@link MonetaryContext} of the serialized instance, not null.
+     * @param deferredRounding flag, if the rounding is deferred.
+     * @return the new instance.
+     */
+    static RoundedMoney ofSerialized(BigDecimal number, CurrencyUnit currency, MonetaryContext context,
+                                     boolean deferredRounding) {
+        MonetaryOperator rounding = context.get(MONETARY_ROUNDING_KEY, MonetaryOperator.class);
+        if (rounding == null) {
+            return of(number, currency, context).withDeferredRounding(deferredRounding);
+        }
+        return new RoundedMoney(Objects.requireNonNull(number), Objects.requireNonNull(currency), context,
+                rounding, deferredRounding);
+    }
+
     /**
      * Translates a {@code BigDecimal} value and a {@code CurrencyUnit} currency into a
      * {@code Money}.
@@ -339,7 +389,7 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
 
     @Override
     public RoundedMoney abs() {
-        if (isPositiveOrZero()) {
+        if (deferredRounding ? number.signum() >= 0 : isPositiveOrZero()) {
             return this;
         }
         return negate();
@@ -350,10 +400,13 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
     @Override
     public RoundedMoney add(MonetaryAmount amount) {
         MoneyUtils.checkAmountParameter(amount, currency);
+        if (deferredRounding) {
+            return deferred(number.add(getDeferredNumber(amount), getMathContext()));
+        }
         if (amount.isZero()) {
             return this;
         }
-        return new RoundedMoney(number.add(amount.getNumber().numberValue(BigDecimal.class)), currency,
+        return new RoundedMoney(number.add(AmountNumbers.getBigDecimal(amount)), currency,
                 rounding).with(rounding);
     }
 
@@ -367,6 +420,9 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
         if (isOne(bd)) {
             return this;
         }
+        if (deferredRounding) {
+            return deferred(number.divide(bd, getMathContext()));
+        }
         RoundingMode rm = monetaryContext.get(RoundingMode.class);
         if(rm==null){
             rm = RoundingMode.HALF_EVEN;
@@ -385,11 +441,10 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
         if (isOne(bd)) {
             return new RoundedMoney[]{this, new RoundedMoney(0L, getCurrency(), rounding)};
         }
-        MathContext mc = monetaryContext.get(MathContext.class);
-        if(mc==null){
-            mc = MathContext.DECIMAL64;
+        BigDecimal[] dec = number.divideAndRemainder(MoneyUtils.getBigDecimal(divisor), getMathContext());
+        if (deferredRounding) {
+            return new RoundedMoney[]{deferred(dec[0]), deferred(dec[1])};
         }
-        BigDecimal[] dec = number.divideAndRemainder(MoneyUtils.getBigDecimal(divisor), mc);
         return new RoundedMoney[]{new RoundedMoney(dec[0], currency, rounding),
                 new RoundedMoney(dec[1], currency, rounding).with(rounding)};
     }
@@ -400,11 +455,10 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
      */
     @Override
     public RoundedMoney divideToIntegralValue(Number divisor) {
-        MathContext mc = monetaryContext.get(MathContext.class);
-        if(mc==null){
-            mc = MathContext.DECIMAL64;
+        BigDecimal dec = number.divideToIntegralValue(MoneyUtils.getBigDecimal(divisor), getMathContext());
+        if (deferredRounding) {
+            return deferred(dec);
         }
-        BigDecimal dec = number.divideToIntegralValue(MoneyUtils.getBigDecimal(divisor), mc);
         return new RoundedMoney(dec, currency, rounding);
     }
 
@@ -418,11 +472,10 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
         if (isOne(bd)) {
             return this;
         }
-        MathContext mc = monetaryContext.get(MathContext.class);
-        if(mc==null){
-            mc = MathContext.DECIMAL64;
+        BigDecimal dec = number.multiply(bd, getMathContext());
+        if (deferredRounding) {
+            return deferred(dec);
         }
-        BigDecimal dec = number.multiply(bd, mc);
         return new RoundedMoney(dec, currency, rounding).with(rounding);
     }
 
@@ -432,12 +485,11 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
      */
     @Override
     public RoundedMoney negate() {
-        MathContext mc = monetaryContext.get(MathContext.class);
-        if(mc==null){
-            mc = MathContext.DECIMAL64;
+        BigDecimal dec = number.negate(getMathContext());
+        if (deferredRounding) {
+            return deferred(dec);
         }
-        return new RoundedMoney(number.negate(mc),
-                currency, rounding);
+        return new RoundedMoney(dec, currency, rounding);
     }
 
     /*
@@ -456,14 +508,13 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
     @Override
     public RoundedMoney subtract(MonetaryAmount subtrahend) {
         MoneyUtils.checkAmountParameter(subtrahend, currency);
+        if (deferredRounding) {
+            return deferred(number.subtract(getDeferredNumber(subtrahend), getMathContext()));
+        }
         if (subtrahend.isZero()) {
             return this;
         }
-        MathContext mc = monetaryContext.get(MathContext.class);
-        if(mc==null){
-            mc = MathContext.DECIMAL64;
-        }
-        return new RoundedMoney(number.subtract(subtrahend.getNumber().numberValue(BigDecimal.class), mc),
+        return new RoundedMoney(number.subtract(AmountNumbers.getBigDecimal(subtrahend), getMathContext()),
                 currency, rounding);
     }
 
@@ -472,12 +523,11 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
      * @see javax.money.MonetaryAmount#pow(int)
      */
     public RoundedMoney pow(int n) {
-        MathContext mc = monetaryContext.get(MathContext.class);
-        if(mc==null){
-            mc = MathContext.DECIMAL64;
+        BigDecimal dec = number.pow(n, getMathContext());
+        if (deferredRounding) {
+            return deferred(dec);
         }
-        return new RoundedMoney(number.pow(n, mc),
-                currency, rounding).with(rounding);
+        return new RoundedMoney(dec, currency, rounding).with(rounding);
     }
 
     /*
@@ -494,12 +544,11 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
      */
     @Override
     public RoundedMoney remainder(Number divisor) {
-        MathContext mc = monetaryContext.get(MathContext.class);
-        if(mc==null){
-            mc = MathContext.DECIMAL64;
+        BigDecimal dec = number.remainder(MoneyUtils.getBigDecimal(divisor), getMathContext());
+        if (deferredRounding) {
+            return deferred(dec);
         }
-        return new RoundedMoney(number.remainder(MoneyUtils.getBigDecimal(divisor), mc),
-                currency, rounding);
+        return new RoundedMoney(dec, currency, rounding);
     }
 
     /*
@@ -508,6 +557,9 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
      */
     @Override
     public RoundedMoney scaleByPowerOfTen(int n) {
+        if (deferredRounding) {
+            return deferred(number.scaleByPowerOfTen(n));
+        }
         return new RoundedMoney(number.scaleByPowerOfTen(n), currency, rounding);
     }
 
@@ -517,7 +569,7 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
      */
     @Override
     public boolean isZero() {
-        return number.signum() == 0;
+        return getBigDecimal().signum() == 0;
     }
 
     /*
@@ -562,6 +614,9 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
      */
     public RoundedMoney with(Number amount) {
         checkNumber(amount);
+        if (deferredRounding) {
+            return deferred(MoneyUtils.getBigDecimal(amount));
+        }
         return new RoundedMoney(MoneyUtils.getBigDecimal(amount), currency, rounding);
     }
 
@@ -574,6 +629,9 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
      */
     public RoundedMoney with(CurrencyUnit currency) {
         Objects.requireNonNull(currency, "currency required");
+        if (deferredRounding) {
+            return new RoundedMoney(number, currency, monetaryContext, rounding, true);
+        }
         return new RoundedMoney(asType(BigDecimal.class), currency, rounding);
     }
 
@@ -583,6 +641,10 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
      */
     public RoundedMoney with(CurrencyUnit currency, Number amount) {
         checkNumber(amount);
+        if (deferredRounding) {
+            return new RoundedMoney(MoneyUtils.getBigDecimal(amount), Objects.requireNonNull(currency),
+                    monetaryContext, rounding, true);
+        }
         return new RoundedMoney(MoneyUtils.getBigDecimal(amount), currency, rounding);
     }
 
@@ -591,7 +653,7 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
      * @see javax.money.MonetaryAmount#getScale()
      */
     public int getScale() {
-        return number.scale();
+        return getBigDecimal().scale();
     }
 
     /*
@@ -599,7 +661,7 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
      * @see javax.money.MonetaryAmount#getPrecision()
      */
     public int getPrecision() {
-        return number.precision();
+        return getBigDecimal().precision();
     }
 
 	/*
@@ -609,7 +671,7 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
 
     @Override
     public int signum() {
-        return number.signum();
+        return getBigDecimal().signum();
     }
 
     /*
@@ -619,8 +681,7 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
     @Override
     public boolean isLessThan(MonetaryAmount amount) {
         MoneyUtils.checkAmountParameter(amount, currency);
-        return number.stripTrailingZeros()
-                .compareTo(amount.getNumber().numberValue(BigDecimal.class).stripTrailingZeros()) < 0;
+        return getBigDecimal().compareTo(AmountNumbers.getBigDecimal(amount)) < 0;
     }
 
     /*
@@ -630,8 +691,7 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
     @Override
     public boolean isLessThanOrEqualTo(MonetaryAmount amount) {
         MoneyUtils.checkAmountParameter(amount, currency);
-        return number.stripTrailingZeros()
-                .compareTo(amount.getNumber().numberValue(BigDecimal.class).stripTrailingZeros()) <= 0;
+        return getBigDecimal().compareTo(AmountNumbers.getBigDecimal(amount)) <= 0;
     }
 
     /*
@@ -641,8 +701,7 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
     @Override
     public boolean isGreaterThan(MonetaryAmount amount) {
         MoneyUtils.checkAmountParameter(amount, currency);
-        return number.stripTrailingZeros()
-                .compareTo(amount.getNumber().numberValue(BigDecimal.class).stripTrailingZeros()) > 0;
+        return getBigDecimal().compareTo(AmountNumbers.getBigDecimal(amount)) > 0;
     }
 
     /*
@@ -652,8 +711,7 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
     @Override
     public boolean isGreaterThanOrEqualTo(MonetaryAmount amount) {
         MoneyUtils.checkAmountParameter(amount, currency);
-        return number.stripTrailingZeros()
-                .compareTo(amount.getNumber().numberValue(BigDecimal.class).stripTrailingZeros()) >= 0;
+        return getBigDecimal().compareTo(AmountNumbers.getBigDecimal(amount)) >= 0;
     }
 
     /*
@@ -663,8 +721,7 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
     @Override
     public boolean isEqualTo(MonetaryAmount amount) {
         MoneyUtils.checkAmountParameter(amount, currency);
-        return number.stripTrailingZeros()
-                .compareTo(amount.getNumber().numberValue(BigDecimal.class).stripTrailingZeros()) == 0;
+        return getBigDecimal().compareTo(AmountNumbers.getBigDecimal(amount)) == 0;
     }
 
     /*
@@ -673,8 +730,7 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
      */
     public boolean isNotEqualTo(MonetaryAmount amount) {
         MoneyUtils.checkAmountParameter(amount, currency);
-        return number.stripTrailingZeros()
-                .compareTo(amount.getNumber().numberValue(BigDecimal.class).stripTrailingZeros()) != 0;
+        return getBigDecimal().compareTo(AmountNumbers.getBigDecimal(amount)) != 0;
     }
 
     /*
@@ -752,32 +808,33 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
     @Deprecated
     @SuppressWarnings("unchecked")
     public <T> T asType(Class<T> type) {
+        BigDecimal number = getBigDecimal();
         if (BigDecimal.class.equals(type)) {
-            return (T) this.number;
+            return (T) number;
         }
         if (Number.class.equals(type)) {
-            return (T) this.number;
+            return (T) number;
         }
         if (Double.class.equals(type)) {
-            return (T) Double.valueOf(this.number.doubleValue());
+            return (T) Double.valueOf(number.doubleValue());
         }
         if (Float.class.equals(type)) {
-            return (T) Float.valueOf(this.number.floatValue());
+            return (T) Float.valueOf(number.floatValue());
         }
         if (Long.class.equals(type)) {
-            return (T) Long.valueOf(this.number.longValue());
+            return (T) Long.valueOf(number.longValue());
         }
         if (Integer.class.equals(type)) {
-            return (T) Integer.valueOf(this.number.intValue());
+            return (T) Integer.valueOf(number.intValue());
         }
         if (Short.class.equals(type)) {
-            return (T) Short.valueOf(this.number.shortValue());
+            return (T) Short.valueOf(number.shortValue());
         }
         if (Byte.class.equals(type)) {
-            return (T) Byte.valueOf(this.number.byteValue());
+            return (T) Byte.valueOf(number.byteValue());
         }
         if (BigInteger.class.equals(type)) {
-            return (T) this.number.toBigInteger();
+            return (T) number.toBigInteger();
         }
         throw new IllegalArgumentException("Unsupported representation type: " + type);
     }
@@ -794,7 +851,7 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
      */
     @Override
     public String toString() {
-        return currency.getCurrencyCode() + ' ' + number;
+        return currency.getCurrencyCode() + ' ' + getBigDecimal();
     }
 
     /*
@@ -844,7 +901,115 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
      */
     @Override
     public NumberValue getNumber() {
-        return new DefaultNumberValue(number);
+        return new DefaultNumberValue(getBigDecimal());
+    }
+
+    /**
+     * Access the numeric value of this amount, without wrapping it into a {@link NumberValue}. If the
+     * rounding is deferred, the rounded value is returned.
+     *
+     * @return the internal number, never null.
+     */
+    BigDecimal getBigDecimal() {
+        if (!deferredRounding) {
+            return number;
+        }
+        BigDecimal value = this.roundedNumber;
+        if (value == null) {
+            value = new RoundedMoney(number, currency, monetaryContext, rounding, false).with(rounding).number;
+            this.roundedNumber = value;
+        }
+        return value;
+    }
+
+    /**
+     * Access the numeric value of this amount, without applying a deferred rounding.
+     *
+     * @return the internal number, never null.
+     */
+    BigDecimal getUnroundedNumber() {
+        return number;
+    }
+
+    /**
+     * Evaluates the numeric value of the given amount for arithmetic on deferred instances: another
+     * instance with deferred rounding contributes its unrounded value.
+     */
+    private static BigDecimal getDeferredNumber(MonetaryAmount amount) {
+        if (amount instanceof RoundedMoney && ((RoundedMoney) amount).deferredRounding) {
+            return ((RoundedMoney) amount).number;
+        }
+        return AmountNumbers.getBigDecimal(amount);
+    }
+
+    /**
+     * Creates the unrounded result of an operation on an instance with deferred rounding, keeping its
+     * context and rounding.
+     */
+    private RoundedMoney deferred(BigDecimal value) {
+        return new RoundedMoney(value, currency, monetaryContext, rounding, true);
+    }
+
+    /**
+     * Evaluates the {@link MathContext} for intermediate results.
+     *
+     * @return the {@link MathContext} of this instance's context, or {@link MathContext#DECIMAL64}.
+     */
+    private MathContext getMathContext() {
+        MathContext mc = monetaryContext.get(MathContext.class);
+        if (mc == null) {
+            return MathContext.DECIMAL64;
+        }
+        return mc;
+    }
+
+    /**
+     * Returns an instance with the same value, currency, context and rounding, but with the given rounding
+     * mode. By default, the rounding is applied after every arithmetic operation. With deferred rounding,
+     * intermediate results of {@link #add(MonetaryAmount)}, {@link #subtract(MonetaryAmount)},
+     * {@link #multiply(Number)}, {@link #divide(Number)} etc. are kept unrounded (limited only by the
+     * {@link MathContext} of the context, {@link MathContext#DECIMAL64} by default). The rounding is applied
+     * when the value is materialized: by {@link #getNumber()}, {@link #toString()}, comparisons, equality,
+     * and {@link #round()}. This avoids a rounding per step in long computation chains and reduces the
+     * cumulative rounding error.
+     *
+     * @param deferredRounding true, to defer the rounding.
+     * @return an instance with the given rounding mode, {@code this}, if it already has the given mode.
+     * When switching back to immediate rounding, the rounding is applied.
+     * @since 1.4.2
+     */
+    public RoundedMoney withDeferredRounding(boolean deferredRounding) {
+        if (deferredRounding == this.deferredRounding) {
+            return this;
+        }
+        if (deferredRounding) {
+            return deferred(number);
+        }
+        return new RoundedMoney(getBigDecimal(), currency, monetaryContext, rounding, false);
+    }
+
+    /**
+     * Checks if the rounding of this instance is deferred, see {@link #withDeferredRounding(boolean)}.
+     *
+     * @return true, if the rounding is deferred.
+     * @since 1.4.2
+     */
+    public boolean isRoundingDeferred() {
+        return deferredRounding;
+    }
+
+    /**
+     * Applies the rounding of this instance explicitly. With deferred rounding, the result keeps deferring
+     * the rounding of subsequent operations.
+     *
+     * @return the rounded amount.
+     * @since 1.4.2
+     */
+    public RoundedMoney round() {
+        if (deferredRounding) {
+            return deferred(getBigDecimal());
+        }
+        return with(rounding);
     }
 
     /**
@@ -857,7 +1022,7 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
         if (isZero()) {
             return BigDecimal.ZERO;
         }
-        return number.stripTrailingZeros();
+        return getBigDecimal().stripTrailingZeros();
     }
 
     /**
@@ -935,10 +1100,13 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
 
     @Override
     public RoundedMoney stripTrailingZeros() {
+        if (deferredRounding) {
+            return deferred(number.signum() == 0 ? BigDecimal.ZERO : number.stripTrailingZeros());
+        }
         if (isZero()) {
             return of(BigDecimal.ZERO, getCurrency());
         }
-        return of(number.stripTrailingZeros(), getCurrency());
+        return of(getBigDecimal().stripTrailingZeros(), getCurrency());
     }
 
     @Override
@@ -951,11 +1119,27 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
         return divideToIntegralValue(MoneyUtils.getBigDecimal(divisor));
     }
 
+    /**
+     * Access a factory initialized with this amount. Since the factory can not represent deferred
+     * rounding, the amounts created use immediate rounding, use {@link #withDeferredRounding(boolean)}
+     * on the result to defer the rounding again.
+     *
+     * @return a factory initialized with this amount, never null.
+     */
     @Override
     public MonetaryAmountFactory<RoundedMoney> getFactory() {
         return new RoundedMoneyAmountFactory().setAmount(this);
     }
 
+    /**
+     * Serializes this instance using the compact form defined by {@link Ser}.
+     *
+     * @return the instance to be serialized.
+     */
+    private Object writeReplace() {
+        return new Ser(this);
+    }
+
     private boolean isOne(Number number) {
         BigDecimal bd = MoneyUtils.getBigDecimal(number);
         try {
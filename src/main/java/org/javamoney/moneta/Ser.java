@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2012, 2020, Anatole Tresch, Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.StreamCorruptedException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.MonetaryContext;
+
+/**
+ * The serialized form of {@link FastMoney}, {@link Money} and {@link RoundedMoney}, used by their
+ * {@code writeReplace} methods. The class name is kept short on purpose, since it is written to every
+ * stream containing an amount.
+ * <p>
+ * The form consists of a header byte, defining the amount type and flags, followed by the currency, the
+ * numeric value and, only if it differs from the type's default, the {@link MonetaryContext}:
+ * <ul>
+ * <li>The currency is written as its currency code and resolved using {@link Monetary#getCurrency(String)}
+ * when read. Currencies, which can not be resolved this way, are written as objects.</li>
+ * <li>The numeric value is written as zig-zag encoded variable length unscaled value and scale. Unscaled
+ * values exceeding {@code long} are written as length prefixed two's complement bytes. {@link FastMoney}
+ * only writes its internal {@code long} value, a {@link RoundedMoney} with deferred rounding its unrounded
+ * value.</li>
+ * </ul>
+ */
+final class Ser implements Externalizable {
+
+    private static final long serialVersionUID = 1L;
+
+    static final byte FAST_MONEY = 1;
+    static final byte MONEY = 2;
+    static final byte MONEY_WITH_CONTEXT = 3;
+    static final byte ROUNDED_MONEY = 4;
+    static final byte ROUNDED_MONEY_WITH_CONTEXT = 5;
+
+    private static final int TYPE_MASK = 0x0F;
+    /**
+     * Flag for {@link RoundedMoney} instances with deferred rounding, written with their unrounded value.
+     */
+    private static final int DEFERRED_ROUNDING = 0x20;
+    /**
+     * Flag for unscaled values exceeding {@code long}.
+     */
+    static final int BIG_NUMBER = 0x40;
+    /**
+     * Flag for currencies written as objects.
+     */
+    private static final int CURRENCY_OBJECT = 0x80;
+    /**
+     * The maximal length of unscaled values written as bytes, limiting the memory allocated when reading
+     * untrusted streams.
+     */
+    static final int MAX_NUMBER_LENGTH = 1 << 16;
+
+    /**
+     * The amount serialized, respectively deserialized.
+     */
+    private Object object;
+
+    /**
+     * Constructor used by deserialization.
+     */
+    public Ser() {
+    }
+
+    Ser(Object object) {
+        this.object = object;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        if (object instanceof FastMoney) {
+            FastMoney amount = (FastMoney) object;
+            boolean currencyObject = !isResolvable(amount.getCurrency());
+            out.writeByte(FAST_MONEY | (currencyObject ? CURRENCY_OBJECT : 0));
+            writeCurrency(out, amount.getCurrency(), currencyObject);
+            writeVarLong(out, amount.getRawValue());
+        } else if (object instanceof Money) {
+            Money amount = (Money) object;
+            boolean defaultContext = Money.DEFAULT_MONETARY_CONTEXT.equals(amount.getContext());
+            writeDecimal(out, defaultContext ? MONEY : MONEY_WITH_CONTEXT, amount.getCurrency(),
+                    amount.getBigDecimal());
+            if (!defaultContext) {
+                out.writeObject(amount.getContext());
+            }
+        } else if (object instanceof RoundedMoney) {
+            RoundedMoney amount = (RoundedMoney) object;
+            boolean defaultContext = RoundedMoney.DEFAULT_MONETARY_CONTEXT.equals(amount.getContext());
+            int type = defaultContext ? ROUNDED_MONEY : ROUNDED_MONEY_WITH_CONTEXT;
+            if (amount.isRoundingDeferred()) {
+                type |= DEFERRED_ROUNDING;
+            }
+            writeDecimal(out, type, amount.getCurrency(), amount.getUnroundedNumber());
+            if (!defaultContext) {
+                out.writeObject(amount.getContext());
+            }
+        } else {
+            throw new InvalidObjectException("Unsupported type: " + object);
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        int header = in.readUnsignedByte();
+        CurrencyUnit currency = readCurrency(in, (header & CURRENCY_OBJECT) != 0);
+        switch (header & TYPE_MASK) {
+            case FAST_MONEY:
+                object = FastMoney.ofRaw(readVarLong(in), currency);
+                break;
+            case MONEY:
+                object = Money.of(readDecimal(in, header), currency);
+                break;
+            case MONEY_WITH_CONTEXT: {
+                BigDecimal number = readDecimal(in, header);
+                object = Money.of(number, currency, (MonetaryContext) in.readObject());
+                break;
+            }
+            case ROUNDED_MONEY:
+                object = RoundedMoney.of(readDecimal(in, header), currency)
+                        .withDeferredRounding((header & DEFERRED_ROUNDING) != 0);
+                break;
+            case ROUNDED_MONEY_WITH_CONTEXT: {
+                BigDecimal number = readDecimal(in, header);
+                MonetaryContext context = (MonetaryContext) in.readObject();
+                object = RoundedMoney.ofSerialized(number, currency, context, (header & DEFERRED_ROUNDING) != 0);
+                break;
+            }
+            default:
+                throw new StreamCorruptedException("Unknown amount type: " + header);
+        }
+    }
+
+    /**
+     * Returns the amount deserialized.
+     *
+     * @return the amount.
+     */
+    private Object readResolve() {
+        return object;
+    }
+
+    private static boolean isResolvable(CurrencyUnit currency) {
+        String code = currency.getCurrencyCode();
+        return Monetary.isCurrencyAvailable(code) && currency.equals(Monetary.getCurrency(code));
+    }
+
+    private static void writeCurrency(ObjectOutput out, CurrencyUnit currency, boolean currencyObject)
+            throws IOException {
+        if (currencyObject) {
+            out.writeObject(currency);
+        } else {
+            out.writeUTF(currency.getCurrencyCode());
+        }
+    }
+
+    private static CurrencyUnit readCurrency(ObjectInput in, boolean currencyObject)
+            throws IOException, ClassNotFoundException {
+        if (currencyObject) {
+            return (CurrencyUnit) in.readObject();
+        }
+        return Monetary.getCurrency(in.readUTF());
+    }
+
+    private static void writeDecimal(ObjectOutput out, int type, CurrencyUnit currency, BigDecimal number)
+            throws IOException {
+        boolean currencyObject = !isResolvable(currency);
+        boolean bigNumber = number.precision() > 18;
+        out.writeByte(type | (currencyObject ? CURRENCY_OBJECT : 0) | (bigNumber ? BIG_NUMBER : 0));
+        writeCurrency(out, currency, currencyObject);
+        writeVarLong(out, number.scale());
+        if (bigNumber) {
+            byte[] bytes = number.unscaledValue().toByteArray();
+            if (bytes.length > MAX_NUMBER_LENGTH) {
+                throw new InvalidObjectException("Number too large to be serialized, unscaled value exceeds "
+                        + MAX_NUMBER_LENGTH + " bytes.");
+            }
+            writeVarLong(out, bytes.length);
+            out.write(bytes);
+        } else {
+            writeVarLong(out, number.unscaledValue().longValue());
+        }
+    }
+
+    private static BigDecimal readDecimal(ObjectInput in, int header) throws IOException {
+        long scale = readVarLong(in);
+        if (scale != (int) scale) {
+            throw new StreamCorruptedException("Invalid scale: " + scale);
+        }
+        if ((header & BIG_NUMBER) == 0) {
+            return BigDecimal.valueOf(readVarLong(in), (int) scale);
+        }
+        long length = readVarLong(in);
+        if (length <= 0 || length > MAX_NUMBER_LENGTH) {
+            throw new StreamCorruptedException("Invalid number length: " + length);
+        }
+        byte[] bytes = new byte[(int) length];
+        in.readFully(bytes);
+        return new BigDecimal(new BigInteger(bytes), (int) scale);
+    }
+
+    /**
+     * Writes the given value zig-zag encoded, using 7 bits per byte, so small positive and negative values
+     * take only a few bytes.
+     */
+    static void writeVarLong(ObjectOutput out, long value) throws IOException {
+        long zigZag = (value << 1) ^ (value >> 63);
+        while ((zigZag & ~0x7FL) != 0L) {
+            out.writeByte((int) ((zigZag & 0x7F) | 0x80));
+            zigZag >>>= 7;
+        }
+        out.writeByte((int) zigZag);
+    }
+
+    static long readVarLong(ObjectInput in) throws IOException {
+        long zigZag = 0L;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            zigZag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (zigZag >>> 1) ^ -(zigZag & 1L);
+            }
+        }
+        throw new StreamCorruptedException("Invalid variable length value.");
+    }
+
+}
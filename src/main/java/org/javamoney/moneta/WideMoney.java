@@ -0,0 +1,954 @@
+/*
+  Copyright (c) 2012, 2020, Anatole Tresch, Werner Keil and others by the @author tag.
+
+  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+  use this file except in compliance with the License. You may obtain a copy of
+  the License at
+
+  http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+  License for the specific language governing permissions and limitations under
+  the License.
+ */
+package org.javamoney.moneta;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.MonetaryAmount;
+import javax.money.MonetaryAmountFactory;
+import javax.money.MonetaryContext;
+import javax.money.MonetaryContextBuilder;
+import javax.money.MonetaryException;
+import javax.money.MonetaryOperator;
+import javax.money.MonetaryQuery;
+import javax.money.NumberValue;
+
+import org.javamoney.moneta.spi.DefaultNumberValue;
+import org.javamoney.moneta.spi.MoneyUtils;
+import org.javamoney.moneta.spi.WideMoneyAmountFactory;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+/**
+ * Fixed point implementation of {@link MonetaryAmount}, which internally uses a 128 bit two's complement
+ * number, stored in two {@code long} values, as numeric representation. Compared to {@link FastMoney},
+ * whose range is limited to about 92 trillion, this class covers 38 significant digits, so it is suitable
+ * e.g. for grand totals of large ledgers, whereas addition, subtraction and multiplication still do not
+ * require any {@link BigDecimal} arithmetic.
+ *
+ * The scale is fixed per instance and configured by the {@link MonetaryContext#getMaxScale() maximal
+ * scale} of the {@link MonetaryContext} used, between 0 and {@value #MAX_SCALE}, the default being
+ * {@value #DEFAULT_SCALE} as with {@link FastMoney}. Results not representable with this scale are rounded
+ * using the {@link RoundingMode} of the context, {@link RoundingMode#HALF_EVEN} by default. Amounts added
+ * or subtracted are never rounded, as with {@link FastMoney}, an amount with more fraction digits than this
+ * scale throws an {@link ArithmeticException}, as do results exceeding the 128 bit range.
+ *
+ * Operations with another {@link WideMoney} of the same scale, with {@link FastMoney} and with integral
+ * numbers are evaluated on the 128 bit representation, all others use {@link BigDecimal}.
+ *
+ * @since 1.4.2
+ */
+public final class WideMoney implements MonetaryAmount, Comparable<MonetaryAmount>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The default scale, which equals the scale of {@link FastMoney}.
+     */
+    public static final int DEFAULT_SCALE = 5;
+
+    /**
+     * The maximal scale supported.
+     */
+    public static final int MAX_SCALE = 18;
+
+    /**
+     * The precision, all numbers with up to 38 digits can be represented.
+     */
+    private static final int PRECISION = 38;
+
+    private static final MonetaryContext[] CONTEXTS = new MonetaryContext[MAX_SCALE + 1];
+
+    static {
+        for (int scale = 0; scale <= MAX_SCALE; scale++) {
+            CONTEXTS[scale] = createContext(scale, RoundingMode.HALF_EVEN);
+        }
+    }
+
+    /**
+     * The default {@link MonetaryContext}, with scale {@value #DEFAULT_SCALE} and rounding mode
+     * {@link RoundingMode#HALF_EVEN}.
+     */
+    public static final MonetaryContext DEFAULT_CONTEXT = CONTEXTS[DEFAULT_SCALE];
+
+    /**
+     * Maximum possible value supported with the default scale.
+     */
+    public static final WideMoney MAX_VALUE = new WideMoney(Long.MAX_VALUE, -1L, Monetary.getCurrency("XXX"),
+            DEFAULT_CONTEXT);
+
+    /**
+     * Minimum possible value supported with the default scale.
+     */
+    public static final WideMoney MIN_VALUE = new WideMoney(Long.MIN_VALUE, 0L, Monetary.getCurrency("XXX"),
+            DEFAULT_CONTEXT);
+
+    /**
+     * The currency of this amount.
+     */
+    private final CurrencyUnit currency;
+
+    /**
+     * The upper 64 bits of the numeric value multiplied by 10^scale.
+     */
+    private final long high;
+
+    /**
+     * The lower 64 bits of the numeric value multiplied by 10^scale.
+     */
+    private final long low;
+
+    /**
+     * The {@link MonetaryContext}, defining scale and rounding mode.
+     */
+    private final MonetaryContext monetaryContext;
+
+    /**
+     * The scale, evaluated from the {@link #monetaryContext}.
+     */
+    private final int scale;
+
+    /**
+     * The rounding mode, evaluated from the {@link #monetaryContext}.
+     */
+    private final RoundingMode roundingMode;
+
+    /**
+     * The lazily evaluated {@link NumberValue} of this amount.
+     */
+    private transient NumberValue numberValue;
+
+    private WideMoney(long high, long low, CurrencyUnit currency, MonetaryContext monetaryContext) {
+        this.currency = Objects.requireNonNull(currency, "Currency is required.");
+        this.high = high;
+        this.low = low;
+        this.monetaryContext = monetaryContext;
+        this.scale = monetaryContext.getMaxScale();
+        this.roundingMode = monetaryContext.get(RoundingMode.class);
+    }
+
+    private static MonetaryContext createContext(int scale, RoundingMode roundingMode) {
+        return MonetaryContextBuilder.of(WideMoney.class).setPrecision(PRECISION).setMaxScale(scale)
+                .setFixedScale(true).set(roundingMode).build();
+    }
+
+    /**
+     * Evaluates the normalized {@link MonetaryContext} for the given context.
+     *
+     * @param monetaryContext the context, not null.
+     * @return the context containing scale and rounding mode.
+     * @throws MonetaryException if the scale is not supported.
+     */
+    private static MonetaryContext evaluateContext(MonetaryContext monetaryContext) {
+        Objects.requireNonNull(monetaryContext, "MonetaryContext is required.");
+        int scale = monetaryContext.getMaxScale() < 0 ? DEFAULT_SCALE : monetaryContext.getMaxScale();
+        if (scale > MAX_SCALE) {
+            throw new MonetaryException("Scale exceeds maximal scale of WideMoney (" + MAX_SCALE + "): "
+                    + monetaryContext);
+        }
+        RoundingMode roundingMode = monetaryContext.get(RoundingMode.class);
+        if (roundingMode == null || roundingMode == RoundingMode.HALF_EVEN) {
+            return CONTEXTS[scale];
+        }
+        return createContext(scale, roundingMode);
+    }
+
+    /**
+     * Static factory method for creating a new instance of {@link WideMoney} using the
+     * {@link #DEFAULT_CONTEXT}.
+     *
+     * @param number   The numeric part, not null.
+     * @param currency The target currency, not null.
+     * @return A new instance of {@link WideMoney}.
+     * @throws ArithmeticException if the number exceeds the capabilities of this class.
+     */
+    public static WideMoney of(Number number, CurrencyUnit currency) {
+        return of(number, currency, DEFAULT_CONTEXT);
+    }
+
+    /**
+     * Static factory method for creating a new instance of {@link WideMoney} using the
+     * {@link #DEFAULT_CONTEXT}.
+     *
+     * @param number       The numeric part, not null.
+     * @param currencyCode The target currency as currency code.
+     * @return A new instance of {@link WideMoney}.
+     * @throws ArithmeticException if the number exceeds the capabilities of this class.
+     */
+    public static WideMoney of(Number number, String currencyCode) {
+        return of(number, Monetary.getCurrency(currencyCode));
+    }
+
+    /**
+     * Static factory method for creating a new instance of {@link WideMoney}.
+     *
+     * @param number          The numeric part, not null.
+     * @param currency        The target currency, not null.
+     * @param monetaryContext the context, defining scale and rounding mode, not null.
+     * @return A new instance of {@link WideMoney}.
+     * @throws ArithmeticException if the number exceeds the capabilities of this class.
+     * @throws MonetaryException   if the scale of the context is not supported.
+     */
+    public static WideMoney of(Number number, CurrencyUnit currency, MonetaryContext monetaryContext) {
+        Objects.requireNonNull(number, "Number is required.");
+        Objects.requireNonNull(currency, "Currency is required.");
+        MonetaryContext context = evaluateContext(monetaryContext);
+        int scale = context.getMaxScale();
+        if (FastMoney.isIntegral(number)) {
+            long value = number.longValue();
+            long[] unscaled = multiply(value >> 63, value, FastMoney.POWERS_OF_TEN[scale]);
+            return new WideMoney(unscaled[0], unscaled[1], currency, context);
+        }
+        long[] unscaled = toUnscaled(MoneyUtils.getBigDecimal(number), scale, context.get(RoundingMode.class));
+        return new WideMoney(unscaled[0], unscaled[1], currency, context);
+    }
+
+    /**
+     * Obtains an instance of {@link WideMoney} representing zero.
+     *
+     * @param currency the target currency, not null.
+     * @return an instance of {@link WideMoney} representing zero.
+     */
+    public static WideMoney zero(CurrencyUnit currency) {
+        return new WideMoney(0L, 0L, currency, DEFAULT_CONTEXT);
+    }
+
+    /**
+     * Converts the given amount into a {@link WideMoney} with the {@link #DEFAULT_CONTEXT}. A
+     * {@link FastMoney} is converted without {@link BigDecimal} evaluation, a {@link WideMoney} is returned
+     * unchanged.
+     *
+     * @param amount the amount, not null.
+     * @return the corresponding {@link WideMoney}.
+     * @throws ArithmeticException if the amount exceeds the capabilities of this class, or can not be
+     *                             represented with the scale of the {@link #DEFAULT_CONTEXT} without rounding.
+     */
+    public static WideMoney from(MonetaryAmount amount) {
+        if (amount instanceof WideMoney) {
+            return (WideMoney) amount;
+        }
+        if (amount instanceof FastMoney) {
+            long raw = ((FastMoney) amount).getRawValue();
+            return new WideMoney(raw >> 63, raw, amount.getCurrency(), DEFAULT_CONTEXT);
+        }
+        long[] unscaled = toUnscaledExact(amount.getNumber().numberValue(BigDecimal.class),
+                DEFAULT_CONTEXT.getMaxScale());
+        return new WideMoney(unscaled[0], unscaled[1], amount.getCurrency(), DEFAULT_CONTEXT);
+    }
+
+    /**
+     * Converts this amount into a {@link FastMoney}, rounding with the rounding mode of this amount, if the
+     * scale of this amount exceeds the scale of {@link FastMoney}.
+     *
+     * @return the corresponding {@link FastMoney}.
+     * @throws ArithmeticException if this amount exceeds the range of {@link FastMoney}.
+     */
+    public FastMoney toFastMoney() {
+        long[] raw = rescale(FastMoney.SCALE);
+        if (raw[0] != raw[1] >> 63) {
+            throw new ArithmeticException("Overflow: " + this + " exceeds the range of FastMoney.");
+        }
+        return FastMoney.ofRaw(raw[1], currency);
+    }
+
+    /**
+     * Converts this amount into a {@link Money} with the default context of {@link Money}.
+     *
+     * @return the corresponding {@link Money}.
+     */
+    public Money toMoney() {
+        return Money.of(getBigDecimal(), currency);
+    }
+
+    /**
+     * Returns the amount’s currency, modelled as {@link CurrencyUnit}.
+     *
+     * @return the currency, never {@code null}
+     * @see javax.money.MonetaryAmount#getCurrency()
+     */
+    @Override
+    public CurrencyUnit getCurrency() {
+        return currency;
+    }
+
+    /**
+     * Access the {@link MonetaryContext} used by this instance.
+     *
+     * @return the {@link MonetaryContext} used, never null.
+     * @see javax.money.MonetaryAmount#getContext()
+     */
+    @Override
+    public MonetaryContext getContext() {
+        return monetaryContext;
+    }
+
+    /**
+     * Access the fixed scale of this amount.
+     *
+     * @return the scale, between 0 and {@value #MAX_SCALE}.
+     */
+    public int getScale() {
+        return scale;
+    }
+
+    /*
+     * @see java.lang.Comparable#compareTo(java.lang.Object)
+     */
+    @Override
+    public int compareTo(MonetaryAmount o) {
+        Objects.requireNonNull(o);
+        int compare = 0;
+        if (currency != o.getCurrency()) {
+            compare = getCurrency().getCurrencyCode().compareTo(o.getCurrency().getCurrencyCode());
+        }
+        if (compare == 0) {
+            compare = compareNumber(o);
+        }
+        return compare;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(currency, high, low, scale);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof WideMoney) {
+            WideMoney other = (WideMoney) obj;
+            return Objects.equals(currency, other.currency) && high == other.high && low == other.low
+                    && scale == other.scale;
+        }
+        return false;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see MonetaryAmount#abs()
+     */
+    @Override
+    public WideMoney abs() {
+        if (this.isPositiveOrZero()) {
+            return this;
+        }
+        return this.negate();
+    }
+
+    // Arithmetic Operations
+
+    /*
+     * (non-Javadoc)
+     * @see MonetaryAmount#add(MonetaryAmount)
+     */
+    @Override
+    public WideMoney add(MonetaryAmount amount) {
+        MoneyUtils.checkAmountParameter(amount, this.currency);
+        long[] other = toUnscaled(amount);
+        long sumLow = low + other[1];
+        long sumHigh = high + other[0] + (FastMoney.compareUnsigned(sumLow, low) < 0 ? 1L : 0L);
+        if (((high ^ sumHigh) & (other[0] ^ sumHigh)) < 0L) {
+            throw overflow(sumHigh < 0L);
+        }
+        return create(sumHigh, sumLow);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see MonetaryAmount#subtract(MonetaryAmount)
+     */
+    @Override
+    public WideMoney subtract(MonetaryAmount amount) {
+        MoneyUtils.checkAmountParameter(amount, this.currency);
+        long[] other = toUnscaled(amount);
+        long differenceLow = low - other[1];
+        long differenceHigh = high - other[0] - (FastMoney.compareUnsigned(low, other[1]) < 0 ? 1L : 0L);
+        if (((high ^ other[0]) & (high ^ differenceHigh)) < 0L) {
+            throw overflow(differenceHigh < 0L);
+        }
+        return create(differenceHigh, differenceLow);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see MonetaryAmount#negate()
+     */
+    @Override
+    public WideMoney negate() {
+        if (high == Long.MIN_VALUE && low == 0L) {
+            throw overflow(true);
+        }
+        return create(~high + (low == 0L ? 1L : 0L), -low);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see MonetaryAmount#plus()
+     */
+    @Override
+    public WideMoney plus() {
+        return this;
+    }
+
+    @Override
+    public WideMoney multiply(long multiplicand) {
+        if (multiplicand == 1L) {
+            return this;
+        }
+        long[] product = multiply(high, low, multiplicand);
+        return create(product[0], product[1]);
+    }
+
+    @Override
+    public WideMoney multiply(double multiplicand) {
+        NumberVerifier.checkNoInfinityOrNaN(multiplicand);
+        if (multiplicand == 1.0d) {
+            return this;
+        }
+        return multiply(BigDecimal.valueOf(multiplicand));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see MonetaryAmount#multiply(Number)
+     */
+    @Override
+    public WideMoney multiply(Number multiplicand) {
+        Objects.requireNonNull(multiplicand, "Number is required.");
+        if (FastMoney.isIntegral(multiplicand)) {
+            return multiply(multiplicand.longValue());
+        }
+        NumberVerifier.checkNoInfinityOrNaN(multiplicand);
+        BigDecimal factor = MoneyUtils.getBigDecimal(multiplicand);
+        if (factor.scale() >= 0 && factor.scale() <= MAX_SCALE && factor.precision() <= MAX_SCALE) {
+            long unscaled = factor.unscaledValue().longValue();
+            long[] product = multiplyDivide(high, low, unscaled, FastMoney.POWERS_OF_TEN[factor.scale()],
+                    roundingMode);
+            return create(product[0], product[1]);
+        }
+        long[] product = toUnscaled(getBigDecimal().multiply(factor), scale, roundingMode);
+        return create(product[0], product[1]);
+    }
+
+    @Override
+    public WideMoney divide(long divisor) {
+        if (divisor == 1L) {
+            return this;
+        }
+        long[] quotient = multiplyDivide(high, low, 1L, divisor, roundingMode);
+        return create(quotient[0], quotient[1]);
+    }
+
+    @Override
+    public WideMoney divide(double divisor) {
+        if (NumberVerifier.isInfinityAndNotNaN(divisor)) {
+            return create(0L, 0L);
+        }
+        if (divisor == 1.0d) {
+            return this;
+        }
+        return divide(BigDecimal.valueOf(divisor));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see MonetaryAmount#divide(Number)
+     */
+    @Override
+    public WideMoney divide(Number divisor) {
+        Objects.requireNonNull(divisor, "Number is required.");
+        if (FastMoney.isIntegral(divisor)) {
+            return divide(divisor.longValue());
+        }
+        if (NumberVerifier.isInfinityAndNotNaN(divisor)) {
+            return create(0L, 0L);
+        }
+        NumberVerifier.checkNoInfinityOrNaN(divisor);
+        BigDecimal quotient = getBigDecimal().divide(MoneyUtils.getBigDecimal(divisor), scale, roundingMode);
+        long[] unscaled = toUnscaled(quotient, scale, roundingMode);
+        return create(unscaled[0], unscaled[1]);
+    }
+
+    @Override
+    public WideMoney remainder(long divisor) {
+        return remainder(BigDecimal.valueOf(divisor));
+    }
+
+    @Override
+    public WideMoney remainder(double divisor) {
+        if (NumberVerifier.isInfinityAndNotNaN(divisor)) {
+            return create(0L, 0L);
+        }
+        return remainder(BigDecimal.valueOf(divisor));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see MonetaryAmount#remainder(Number)
+     */
+    @Override
+    public WideMoney remainder(Number divisor) {
+        Objects.requireNonNull(divisor, "Number is required.");
+        BigDecimal remainder = getBigDecimal().remainder(MoneyUtils.getBigDecimal(divisor));
+        long[] unscaled = toUnscaled(remainder, scale, roundingMode);
+        return create(unscaled[0], unscaled[1]);
+    }
+
+    @Override
+    public WideMoney[] divideAndRemainder(long divisor) {
+        return divideAndRemainder(BigDecimal.valueOf(divisor));
+    }
+
+    @Override
+    public WideMoney[] divideAndRemainder(double divisor) {
+        if (NumberVerifier.isInfinityAndNotNaN(divisor)) {
+            WideMoney zero = create(0L, 0L);
+            return new WideMoney[]{zero, zero};
+        } else if (Double.isNaN(divisor)) {
+            throw new ArithmeticException("Not a number: NaN.");
+        }
+        return divideAndRemainder(BigDecimal.valueOf(divisor));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see MonetaryAmount#divideAndRemainder(Number)
+     */
+    @Override
+    public WideMoney[] divideAndRemainder(Number divisor) {
+        Objects.requireNonNull(divisor, "Number is required.");
+        BigDecimal[] result = getBigDecimal().divideAndRemainder(MoneyUtils.getBigDecimal(divisor));
+        long[] quotient = toUnscaled(result[0], scale, roundingMode);
+        long[] remainder = toUnscaled(result[1], scale, roundingMode);
+        return new WideMoney[]{create(quotient[0], quotient[1]), create(remainder[0], remainder[1])};
+    }
+
+    @Override
+    public WideMoney divideToIntegralValue(long divisor) {
+        if (divisor == 1L) {
+            return this;
+        }
+        return divideToIntegralValue(BigDecimal.valueOf(divisor));
+    }
+
+    @Override
+    public WideMoney divideToIntegralValue(double divisor) {
+        if (NumberVerifier.isInfinityAndNotNaN(divisor)) {
+            return create(0L, 0L);
+        }
+        if (divisor == 1.0d) {
+            return this;
+        }
+        return divideToIntegralValue(BigDecimal.valueOf(divisor));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see MonetaryAmount#divideToIntegralValue(Number)
+     */
+    @Override
+    public WideMoney divideToIntegralValue(Number divisor) {
+        Objects.requireNonNull(divisor, "Number is required.");
+        BigDecimal result = getBigDecimal().divideToIntegralValue(MoneyUtils.getBigDecimal(divisor));
+        long[] unscaled = toUnscaled(result, scale, roundingMode);
+        return create(unscaled[0], unscaled[1]);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see MonetaryAmount#scaleByPowerOfTen(int)
+     */
+    @Override
+    public WideMoney scaleByPowerOfTen(int n) {
+        long[] unscaled = toUnscaled(getBigDecimal().scaleByPowerOfTen(n), scale, roundingMode);
+        return create(unscaled[0], unscaled[1]);
+    }
+
+    @Override
+    public WideMoney stripTrailingZeros() {
+        return this;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see MonetaryAmount#isZero()
+     */
+    @Override
+    public boolean isZero() {
+        return high == 0L && low == 0L;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see MonetaryAmount#isPositive()
+     */
+    @Override
+    public boolean isPositive() {
+        return high > 0L || (high == 0L && low != 0L);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see MonetaryAmount#isPositiveOrZero()
+     */
+    @Override
+    public boolean isPositiveOrZero() {
+        return high >= 0L;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see MonetaryAmount#isNegative()
+     */
+    @Override
+    public boolean isNegative() {
+        return high < 0L;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see MonetaryAmount#isNegativeOrZero()
+     */
+    @Override
+    public boolean isNegativeOrZero() {
+        return !isPositive();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see MonetaryAmount#signum()
+     */
+    @Override
+    public int signum() {
+        if (high < 0L) {
+            return -1;
+        }
+        return isZero() ? 0 : 1;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see MonetaryAmount#lessThan(MonetaryAmount)
+     */
+    @Override
+    public boolean isLessThan(MonetaryAmount amount) {
+        MoneyUtils.checkAmountParameter(amount, this.currency);
+        return compareNumber(amount) < 0;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see MonetaryAmount#lessThanOrEqualTo(MonetaryAmount)
+     */
+    @Override
+    public boolean isLessThanOrEqualTo(MonetaryAmount amount) {
+        MoneyUtils.checkAmountParameter(amount, this.currency);
+        return compareNumber(amount) <= 0;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see MonetaryAmount#greaterThan(MonetaryAmount)
+     */
+    @Override
+    public boolean isGreaterThan(MonetaryAmount amount) {
+        MoneyUtils.checkAmountParameter(amount, this.currency);
+        return compareNumber(amount) > 0;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see MonetaryAmount#greaterThanOrEqualTo(MonetaryAmount)
+     */
+    @Override
+    public boolean isGreaterThanOrEqualTo(MonetaryAmount amount) {
+        MoneyUtils.checkAmountParameter(amount, this.currency);
+        return compareNumber(amount) >= 0;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see MonetaryAmount#isEqualTo(MonetaryAmount)
+     */
+    @Override
+    public boolean isEqualTo(MonetaryAmount amount) {
+        MoneyUtils.checkAmountParameter(amount, this.currency);
+        return compareNumber(amount) == 0;
+    }
+
+    /**
+     * Gets the number representation of the numeric value of this item.
+     *
+     * @return The {@link Number} represention matching best.
+     */
+    @Override
+    public NumberValue getNumber() {
+        NumberValue value = this.numberValue;
+        if (value == null) {
+            value = new DefaultNumberValue(getBigDecimal());
+            this.numberValue = value;
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return currency.toString() + ' ' + getBigDecimal().toPlainString();
+    }
+
+    /*
+     * }(non-Javadoc)
+     * @see MonetaryAmount#adjust(org.javamoney.bp.AmountAdjuster)
+     */
+    @Override
+    public WideMoney with(MonetaryOperator operator) {
+        Objects.requireNonNull(operator);
+        try {
+            return WideMoney.class.cast(operator.apply(this));
+        } catch (ArithmeticException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new MonetaryException("Operator failed: " + operator, e);
+        }
+    }
+
+    @Override
+    public <R> R query(MonetaryQuery<R> query) {
+        Objects.requireNonNull(query);
+        try {
+            return query.queryFrom(this);
+        } catch (MonetaryException | ArithmeticException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new MonetaryException("Query failed: " + query, e);
+        }
+    }
+
+    @Override
+    public MonetaryAmountFactory<WideMoney> getFactory() {
+        return new WideMoneyAmountFactory().setAmount(this);
+    }
+
+    // Internal helper methods
+
+    private WideMoney create(long high, long low) {
+        return new WideMoney(high, low, currency, monetaryContext);
+    }
+
+    private BigDecimal getBigDecimal() {
+        if (high == low >> 63) {
+            return BigDecimal.valueOf(low, scale);
+        }
+        byte[] bytes = new byte[16];
+        for (int i = 0; i < 8; i++) {
+            bytes[i] = (byte) (high >>> (56 - 8 * i));
+            bytes[i + 8] = (byte) (low >>> (56 - 8 * i));
+        }
+        return new BigDecimal(new BigInteger(bytes), scale);
+    }
+
+    /**
+     * Compares the numeric value of this instance with the numeric value of the given amount. Another
+     * {@link WideMoney} of the same scale and a {@link FastMoney} are compared on their internal
+     * representation, all other amounts are evaluated using {@link BigDecimal}.
+     */
+    private int compareNumber(MonetaryAmount amount) {
+        if (amount instanceof WideMoney && ((WideMoney) amount).scale == scale) {
+            WideMoney other = (WideMoney) amount;
+            return compare(high, low, other.high, other.low);
+        }
+        if (amount instanceof FastMoney && scale >= FastMoney.SCALE) {
+            long raw = ((FastMoney) amount).getRawValue();
+            long[] other = multiply(raw >> 63, raw, FastMoney.POWERS_OF_TEN[scale - FastMoney.SCALE]);
+            return compare(high, low, other[0], other[1]);
+        }
+        return getBigDecimal().compareTo(amount.getNumber().numberValue(BigDecimal.class));
+    }
+
+    private static int compare(long high1, long low1, long high2, long low2) {
+        int compare = Long.compare(high1, high2);
+        return compare != 0 ? compare : FastMoney.compareUnsigned(low1, low2);
+    }
+
+    /**
+     * Evaluates the internal representation of the given amount for the scale of this instance.
+     *
+     * @throws ArithmeticException if the amount can not be represented with the scale of this instance
+     *                             without rounding, or exceeds 128 bits.
+     */
+    private long[] toUnscaled(MonetaryAmount amount) {
+        if (amount instanceof WideMoney) {
+            WideMoney other = (WideMoney) amount;
+            if (other.scale == scale) {
+                return new long[]{other.high, other.low};
+            }
+            if (other.scale < scale) {
+                return other.rescale(scale);
+            }
+            return toUnscaledExact(other.getBigDecimal(), scale);
+        }
+        if (amount instanceof FastMoney && scale >= FastMoney.SCALE) {
+            long raw = ((FastMoney) amount).getRawValue();
+            return multiply(raw >> 63, raw, FastMoney.POWERS_OF_TEN[scale - FastMoney.SCALE]);
+        }
+        return toUnscaledExact(amount.getNumber().numberValue(BigDecimal.class), scale);
+    }
+
+    /**
+     * Evaluates the 128 bit representation of the given number with the given scale, without rounding.
+     *
+     * @throws ArithmeticException if the number has more significant fraction digits than the given scale,
+     *                             or exceeds 128 bits.
+     */
+    private static long[] toUnscaledExact(BigDecimal number, int scale) {
+        if (number.scale() > scale && number.stripTrailingZeros().scale() > scale) {
+            throw new ArithmeticException(number + " can not be represented by this class, scale > " + scale);
+        }
+        return toUnscaled(number, scale, RoundingMode.UNNECESSARY);
+    }
+
+    private long[] rescale(int targetScale) {
+        return rescale(targetScale, roundingMode);
+    }
+
+    private long[] rescale(int targetScale, RoundingMode mode) {
+        if (targetScale >= scale) {
+            return multiply(high, low, FastMoney.POWERS_OF_TEN[targetScale - scale]);
+        }
+        return multiplyDivide(high, low, 1L, FastMoney.POWERS_OF_TEN[scale - targetScale], mode);
+    }
+
+    /**
+     * Evaluates the 128 bit representation of the given number with the given scale.
+     *
+     * @throws ArithmeticException if the number exceeds 128 bits.
+     */
+    private static long[] toUnscaled(BigDecimal number, int scale, RoundingMode roundingMode) {
+        BigInteger unscaled = number.setScale(scale, roundingMode).unscaledValue();
+        if (unscaled.bitLength() > 127) {
+            throw overflow(unscaled.signum() > 0);
+        }
+        return new long[]{unscaled.shiftRight(64).longValue(), unscaled.longValue()};
+    }
+
+    /**
+     * Multiplies the 128 bit value {@code high:low} with the given factor.
+     *
+     * @return the 128 bit product.
+     * @throws ArithmeticException if the product exceeds 128 bits.
+     */
+    private static long[] multiply(long high, long low, long factor) {
+        boolean negative = (high < 0L) != (factor < 0L);
+        if (high < 0L) {
+            high = ~high + (low == 0L ? 1L : 0L);
+            low = -low;
+        }
+        // magnitudes are treated as unsigned, so Long.MIN_VALUE represents 2^63
+        long f = Math.abs(factor);
+        long productLow = low * f;
+        long carry = FastMoney.multiplyHighUnsigned(low, f);
+        long productHigh = high * f + carry;
+        if (FastMoney.multiplyHighUnsigned(high, f) != 0L
+                || FastMoney.compareUnsigned(productHigh, carry) < 0) {
+            throw overflow(!negative);
+        }
+        return withSign(productHigh, productLow, negative);
+    }
+
+    /**
+     * Evaluates <code>(high:low) * factor / divisor</code> exactly, using a 192 bit intermediate result,
+     * and rounds the quotient using the given {@link RoundingMode}.
+     *
+     * @return the 128 bit result.
+     * @throws ArithmeticException if the divisor is zero or the result exceeds 128 bits.
+     */
+    private static long[] multiplyDivide(long high, long low, long factor, long divisor,
+                                         RoundingMode roundingMode) {
+        if (divisor == 0L) {
+            throw new ArithmeticException("Division by zero");
+        }
+        boolean negative = (high < 0L) != ((factor < 0L) != (divisor < 0L));
+        if (high < 0L) {
+            high = ~high + (low == 0L ? 1L : 0L);
+            low = -low;
+        }
+        // magnitudes are treated as unsigned, so Long.MIN_VALUE represents 2^63
+        long f = Math.abs(factor);
+        long d = Math.abs(divisor);
+        long word0 = low * f;
+        long carry = FastMoney.multiplyHighUnsigned(low, f);
+        long word1 = high * f + carry;
+        long word2 = FastMoney.multiplyHighUnsigned(high, f)
+                + (FastMoney.compareUnsigned(word1, carry) < 0 ? 1L : 0L);
+        long[] division = FastMoney.divideUnsigned128(0L, word2, d);
+        if (division[0] != 0L) {
+            throw overflow(!negative);
+        }
+        division = FastMoney.divideUnsigned128(division[1], word1, d);
+        long quotientHigh = division[0];
+        division = FastMoney.divideUnsigned128(division[1], word0, d);
+        long quotientLow = division[0];
+        long remainder = division[1];
+        if (remainder != 0L && FastMoney.roundUp(roundingMode, negative ? -1 : 1, quotientLow, remainder, d)) {
+            quotientLow++;
+            if (quotientLow == 0L) {
+                quotientHigh++;
+                if (quotientHigh == 0L) {
+                    throw overflow(!negative);
+                }
+            }
+        }
+        return withSign(quotientHigh, quotientLow, negative);
+    }
+
+    /**
+     * Applies the sign to an unsigned 128 bit magnitude.
+     *
+     * @throws ArithmeticException if the magnitude exceeds the signed 128 bit range.
+     */
+    private static long[] withSign(long high, long low, boolean negative) {
+        if (negative) {
+            if (high < 0L && (high != Long.MIN_VALUE || low != 0L)) {
+                throw overflow(false);
+            }
+            return new long[]{~high + (low == 0L ? 1L : 0L), -low};
+        }
+        if (high < 0L) {
+            throw overflow(true);
+        }
+        return new long[]{high, low};
+    }
+
+    private static ArithmeticException overflow(boolean positive) {
+        return new ArithmeticException(positive ? "128 bit evaluation positive overflow."
+                : "128 bit evaluation negative overflow.");
+    }
+
+}
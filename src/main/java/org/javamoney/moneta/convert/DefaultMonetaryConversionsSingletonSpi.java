@@ -17,6 +17,7 @@ package org.javamoney.moneta.convert;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -43,10 +44,17 @@ public class DefaultMonetaryConversionsSingletonSpi extends BaseMonetaryConversi
      */
     private static final Logger LOG = Logger.getLogger(DefaultMonetaryConversionsSingletonSpi.class.getName());
 
+    private static final String DEFAULT_CHAIN_KEY = "conversion.default-chain";
+
     /**
      * The providers loaded.
      */
-    private Map<String, ExchangeRateProvider> conversionProviders = new ConcurrentHashMap<>();
+    private volatile Map<String, ExchangeRateProvider> conversionProviders = new ConcurrentHashMap<>();
+
+    /**
+     * The default provider chain evaluated last, or null.
+     */
+    private volatile DefaultChain defaultProviderChain;
 
     /**
      * Constructors, loads the providers from the {@link javax.money.spi.Bootstrap} component.
@@ -126,7 +134,7 @@ public class DefaultMonetaryConversionsSingletonSpi extends BaseMonetaryConversi
         List<String> providersToUse = new ArrayList<>();
         List<String> providers = query.getProviderNames();
         if (providers.isEmpty()) {
-            providers = getDefaultProviderChain();
+            providers = getDefaultChain();
             if (providers.isEmpty()) {
                 throw new IllegalStateException("No default provider chain available.");
             }
@@ -148,12 +156,34 @@ public class DefaultMonetaryConversionsSingletonSpi extends BaseMonetaryConversi
 
     @Override
     public List<String> getDefaultProviderChain() {
+        return new ArrayList<>(getDefaultChain());
+    }
+
+    /**
+     * Access the default provider chain, evaluated once after each reload or change of the configuration.
+     * Changes are detected by the identity of the providers loaded and of the configured list, which
+     * {@link MonetaryConfig#getList(String)} keeps until the configuration changes.
+     *
+     * @return the immutable default provider chain, never null.
+     */
+    private List<String> getDefaultChain() {
+        List<String> configured = MonetaryConfig.getList(DEFAULT_CHAIN_KEY);
+        Map<String, ExchangeRateProvider> providers = this.conversionProviders;
+        DefaultChain chain = this.defaultProviderChain;
+        if (chain == null || chain.configured != configured || chain.providers != providers) {
+            chain = new DefaultChain(configured, providers,
+                    Collections.unmodifiableList(evaluateDefaultProviderChain(configured, providers)));
+            this.defaultProviderChain = chain;
+        }
+        return chain.chain;
+    }
+
+    private List<String> evaluateDefaultProviderChain(List<String> defaultChain,
+                                                      Map<String, ExchangeRateProvider> providers) {
         List<String> provList = new ArrayList<>();
-        String defaultChain = MonetaryConfig.getConfig().get("conversion.default-chain");
         if(defaultChain!=null) {
-            String[] items = defaultChain.split(",");
-            for (String item : items) {
-                if (getProviderNames().contains(item.trim())) {
+            for (String item : defaultChain) {
+                if (providers.containsKey(item)) {
                     provList.add(item);
                 } else {
                     LOG.warning("Ignoring non existing default provider: " + item);
@@ -168,5 +198,21 @@ public class DefaultMonetaryConversionsSingletonSpi extends BaseMonetaryConversi
         return provList;
     }
 
+    /**
+     * A default provider chain, together with the configuration and providers it was evaluated from.
+     */
+    private static final class DefaultChain {
+
+        private final List<String> configured;
+        private final Map<String, ExchangeRateProvider> providers;
+        private final List<String> chain;
+
+        DefaultChain(List<String> configured, Map<String, ExchangeRateProvider> providers, List<String> chain) {
+            this.configured = configured;
+            this.providers = providers;
+            this.chain = chain;
+        }
+    }
+
 
 }
@@ -72,12 +72,12 @@ class ExchangeRateMonetarySummaryStatistics  extends DefaultMonetarySummaryStati
 		ExchangeRateMonetarySummaryStatistics another = new ExchangeRateMonetarySummaryStatistics(
 				getCurrencyUnit(), provider);
 
-		another.average = currencyConversion.apply(summary
-				.getAverage());
+		another.setAverage(currencyConversion.apply(summary
+				.getAverage()));
 		another.count = summary.getCount();
 		another.max = currencyConversion.apply(summary.getMax());
 		another.min = currencyConversion.apply(summary.getMin());
-		another.sum = currencyConversion.apply(summary.getSum());
+		another.setSum(currencyConversion.apply(summary.getSum()));
 		return another;
 	}
 
@@ -95,11 +95,11 @@ class ExchangeRateMonetarySummaryStatistics  extends DefaultMonetarySummaryStati
 		CurrencyConversion currencyConversion = provider.getCurrencyConversion(unit);
 		ExchangeRateMonetarySummaryStatistics another = new ExchangeRateMonetarySummaryStatistics(
 				unit, provider);
-		another.average = currencyConversion.apply(average);
+		another.setAverage(currencyConversion.apply(getAverage()));
 		another.count = count;
 		another.max = currencyConversion.apply(max);
 		another.min = currencyConversion.apply(min);
-		another.sum = currencyConversion.apply(sum);
+		another.setSum(currencyConversion.apply(getSum()));
 		return another;
 	}
 
@@ -34,14 +34,46 @@ public class DefaultMonetarySummaryStatistics implements MonetarySummaryStatisti
 
     private final MonetaryAmount empty;
 
+    /**
+     * Accumulates the amounts after the first one, created lazily. While amounts are accumulated,
+     * {@link #sum} and {@link #average} are null and evaluated on access only.
+     */
+    private MonetaryAccumulator accumulator;
+
+    /**
+     * The value of {@link #sum} the {@link #accumulator} was created from or evaluated last, so an assignment
+     * of {@link #sum} by a subclass is detected and the accumulator is recreated from it.
+     */
+    private MonetaryAmount accumulatedSum;
+
+    /**
+     * If the sum is a {@link FastMoney}, whose range is checked on each accumulated amount.
+     */
+    private boolean fastMoneySum;
+
     protected long count;
 
     protected MonetaryAmount min;
 
     protected MonetaryAmount max;
 
+    /**
+     * The sum, evaluated lazily.
+     *
+     * @deprecated the sum is null after amounts were accumulated until {@link #getSum()} is called, use
+     * {@link #getSum()} and {@link #setSum(MonetaryAmount)} instead. A value still assigned directly
+     * replaces the sum accumulated so far.
+     */
+    @Deprecated
     protected MonetaryAmount sum;
 
+    /**
+     * The average, evaluated lazily.
+     *
+     * @deprecated the average is null after amounts were accumulated until {@link #getAverage()} is called,
+     * use {@link #getAverage()} and {@link #setAverage(MonetaryAmount)} instead.
+     */
+    @Deprecated
     protected MonetaryAmount average;
 
     /**
@@ -74,6 +106,7 @@ public class DefaultMonetarySummaryStatistics implements MonetarySummaryStatisti
         }
         if (isEmpty()) {
             setSameMonetary(amount);
+            accumulator = null;
             count++;
         } else {
             doSummary(amount);
@@ -93,19 +126,49 @@ public class DefaultMonetarySummaryStatistics implements MonetarySummaryStatisti
         if (!equals(summaryStatistics)) {
             return this;
         }
+        addToSum(summaryStatistics.getSum());
         min = MonetaryFunctions.min(min, summaryStatistics.getMin());
         max = MonetaryFunctions.max(max, summaryStatistics.getMax());
-        sum = sum.add(summaryStatistics.getSum());
         count += summaryStatistics.getCount();
-        average = sum.divide(count);
         return this;
     }
 
     private void doSummary(MonetaryAmount monetaryAmount) {
+        addToSum(monetaryAmount);
         min = MonetaryFunctions.min(min, monetaryAmount);
         max = MonetaryFunctions.max(max, monetaryAmount);
-        sum = sum.add(monetaryAmount);
-        average = sum.divide(++count);
+        ++count;
+    }
+
+    /**
+     * Adds the given amount to the sum, a {@link FastMoney} sum exceeding its range is rejected leaving
+     * the sum unchanged, as {@link FastMoney#add(MonetaryAmount)} does.
+     *
+     * @throws ArithmeticException if the sum exceeds the capabilities of {@link FastMoney}.
+     */
+    private void addToSum(MonetaryAmount amount) {
+        MonetaryAccumulator acc = getAccumulator();
+        acc.add(amount);
+        if (fastMoneySum) {
+            try {
+                acc.checkFastMoney();
+            } catch (ArithmeticException e) {
+                acc.subtract(amount);
+                throw e;
+            }
+        }
+        sum = null;
+        accumulatedSum = null;
+        average = null;
+    }
+
+    private MonetaryAccumulator getAccumulator() {
+        if (accumulator == null || (sum != null && sum != accumulatedSum)) {
+            accumulator = MonetaryAccumulator.of(sum);
+            accumulatedSum = sum;
+            fastMoneySum = sum instanceof FastMoney;
+        }
+        return accumulator;
     }
 
     private boolean isEmpty() {
@@ -139,12 +202,40 @@ public class DefaultMonetarySummaryStatistics implements MonetarySummaryStatisti
 
     @Override
     public MonetaryAmount getSum() {
+        if (sum == null) {
+            sum = accumulator.getSum();
+            accumulatedSum = sum;
+        }
         return sum;
     }
 
 
+    /**
+     * Replaces the sum, subsequently accepted amounts are added to the given sum.
+     *
+     * @param sum the new sum, not null.
+     * @since 1.4.2
+     */
+    protected void setSum(MonetaryAmount sum) {
+        this.sum = Objects.requireNonNull(sum);
+        this.accumulator = null;
+    }
+
+    /**
+     * Replaces the average, which is returned by {@link #getAverage()} until the next amount is accepted.
+     *
+     * @param average the new average, not null.
+     * @since 1.4.2
+     */
+    protected void setAverage(MonetaryAmount average) {
+        this.average = Objects.requireNonNull(average);
+    }
+
     @Override
     public MonetaryAmount getAverage() {
+        if (average == null) {
+            average = getAccumulator().getAverage(count);
+        }
         return average;
     }
 
@@ -170,8 +261,8 @@ public class DefaultMonetarySummaryStatistics implements MonetarySummaryStatisti
                 "count:" + count + ',' +
                 "min:" + min + ',' +
                 "max:" + max + ',' +
-                "sum:" + sum + ',' +
-                "average:" + average + ']';
+                "sum:" + getSum() + ',' +
+                "average:" + getAverage() + ']';
         return sb;
     }
 
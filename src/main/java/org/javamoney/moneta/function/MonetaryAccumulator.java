@@ -0,0 +1,363 @@
+/*
+ * Copyright (c) 2012, 2020, Anatole Tresch, Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.function;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryAmount;
+import javax.money.MonetaryContext;
+import javax.money.MonetaryException;
+import javax.money.MonetaryOperator;
+
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.Money;
+import org.javamoney.moneta.RoundedMoney;
+import org.javamoney.moneta.spi.MoneyUtils;
+
+/**
+ * Mutable accumulator for summing up {@link MonetaryAmount} instances of one currency, without creating an
+ * intermediate amount per step. The final amount is created once, by {@link #getSum()}.
+ * <p>
+ * {@link FastMoney} values are summed up on their internal {@code long} representation, which is promoted to
+ * 128 bit, so intermediate results exceeding the range of {@link FastMoney} do not overflow. All other amounts,
+ * e.g. {@link Money} or {@link RoundedMoney}, are summed up exactly into a single {@link BigDecimal}, so neither
+ * a {@link java.math.MathContext} nor a rounding is applied per step.
+ * <p>
+ * The result has the type of the first amount accumulated, as if the amounts were added to it one by one:
+ * a {@link Money} result uses the {@link javax.money.MonetaryContext} and a {@link RoundedMoney} result the
+ * rounding of the first amount.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @see DefaultMonetarySummaryStatistics
+ */
+public final class MonetaryAccumulator {
+
+    private static final int FAST_MONEY_SCALE = 5;
+
+    private static final long UNSIGNED_OFFSET = Long.MIN_VALUE;
+
+    private final CurrencyUnit currency;
+
+    /**
+     * The first amount accumulated, which defines the type of the result.
+     */
+    private MonetaryAmount template;
+
+    /**
+     * The high part of the sum of all {@link FastMoney} values, as 128 bit two's complement value.
+     */
+    private long high;
+
+    /**
+     * The low part of the sum of all {@link FastMoney} values, as 128 bit two's complement value.
+     */
+    private long low;
+
+    /**
+     * The sum of all other amounts, or null.
+     */
+    private BigDecimal decimal;
+
+    private MonetaryAccumulator(CurrencyUnit currency) {
+        this.currency = Objects.requireNonNull(currency, "Currency is required.");
+    }
+
+    /**
+     * Creates a new, empty accumulator for the given currency.
+     *
+     * @param currency the currency, not null.
+     * @return a new accumulator.
+     */
+    public static MonetaryAccumulator of(CurrencyUnit currency) {
+        return new MonetaryAccumulator(currency);
+    }
+
+    /**
+     * Creates a new accumulator starting with the given amount, which also defines the type of the result.
+     *
+     * @param initial the initial amount, not null.
+     * @return a new accumulator.
+     */
+    public static MonetaryAccumulator of(MonetaryAmount initial) {
+        Objects.requireNonNull(initial, "Amount is required.");
+        return new MonetaryAccumulator(initial.getCurrency()).add(initial);
+    }
+
+    /**
+     * Access the currency accumulated.
+     *
+     * @return the currency, never null.
+     */
+    public CurrencyUnit getCurrency() {
+        return currency;
+    }
+
+    /**
+     * Adds the given amount.
+     *
+     * @param amount the amount, not null.
+     * @return this accumulator.
+     * @throws javax.money.MonetaryException if the currency of the amount does not match.
+     */
+    public MonetaryAccumulator add(MonetaryAmount amount) {
+        MoneyUtils.checkAmountParameter(amount, currency);
+        if (template == null) {
+            template = amount;
+        }
+        if (amount instanceof FastMoney) {
+            addRaw(((FastMoney) amount).getRawValue());
+        } else {
+            addDecimal(amount.getNumber().numberValue(BigDecimal.class));
+        }
+        return this;
+    }
+
+    /**
+     * Subtracts the given amount.
+     *
+     * @param amount the amount, not null.
+     * @return this accumulator.
+     * @throws javax.money.MonetaryException if the currency of the amount does not match.
+     */
+    public MonetaryAccumulator subtract(MonetaryAmount amount) {
+        MoneyUtils.checkAmountParameter(amount, currency);
+        if (template == null) {
+            template = amount;
+        }
+        if (amount instanceof FastMoney) {
+            subtractRaw(((FastMoney) amount).getRawValue());
+        } else {
+            addDecimal(amount.getNumber().numberValue(BigDecimal.class).negate());
+        }
+        return this;
+    }
+
+    /**
+     * Adds the given amounts.
+     *
+     * @param amounts the amounts, not null.
+     * @return this accumulator.
+     * @throws javax.money.MonetaryException if the currency of an amount does not match.
+     */
+    public MonetaryAccumulator addAll(Iterable<? extends MonetaryAmount> amounts) {
+        for (MonetaryAmount amount : amounts) {
+            add(amount);
+        }
+        return this;
+    }
+
+    /**
+     * Adds the sum of another accumulator of the same currency.
+     *
+     * @param other the other accumulator, not null.
+     * @return this accumulator.
+     * @throws javax.money.MonetaryException if the currency of the other accumulator does not match.
+     */
+    public MonetaryAccumulator combine(MonetaryAccumulator other) {
+        Objects.requireNonNull(other, "Accumulator is required.");
+        if (!currency.getCurrencyCode().equals(other.currency.getCurrencyCode())) {
+            throw new MonetaryException("Currency mismatch: " + currency + '/' + other.currency);
+        }
+        if (other.template == null) {
+            return this;
+        }
+        if (template == null) {
+            template = other.template;
+        }
+        long sum = low + other.low;
+        high += other.high + carry(sum, low);
+        low = sum;
+        if (other.decimal != null) {
+            addDecimal(other.decimal);
+        }
+        return this;
+    }
+
+    /**
+     * Resets this accumulator to its initial, empty state.
+     */
+    public void reset() {
+        template = null;
+        high = 0L;
+        low = 0L;
+        decimal = null;
+    }
+
+    /**
+     * Checks if no amount was accumulated since creation or the last {@link #reset()}.
+     *
+     * @return true, if no amount was accumulated.
+     */
+    public boolean isEmpty() {
+        return template == null;
+    }
+
+    /**
+     * Access the exact numeric value of the sum accumulated.
+     *
+     * @return the exact sum, never null.
+     */
+    public BigDecimal getNumber() {
+        if (high == 0L && low == 0L) {
+            return decimal == null ? BigDecimal.ZERO : decimal;
+        }
+        BigDecimal result;
+        if (high == (low >> 63)) {
+            result = BigDecimal.valueOf(low, FAST_MONEY_SCALE);
+        } else {
+            // the low part is unsigned
+            BigInteger unscaled = BigInteger.valueOf(high).shiftLeft(64)
+                    .add(BigInteger.valueOf(low >>> 1).shiftLeft(1))
+                    .add(BigInteger.valueOf(low & 1L));
+            result = new BigDecimal(unscaled, FAST_MONEY_SCALE);
+        }
+        if (decimal != null) {
+            result = result.add(decimal);
+        }
+        return result;
+    }
+
+    /**
+     * Creates the amount representing the sum accumulated, with the type of the first amount accumulated.
+     * If nothing was accumulated, zero is returned as {@link Money}.
+     *
+     * @return the sum, never null.
+     * @throws ArithmeticException if the sum can not be represented by the type of the first amount.
+     */
+    public MonetaryAmount getSum() {
+        if (template == null) {
+            return Money.zero(currency);
+        }
+        if (template instanceof FastMoney) {
+            return toFastMoney();
+        }
+        if (template instanceof Money) {
+            return Money.of(getNumber(), currency, template.getContext());
+        }
+        if (template instanceof RoundedMoney) {
+            RoundedMoney result = ((RoundedMoney) template).with(getNumber());
+            MonetaryOperator rounding = template.getContext().get(RoundedMoney.MONETARY_ROUNDING_KEY,
+                    MonetaryOperator.class);
+            return rounding == null ? result : result.with(rounding);
+        }
+        return template.getFactory().setNumber(getNumber()).create();
+    }
+
+    /**
+     * Creates the amount representing the average of the sum accumulated over the given count, with the type
+     * of the first amount accumulated. The average is evaluated from the exact sum, so it is also available
+     * if the sum itself can not be represented by that type. If nothing was accumulated, zero is returned as
+     * {@link Money}.
+     * <p>
+     * A {@link FastMoney} average is rounded as {@link FastMoney#divide(long)}, if the sum exceeds the range
+     * of {@link FastMoney}, it is rounded {@link RoundingMode#HALF_EVEN}. A {@link Money} average is rounded
+     * using the {@link java.math.MathContext} of the first amount, as {@link Money#divide(long)}.
+     *
+     * @param count the number of amounts, {@code > 0}.
+     * @return the average, never null.
+     * @throws IllegalArgumentException if {@code count} is not positive.
+     * @throws ArithmeticException      if the average can not be represented by the type of the first amount.
+     */
+    public MonetaryAmount getAverage(long count) {
+        if (count <= 0L) {
+            throw new IllegalArgumentException("count must be positive: " + count);
+        }
+        if (template == null) {
+            return Money.zero(currency);
+        }
+        if (template instanceof FastMoney) {
+            if (decimal == null && high == (low >> 63)) {
+                return FastMoney.ofRaw(low, currency).divide(count);
+            }
+            return FastMoney.of(getNumber().divide(BigDecimal.valueOf(count), FAST_MONEY_SCALE,
+                    RoundingMode.HALF_EVEN), currency);
+        }
+        if (template instanceof Money) {
+            MonetaryContext context = template.getContext();
+            return Money.of(getNumber().divide(BigDecimal.valueOf(count),
+                    MoneyUtils.getMathContext(context, RoundingMode.HALF_EVEN)), currency, context);
+        }
+        return getSum().divide(count);
+    }
+
+    /**
+     * Checks that the sum accumulated can be represented by {@link FastMoney}.
+     *
+     * @throws ArithmeticException if the sum exceeds the capabilities of {@link FastMoney}.
+     */
+    void checkFastMoney() {
+        if (decimal != null || high != (low >> 63)) {
+            toFastMoney();
+        }
+    }
+
+    /**
+     * Creates a {@link FastMoney} representing the sum accumulated.
+     *
+     * @return the sum, never null.
+     * @throws ArithmeticException if the sum exceeds the capabilities of {@link FastMoney}.
+     */
+    public FastMoney toFastMoney() {
+        if (decimal == null && high == (low >> 63)) {
+            return FastMoney.ofRaw(low, currency);
+        }
+        return FastMoney.of(getNumber(), currency);
+    }
+
+    /**
+     * Creates a {@link Money} representing the sum accumulated, using the default
+     * {@link javax.money.MonetaryContext}.
+     *
+     * @return the sum, never null.
+     */
+    public Money toMoney() {
+        return Money.of(getNumber(), currency);
+    }
+
+    private void addRaw(long value) {
+        long sum = low + value;
+        high += (value >> 63) + carry(sum, low);
+        low = sum;
+    }
+
+    private void subtractRaw(long value) {
+        long difference = low - value;
+        high -= (value >> 63) + carry(low, value);
+        low = difference;
+    }
+
+    /**
+     * Evaluates the carry of an unsigned addition, respectively the borrow of an unsigned subtraction.
+     */
+    private static long carry(long result, long operand) {
+        return (result ^ UNSIGNED_OFFSET) < (operand ^ UNSIGNED_OFFSET) ? 1L : 0L;
+    }
+
+    private void addDecimal(BigDecimal value) {
+        decimal = decimal == null ? value : decimal.add(value);
+    }
+
+    @Override
+    public String toString() {
+        return "MonetaryAccumulator [currency=" + currency + ", sum=" + getNumber() + ']';
+    }
+
+}
@@ -16,14 +16,15 @@
 package org.javamoney.moneta.function;
 
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
 import javax.money.CurrencyUnit;
 
+import org.javamoney.moneta.spi.CurrencyMap;
+
 /**
- * This statisticsMap is decorator of HashMap that returns an empty Summary when there
+ * This statisticsMap is decorator of {@link CurrencyMap} that returns an empty Summary when there
  * isn't currency in get's method
  *
  * @author otaviojava
@@ -32,7 +33,7 @@ class MonetarySummaryMap implements
         Map<CurrencyUnit, MonetarySummaryStatistics> {
 
 
-    private final Map<CurrencyUnit, MonetarySummaryStatistics> map = new HashMap<>();
+    private final Map<CurrencyUnit, MonetarySummaryStatistics> map = new CurrencyMap<>();
 
     @Override
     public int size() {
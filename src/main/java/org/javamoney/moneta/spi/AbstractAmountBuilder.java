@@ -119,7 +119,7 @@ public abstract class AbstractAmountBuilder<T extends MonetaryAmount> implements
      */
     @Override
     public MonetaryAmountFactory<T> setNumber(double number) {
-        this.number = new BigDecimal(String.valueOf(number));
+        this.number = MoneyUtils.toBigDecimal(number);
         return this;
     }
 
@@ -187,8 +187,13 @@ public abstract class AbstractAmountBuilder<T extends MonetaryAmount> implements
     public MonetaryAmountFactory<T> setAmount(MonetaryAmount amount) {
         this.currency = amount.getCurrency();
         this.number = amount.getNumber().numberValue(BigDecimal.class);
-        this.monetaryContext = MonetaryContextBuilder.of(defaultMonetaryContext.getAmountType())
-                .importContext(amount.getContext()).build();
+        MonetaryContext context = amount.getContext();
+        if (context.getAmountType() == defaultMonetaryContext.getAmountType()) {
+            this.monetaryContext = context;
+        } else {
+            this.monetaryContext = MonetaryContextBuilder.of(defaultMonetaryContext.getAmountType())
+                    .importContext(context).build();
+        }
         return this;
     }
 
@@ -110,7 +110,7 @@ public abstract class AbstractAmountFactory<T extends MonetaryAmount> implements
      */
     @Override
     public MonetaryAmountFactory<T> setNumber(double number) {
-        this.number = new BigDecimal(String.valueOf(number));
+        this.number = MoneyUtils.toBigDecimal(number);
         return this;
     }
 
@@ -177,8 +177,13 @@ public abstract class AbstractAmountFactory<T extends MonetaryAmount> implements
     public MonetaryAmountFactory<T> setAmount(MonetaryAmount smount) {
         this.currency = smount.getCurrency();
         this.number = smount.getNumber().numberValue(BigDecimal.class);
-        this.monetaryContext = MonetaryContextBuilder.of(defaultMonetaryContext.getAmountType())
-                .importContext(smount.getContext()).build();
+        MonetaryContext context = smount.getContext();
+        if (context.getAmountType() == defaultMonetaryContext.getAmountType()) {
+            this.monetaryContext = context;
+        } else {
+            this.monetaryContext = MonetaryContextBuilder.of(defaultMonetaryContext.getAmountType())
+                    .importContext(context).build();
+        }
         return this;
     }
 
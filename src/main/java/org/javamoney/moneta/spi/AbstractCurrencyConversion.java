@@ -17,6 +17,7 @@ package org.javamoney.moneta.spi;
 
 import javax.money.CurrencyUnit;
 import javax.money.MonetaryAmount;
+import javax.money.MonetaryContext;
 import javax.money.MonetaryOperator;
 import javax.money.NumberValue;
 import javax.money.convert.ConversionContext;
@@ -137,18 +138,15 @@ public abstract class AbstractCurrencyConversion implements CurrencyConversion {
      * @return the new NumberValue, never null.
      */
     protected NumberValue roundFactor(MonetaryAmount amount, NumberValue factor) {
-        if (amount.getContext().getMaxScale() > 0) {
-            MathContext mathContext = amount.getContext().get(MathContext.class);
+        MonetaryContext context = amount.getContext();
+        if (context.getMaxScale() > 0) {
+            MathContext mathContext = context.get(MathContext.class);
             if(mathContext==null){
                 int scale = factor.getScale();
-                if (factor.getScale() > amount.getContext().getMaxScale()) {
-                    scale = amount.getContext().getMaxScale();
+                if (factor.getScale() > context.getMaxScale()) {
+                    scale = context.getMaxScale();
                 }
-                RoundingMode roundingMode = amount.getContext().get(RoundingMode.class);
-                if(roundingMode==null){
-                    roundingMode = RoundingMode.HALF_EVEN;
-                }
-                mathContext = new MathContext(scale, roundingMode);
+                mathContext = MoneyUtils.getMathContext(context, scale, RoundingMode.HALF_EVEN);
             }
             return factor.round(mathContext);
         }
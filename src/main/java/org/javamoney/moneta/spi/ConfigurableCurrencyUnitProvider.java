@@ -20,25 +20,21 @@ import org.javamoney.moneta.spi.base.BaseCurrencyProviderSpi;
 import javax.money.CurrencyQuery;
 import javax.money.CurrencyUnit;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * This class provides a programmatic singleton for globally registering new {@link java.util.Currency}  into the
  * {@link javax.money.Monetary} singleton either by currency code, locale, or both.
+ * <p>
+ * The registered currencies are kept in an immutable {@link Snapshot}, which is replaced atomically on each
+ * modification, so queries never lock and always see a consistent state. Since each modification copies the
+ * registered currencies, many currencies should be registered at once using {@link #registerAll(Collection)}.
  */
 public class ConfigurableCurrencyUnitProvider extends BaseCurrencyProviderSpi {
     /**
-     * The currency units, identified by currency code.
+     * The currently registered currency units.
      */
-    private static final Map<String, CurrencyUnit> currencyUnits = new ConcurrentHashMap<>();
-    /**
-     * The currency units, identified by numeric code.
-     */
-    private static final Map<Integer, CurrencyUnit> currencyUnitsByNumericCode = new ConcurrentHashMap<>();
-    /**
-     * The currency units identified by Locale.
-     */
-    private static final Map<Locale, CurrencyUnit> currencyUnitsByLocale = new ConcurrentHashMap<>();
+    private static final AtomicReference<Snapshot> snapshot = new AtomicReference<>(new Snapshot());
 
 
     /**
@@ -50,10 +46,16 @@ public class ConfigurableCurrencyUnitProvider extends BaseCurrencyProviderSpi {
      * is provided by this provider.
      */
     public Set<CurrencyUnit> getCurrencies(CurrencyQuery currencyQuery) {
-        Set<CurrencyUnit> result = new HashSet<>(currencyUnits.size());
-        if (!currencyQuery.getCurrencyCodes().isEmpty()) {
-            for (String code : currencyQuery.getCurrencyCodes()) {
-                CurrencyUnit cu = currencyUnits.get(code);
+        Snapshot current = snapshot.get();
+        Collection<String> codes = currencyQuery.getCurrencyCodes();
+        if (!codes.isEmpty()) {
+            if (codes.size() == 1) {
+                Set<CurrencyUnit> result = current.singletons.get(codes.iterator().next());
+                return result == null ? Collections.<CurrencyUnit>emptySet() : result;
+            }
+            Set<CurrencyUnit> result = new HashSet<>();
+            for (String code : codes) {
+                CurrencyUnit cu = current.currencyUnits.get(code);
                 if (cu != null) {
                     result.add(cu);
                 }
@@ -61,8 +63,9 @@ public class ConfigurableCurrencyUnitProvider extends BaseCurrencyProviderSpi {
             return result;
         }
         if (!currencyQuery.getCountries().isEmpty()) {
+            Set<CurrencyUnit> result = new HashSet<>();
             for (Locale locale : currencyQuery.getCountries()) {
-                CurrencyUnit cu = currencyUnitsByLocale.get(locale);
+                CurrencyUnit cu = current.currencyUnitsByLocale.get(locale);
                 if (cu != null) {
                     result.add(cu);
                 }
@@ -70,16 +73,26 @@ public class ConfigurableCurrencyUnitProvider extends BaseCurrencyProviderSpi {
             return result;
         }
         if (!currencyQuery.getNumericCodes().isEmpty()) {
+            Set<CurrencyUnit> result = new HashSet<>();
             for (Integer numericCode : currencyQuery.getNumericCodes()) {
-                CurrencyUnit cu = currencyUnitsByNumericCode.get(numericCode);
+                CurrencyUnit cu = current.currencyUnitsByNumericCode.get(numericCode);
                 if (cu != null) {
                     result.add(cu);
                 }
             }
             return result;
         }
-        result.addAll(currencyUnits.values());
-        return result;
+        return current.all;
+    }
+
+    /**
+     * Access the currency unit registered with the given currency code.
+     *
+     * @param currencyCode the currency code, not null.
+     * @return the unit registered, or null.
+     */
+    public static CurrencyUnit getCurrencyUnit(String currencyCode) {
+        return snapshot.get().currencyUnits.get(Objects.requireNonNull(currencyCode));
     }
 
     /**
@@ -90,12 +103,35 @@ public class ConfigurableCurrencyUnitProvider extends BaseCurrencyProviderSpi {
      */
     public static CurrencyUnit registerCurrencyUnit(CurrencyUnit currencyUnit) {
         Objects.requireNonNull(currencyUnit);
-        CurrencyUnit registered = ConfigurableCurrencyUnitProvider.currencyUnits.put(currencyUnit.getCurrencyCode(), currencyUnit);
-        int numericCode = currencyUnit.getNumericCode();
-        if (numericCode != -1) {
-            ConfigurableCurrencyUnitProvider.currencyUnitsByNumericCode.put(numericCode, currencyUnit);
+        Snapshot current;
+        Snapshot updated;
+        do {
+            current = snapshot.get();
+            updated = current.register(Collections.singleton(currencyUnit));
+        } while (!snapshot.compareAndSet(current, updated));
+        return current.currencyUnits.get(currencyUnit.getCurrencyCode());
+    }
+
+    /**
+     * Registers the given currency units under their currency codes and potentially numeric codes, making
+     * all of them visible at once. This is much more efficient than registering many units one by one.
+     *
+     * @param currencyUnits the new currencies to be registered, not null. If several units have the same
+     *                      currency code, the last one is registered.
+     */
+    public static void registerAll(Collection<? extends CurrencyUnit> currencyUnits) {
+        for (CurrencyUnit currencyUnit : Objects.requireNonNull(currencyUnits)) {
+            Objects.requireNonNull(currencyUnit);
+        }
+        if (currencyUnits.isEmpty()) {
+            return;
         }
-        return registered;
+        Snapshot current;
+        Snapshot updated;
+        do {
+            current = snapshot.get();
+            updated = current.register(currencyUnits);
+        } while (!snapshot.compareAndSet(current, updated));
     }
 
     /**
@@ -108,7 +144,15 @@ public class ConfigurableCurrencyUnitProvider extends BaseCurrencyProviderSpi {
     public static CurrencyUnit registerCurrencyUnit(CurrencyUnit currencyUnit, Locale locale) {
         Objects.requireNonNull(locale);
         Objects.requireNonNull(currencyUnit);
-        return ConfigurableCurrencyUnitProvider.currencyUnitsByLocale.put(locale, currencyUnit);
+        Snapshot current;
+        Snapshot updated;
+        do {
+            current = snapshot.get();
+            Map<Locale, CurrencyUnit> byLocale = new HashMap<>(current.currencyUnitsByLocale);
+            byLocale.put(locale, currencyUnit);
+            updated = new Snapshot(current, current.currencyUnits, current.currencyUnitsByNumericCode, byLocale);
+        } while (!snapshot.compareAndSet(current, updated));
+        return current.currencyUnitsByLocale.get(locale);
     }
 
     /**
@@ -119,13 +163,25 @@ public class ConfigurableCurrencyUnitProvider extends BaseCurrencyProviderSpi {
      */
     public static CurrencyUnit removeCurrencyUnit(String currencyCode) {
         Objects.requireNonNull(currencyCode);
-        CurrencyUnit removed = ConfigurableCurrencyUnitProvider.currencyUnits.remove(currencyCode);
-        if (removed != null) {
+        Snapshot current;
+        Snapshot updated;
+        CurrencyUnit removed;
+        do {
+            current = snapshot.get();
+            removed = current.currencyUnits.get(currencyCode);
+            if (removed == null) {
+                return null;
+            }
+            Map<String, CurrencyUnit> byCode = new HashMap<>(current.currencyUnits);
+            byCode.remove(currencyCode);
+            Map<Integer, CurrencyUnit> byNumericCode = current.currencyUnitsByNumericCode;
             int numericCode = removed.getNumericCode();
-            if (numericCode != -1) {
-                ConfigurableCurrencyUnitProvider.currencyUnitsByNumericCode.remove(numericCode);
+            if (numericCode != -1 && byNumericCode.containsKey(numericCode)) {
+                byNumericCode = new HashMap<>(byNumericCode);
+                byNumericCode.remove(numericCode);
             }
-        }
+            updated = new Snapshot(current, byCode, byNumericCode, current.currencyUnitsByLocale);
+        } while (!snapshot.compareAndSet(current, updated));
         return removed;
     }
 
@@ -137,7 +193,30 @@ public class ConfigurableCurrencyUnitProvider extends BaseCurrencyProviderSpi {
      */
     public static CurrencyUnit removeCurrencyUnit(Locale locale) {
         Objects.requireNonNull(locale);
-        return ConfigurableCurrencyUnitProvider.currencyUnitsByLocale.remove(locale);
+        Snapshot current;
+        Snapshot updated;
+        CurrencyUnit removed;
+        do {
+            current = snapshot.get();
+            removed = current.currencyUnitsByLocale.get(locale);
+            if (removed == null) {
+                return null;
+            }
+            Map<Locale, CurrencyUnit> byLocale = new HashMap<>(current.currencyUnitsByLocale);
+            byLocale.remove(locale);
+            updated = new Snapshot(current, current.currencyUnits, current.currencyUnitsByNumericCode, byLocale);
+        } while (!snapshot.compareAndSet(current, updated));
+        return removed;
+    }
+
+    /**
+     * Access the number of modifications of the registered currencies, which changes after each
+     * registration or removal.
+     *
+     * @return the current modification count.
+     */
+    static int getVersion() {
+        return snapshot.get().version;
     }
 
     /*
@@ -147,9 +226,92 @@ public class ConfigurableCurrencyUnitProvider extends BaseCurrencyProviderSpi {
      */
     @Override
     public String toString() {
-        return "ConfigurableCurrencyUnitProvider [currencyUnits=" + currencyUnits
-                + ", currencyUnitsByNumericCode=" + currencyUnitsByNumericCode
-                + ", currencyUnitsByLocale=" + currencyUnitsByLocale + ']';
+        Snapshot current = snapshot.get();
+        return "ConfigurableCurrencyUnitProvider [currencyUnits=" + current.currencyUnits
+                + ", currencyUnitsByNumericCode=" + current.currencyUnitsByNumericCode
+                + ", currencyUnitsByLocale=" + current.currencyUnitsByLocale + ']';
+    }
+
+    /**
+     * Immutable state of the registered currency units, never modified once published.
+     */
+    private static final class Snapshot {
+        /**
+         * The currency units, identified by currency code.
+         */
+        private final Map<String, CurrencyUnit> currencyUnits;
+        /**
+         * The currency units as singleton sets, identified by currency code, returned by single code queries.
+         */
+        private final Map<String, Set<CurrencyUnit>> singletons;
+        /**
+         * The currency units, identified by numeric code.
+         */
+        private final Map<Integer, CurrencyUnit> currencyUnitsByNumericCode;
+        /**
+         * The currency units identified by Locale.
+         */
+        private final Map<Locale, CurrencyUnit> currencyUnitsByLocale;
+        /**
+         * All currency units identified by currency code.
+         */
+        private final Set<CurrencyUnit> all;
+        /**
+         * The number of modifications, allowing caches of resolved currencies to detect changes.
+         */
+        private final int version;
+
+        private Snapshot() {
+            this.currencyUnits = Collections.emptyMap();
+            this.singletons = Collections.emptyMap();
+            this.currencyUnitsByNumericCode = Collections.emptyMap();
+            this.currencyUnitsByLocale = Collections.emptyMap();
+            this.all = Collections.emptySet();
+            this.version = 0;
+        }
+
+        private Snapshot(Snapshot previous, Map<String, CurrencyUnit> currencyUnits,
+                         Map<Integer, CurrencyUnit> currencyUnitsByNumericCode,
+                         Map<Locale, CurrencyUnit> currencyUnitsByLocale) {
+            this.version = previous.version + 1;
+            this.currencyUnitsByNumericCode = previous.currencyUnitsByNumericCode == currencyUnitsByNumericCode
+                    ? currencyUnitsByNumericCode : Collections.unmodifiableMap(currencyUnitsByNumericCode);
+            this.currencyUnitsByLocale = previous.currencyUnitsByLocale == currencyUnitsByLocale
+                    ? currencyUnitsByLocale : Collections.unmodifiableMap(currencyUnitsByLocale);
+            if (previous.currencyUnits == currencyUnits) {
+                this.currencyUnits = currencyUnits;
+                this.singletons = previous.singletons;
+                this.all = previous.all;
+            } else {
+                this.currencyUnits = Collections.unmodifiableMap(currencyUnits);
+                Map<String, Set<CurrencyUnit>> newSingletons = new HashMap<>();
+                for (Map.Entry<String, CurrencyUnit> en : currencyUnits.entrySet()) {
+                    Set<CurrencyUnit> singleton = previous.singletons.get(en.getKey());
+                    if (singleton == null || singleton.iterator().next() != en.getValue()) {
+                        singleton = Collections.singleton(en.getValue());
+                    }
+                    newSingletons.put(en.getKey(), singleton);
+                }
+                this.singletons = Collections.unmodifiableMap(newSingletons);
+                this.all = Collections.unmodifiableSet(new HashSet<>(currencyUnits.values()));
+            }
+        }
+
+        private Snapshot register(Collection<? extends CurrencyUnit> units) {
+            Map<String, CurrencyUnit> byCode = new HashMap<>(currencyUnits);
+            Map<Integer, CurrencyUnit> byNumericCode = currencyUnitsByNumericCode;
+            for (CurrencyUnit currencyUnit : units) {
+                byCode.put(currencyUnit.getCurrencyCode(), currencyUnit);
+                int numericCode = currencyUnit.getNumericCode();
+                if (numericCode != -1) {
+                    if (byNumericCode == currencyUnitsByNumericCode) {
+                        byNumericCode = new HashMap<>(currencyUnitsByNumericCode);
+                    }
+                    byNumericCode.put(numericCode, currencyUnit);
+                }
+            }
+            return new Snapshot(this, byCode, byNumericCode, currencyUnitsByLocale);
+        }
     }
 
 }
@@ -17,9 +17,9 @@ package org.javamoney.moneta.spi;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.Arrays;
-import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -27,8 +27,10 @@ import javax.money.NumberValue;
 
 /**
  * This enumeration provides general utility functions supporting conversion of number types to BigDecimal.
+ * The conversion used for a number type is evaluated once per class and cached, number types not known to
+ * this library can be supported by registering a {@link NumberConverter}.
  */
-public enum ConvertBigDecimal {
+public enum ConvertBigDecimal implements NumberConverter<Number> {
     /** Conversion from integral numeric types, short, int, long. */
 	INTEGER {
 		@Override
@@ -45,6 +47,9 @@ public enum ConvertBigDecimal {
                 throw new ArithmeticException("NaN, POSITIVE_INFINITY and NEGATIVE_INFINITY cannot be used as " +
                         "parameters for monetary operations.");
             }
+            if (num.getClass() == Double.class) {
+                return MoneyUtils.toBigDecimal(d);
+            }
             return new BigDecimal(num.toString());
         }
 	},
@@ -97,40 +102,121 @@ public enum ConvertBigDecimal {
 	
 	
 	abstract BigDecimal getDecimal(Number num);
-	
+
+	/**
+	 * Converts the given number, as {@link #getDecimal(Number)}.
+	 *
+	 * @param number the number, not null.
+	 * @return the converted number.
+	 */
+	@Override
+	public BigDecimal toBigDecimal(Number number) {
+		return getDecimal(number);
+	}
+
 	static BigDecimal of(Number num) {
 		Objects.requireNonNull(num, "Number is required.");
-		return factory(num).getDecimal(num);
+		return CONVERTERS.get(num.getClass()).toBigDecimal(num);
+	}
+
+	/**
+	 * Evaluates, if the given number is of one of the integral types, whose value is exactly represented by
+	 * {@link Number#longValue()}.
+	 *
+	 * @param num the number, not null.
+	 * @return true, if the number is integral.
+	 */
+	static boolean isIntegral(Number num) {
+		return CONVERTERS.get(num.getClass()) == INTEGER;
 	}
 
-	private static ConvertBigDecimal factory(Number num) {
-		if (INSTEGERS.contains(num.getClass())) {
+	/**
+	 * Registers a converter for a number type, which is not supported by this enumeration.
+	 *
+	 * @param type      the number type, not null.
+	 * @param converter the converter, not null.
+	 * @param <T>       the number type.
+	 * @throws IllegalArgumentException if the type is already supported.
+	 */
+	static <T extends Number> void register(Class<T> type, NumberConverter<? super T> converter) {
+		Objects.requireNonNull(type, "Type is required.");
+		Objects.requireNonNull(converter, "Converter is required.");
+		if (evaluate(type) != DEFAULT) {
+			throw new IllegalArgumentException("Number type is already supported: " + type.getName());
+		}
+		REGISTERED.put(type, new RegisteredConverter(converter));
+		CONVERTERS.remove(type);
+	}
+
+	private static NumberConverter<Number> evaluate(Class<?> type) {
+		if (type == Long.class || type == Integer.class || type == Short.class || type == Byte.class
+				|| type == AtomicLong.class || type == AtomicInteger.class) {
 			return INTEGER;
 		}
-		if (FLOATINGS.contains(num.getClass())) {
+		if (type == Float.class || type == Double.class) {
 			return FLUCTUAGE;
 		}
-		if (num instanceof NumberValue) {
+		if (NumberValue.class.isAssignableFrom(type)) {
 			return NUMBERVALUE;
 		}
-		if (BigDecimal.class.equals(num.getClass())) {
+		if (type == BigDecimal.class) {
 			return BIGDECIMAL;
 		}
-        if (num instanceof BigInteger) {
-            return BIGINTEGER;
-        }
-		if (num instanceof BigDecimal) {
+		if (BigInteger.class.isAssignableFrom(type)) {
+			return BIGINTEGER;
+		}
+		if (BigDecimal.class.isAssignableFrom(type)) {
 			return BIGDECIMAL_EXTENDS;
 		}
 		return DEFAULT;
 	}
 
-    private static final List<Class> FLOATINGS = Arrays.asList(
-            (Class)Float.class, Double.class);
+	/**
+	 * The converters registered for other number types.
+	 */
+	private static final ConcurrentMap<Class<?>, NumberConverter<Number>> REGISTERED = new ConcurrentHashMap<>();
 
-	private static final List<Class> INSTEGERS = Arrays.asList(
-            (Class)Long.class, Integer.class, Short.class, Byte.class,
-			AtomicLong.class, AtomicInteger.class);
+	/**
+	 * The converter used per number type, also covering subclasses of registered types.
+	 */
+	private static final ClassValue<NumberConverter<Number>> CONVERTERS = new ClassValue<NumberConverter<Number>>() {
+		@Override
+		protected NumberConverter<Number> computeValue(Class<?> type) {
+			NumberConverter<Number> converter = evaluate(type);
+			if (converter != DEFAULT) {
+				return converter;
+			}
+			for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+				NumberConverter<Number> registered = REGISTERED.get(current);
+				if (registered != null) {
+					return registered;
+				}
+			}
+			return DEFAULT;
+		}
+	};
+
+	/**
+	 * Adapter for registered converters, normalizing their results like the built-in conversions.
+	 */
+	private static final class RegisteredConverter implements NumberConverter<Number> {
+
+		private final NumberConverter<Number> converter;
+
+		@SuppressWarnings("unchecked")
+		private RegisteredConverter(NumberConverter<?> converter) {
+			this.converter = (NumberConverter<Number>) converter;
+		}
+
+		@Override
+		public BigDecimal toBigDecimal(Number number) {
+			BigDecimal result = converter.toBigDecimal(number);
+			if (result == null) {
+				throw new ArithmeticException("Number can not be converted: " + number);
+			}
+			return isScaleZero(result);
+		}
+	}
 
 	private static BigDecimal isScaleZero(BigDecimal result) {
 		if (result.signum() == 0) {
@@ -38,7 +38,7 @@ enum ConvertNumberValue {
 	
 	@SuppressWarnings("unchecked")
 	public <T extends Number> T convert(Class<T> numberType, Number number) {
-        ConvertNumberValueI converter = convertIMap.get(numberType);
+        ConvertNumberValueI converter = CONVERTERS.get(numberType);
         if(converter==null){
             throw new IllegalArgumentException("Unsupported numeric type: "
                     + numberType);
@@ -48,7 +48,7 @@ enum ConvertNumberValue {
 	
 	@SuppressWarnings("unchecked")
 	public <T extends Number> T convertExact(Class<T> numberType, Number number) {
-        ConvertNumberValueI converter = convertIMap.get(numberType);
+        ConvertNumberValueI converter = CONVERTERS.get(numberType);
         if(converter==null){
             throw new IllegalArgumentException("Unsupported numeric type: "
                     + numberType);
@@ -146,7 +146,7 @@ enum ConvertNumberValue {
 		@Override
 		public <E extends Number> Long convertExact(Class<E> numberType,
 				Number number) {
-			return ConvertBigDecimal.of(number).longValueExact();
+			return longValueExact(number);
 		}
 
 	}
@@ -162,7 +162,7 @@ enum ConvertNumberValue {
 		public <E extends Number> Integer convertExact(Class<E> numberType,
 				Number number) {
 			
-			return ConvertBigDecimal.of(number).intValueExact();
+			return intValueExact(number);
 		}
 
 	}
@@ -177,7 +177,11 @@ enum ConvertNumberValue {
 		@Override
 		public <E extends Number> Short convertExact(Class<E> numberType,
 				Number number) {
-			return ConvertBigDecimal.of(number).shortValueExact();
+			long value = longValueExact(number);
+			if (value != (short) value) {
+				throw new ArithmeticException("Overflow");
+			}
+			return (short) value;
 		}
 
 	}
@@ -192,8 +196,11 @@ enum ConvertNumberValue {
 		@Override
 		public <E extends Number> Byte convertExact(Class<E> numberType,
 				Number number) {
-			
-			return ConvertBigDecimal.of(number).byteValueExact();
+			long value = longValueExact(number);
+			if (value != (byte) value) {
+				throw new ArithmeticException("Overflow");
+			}
+			return (byte) value;
 		}
 
 	}
@@ -209,8 +216,7 @@ enum ConvertNumberValue {
 		@Override
 		public <E extends Number> AtomicInteger convertExact(
 				Class<E> numberType, Number number) {
-			return new AtomicInteger(ConvertBigDecimal.of(
-                    number).intValueExact());
+			return new AtomicInteger(intValueExact(number));
 		}
 
 	}
@@ -226,15 +232,45 @@ enum ConvertNumberValue {
 		@Override
 		public <E extends Number> AtomicLong convertExact(Class<E> numberType,
 				Number number) {
-			return new AtomicLong(ConvertBigDecimal.of(number).longValueExact());
+			return new AtomicLong(longValueExact(number));
 		}
 
 	}
 	
+	/**
+	 * Converts the given number exactly to {@code long}, without creating a {@link BigDecimal} for the
+	 * integral number types.
+	 */
+	private static long longValueExact(Number number) {
+		if (ConvertBigDecimal.isIntegral(number)) {
+			return number.longValue();
+		}
+		return ConvertBigDecimal.of(number).longValueExact();
+	}
+
+	private static int intValueExact(Number number) {
+		long value = longValueExact(number);
+		if (value != (int) value) {
+			throw new ArithmeticException("Overflow");
+		}
+		return (int) value;
+	}
+
 	@SuppressWarnings("rawtypes")
-	private final Map<Class<? extends Number>, ConvertNumberValueI> convertIMap = new HashMap<>();
+	private static final Map<Class<? extends Number>, ConvertNumberValueI> convertIMap = new HashMap<>();
+
+	/**
+	 * The converter per target type, resolved once per class.
+	 */
+	@SuppressWarnings("rawtypes")
+	private static final ClassValue<ConvertNumberValueI> CONVERTERS = new ClassValue<ConvertNumberValueI>() {
+		@Override
+		protected ConvertNumberValueI computeValue(Class<?> type) {
+			return convertIMap.get(type);
+		}
+	};
 
-	{
+	static {
 		convertIMap.put(BigDecimal.class, new ConvertNumberValueBigDecimal());
 		convertIMap.put(BigInteger.class, new ConvertNumberValueBigInteger());
 		convertIMap.put(Float.class, new ConvertNumberValueFloat());
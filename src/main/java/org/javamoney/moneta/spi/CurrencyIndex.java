@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2012, 2020, Anatole Tresch, Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.spi;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.money.CurrencyUnit;
+
+/**
+ * Assigns each currency code a small, dense integer id, so per-currency data can be kept in arrays
+ * indexed by the id instead of maps hashing the {@link CurrencyUnit} or its code, see {@link CurrencyMap}.
+ * <p>
+ * The JDK currencies are registered when this class is loaded, ordered by their currency code, so their
+ * ids are stable for a given JDK. Other currencies are registered on first use. Ids are never released, so
+ * this is intended for the bounded set of currencies an application works with.
+ * <p>
+ * For each id the first registered {@link CurrencyUnit} is kept as canonical instance, for the JDK
+ * currencies these are the shared instances returned by {@link javax.money.Monetary#getCurrency(String,
+ * String...)}, so canonicalized currencies can be compared by identity.
+ *
+ * @since 1.4.2
+ */
+public final class CurrencyIndex {
+
+    private static final ConcurrentMap<String, Integer> IDS = new ConcurrentHashMap<>();
+
+    /**
+     * The canonical instances by id, replaced on growth, entries are never changed once set.
+     */
+    private static volatile CurrencyUnit[] units = new CurrencyUnit[0];
+
+    private static volatile int size;
+
+    static {
+        CurrencyUnit[] jdkCurrencies = JDKCurrencyProvider.getCachedCurrencies().toArray(new CurrencyUnit[0]);
+        Arrays.sort(jdkCurrencies, new Comparator<CurrencyUnit>() {
+            @Override
+            public int compare(CurrencyUnit o1, CurrencyUnit o2) {
+                return o1.getCurrencyCode().compareTo(o2.getCurrencyCode());
+            }
+        });
+        units = new CurrencyUnit[jdkCurrencies.length * 2];
+        for (CurrencyUnit currency : jdkCurrencies) {
+            register(currency);
+        }
+    }
+
+    private CurrencyIndex() {
+    }
+
+    /**
+     * Access the id of the given currency, registering its currency code if not yet known.
+     *
+     * @param currency the currency, not null.
+     * @return the id, {@code >= 0} and less than {@link #size()}.
+     */
+    public static int indexOf(CurrencyUnit currency) {
+        int id = find(currency);
+        if (id < 0) {
+            id = register(currency);
+        }
+        return id;
+    }
+
+    /**
+     * Access the id of the given currency, without registering it.
+     *
+     * @param currency the currency, not null.
+     * @return the id, or {@code -1}, if the currency code is not yet registered.
+     */
+    public static int find(CurrencyUnit currency) {
+        if (currency instanceof JDKCurrencyAdapter) {
+            JDKCurrencyAdapter adapter = (JDKCurrencyAdapter) currency;
+            int id = adapter.indexId - 1;
+            if (id < 0) {
+                Integer registered = IDS.get(adapter.getCurrencyCode());
+                if (registered == null) {
+                    return -1;
+                }
+                id = registered;
+                adapter.indexId = id + 1;
+            }
+            return id;
+        }
+        Integer id = IDS.get(Objects.requireNonNull(currency, "Currency required.").getCurrencyCode());
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Access the canonical instance of the given currency, registering it if not yet known.
+     *
+     * @param currency the currency, not null.
+     * @return the first instance registered with the same currency code, not null.
+     */
+    public static CurrencyUnit canonical(CurrencyUnit currency) {
+        return units[indexOf(currency)];
+    }
+
+    /**
+     * Access the canonical instance of the given id.
+     *
+     * @param id the id.
+     * @return the canonical instance, not null.
+     * @throws IllegalArgumentException if no currency is registered with the given id.
+     */
+    public static CurrencyUnit get(int id) {
+        if (id < 0 || id >= size) {
+            throw new IllegalArgumentException("Unknown currency id: " + id);
+        }
+        return units[id];
+    }
+
+    /**
+     * Access the number of registered currencies, all ids are less than this value.
+     *
+     * @return the number of registered currencies.
+     */
+    public static int size() {
+        return size;
+    }
+
+    private static synchronized int register(CurrencyUnit currency) {
+        String code = Objects.requireNonNull(currency.getCurrencyCode(), "Currency code required.");
+        Integer existing = IDS.get(code);
+        if (existing != null) {
+            return existing;
+        }
+        int id = size;
+        CurrencyUnit[] newUnits = units;
+        if (id == newUnits.length) {
+            newUnits = Arrays.copyOf(newUnits, Math.max(16, id * 2));
+        }
+        newUnits[id] = currency;
+        units = newUnits;
+        size = id + 1;
+        IDS.put(code, id);
+        if (currency instanceof JDKCurrencyAdapter) {
+            ((JDKCurrencyAdapter) currency).indexId = id + 1;
+        }
+        return id;
+    }
+
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2012, 2020, Anatole Tresch, Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.spi;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.money.CurrencyUnit;
+
+/**
+ * A {@link Map} keyed by {@link CurrencyUnit}, storing its entries in arrays indexed by the
+ * {@link CurrencyIndex} id of the currency, so lookups need neither hashing nor equality checks. Keys
+ * are matched by their currency code, as done by the {@link CurrencyUnit} implementations of this
+ * library. The entries are iterated in the order of their ids.
+ * <p>
+ * As {@link java.util.HashMap}, this class permits {@code null} values, but no {@code null} keys, and is
+ * not thread-safe.
+ *
+ * @param <V> the value type.
+ * @since 1.4.2
+ */
+public final class CurrencyMap<V> extends AbstractMap<CurrencyUnit, V> {
+
+    private static final CurrencyUnit[] NO_KEYS = new CurrencyUnit[0];
+
+    private static final Object[] NO_VALUES = new Object[0];
+
+    private CurrencyUnit[] keys = NO_KEYS;
+
+    private Object[] values = NO_VALUES;
+
+    private int size;
+
+    /**
+     * Creates a new, empty map.
+     */
+    public CurrencyMap() {
+    }
+
+    /**
+     * Creates a new map containing the given entries.
+     *
+     * @param map the entries, not null.
+     */
+    public CurrencyMap(Map<? extends CurrencyUnit, ? extends V> map) {
+        putAll(map);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public V get(Object key) {
+        int id = indexOf(key);
+        return id < 0 ? null : value(id);
+    }
+
+    @Override
+    public V put(CurrencyUnit key, V value) {
+        Objects.requireNonNull(key, "Currency required.");
+        int id = CurrencyIndex.indexOf(key);
+        if (id >= keys.length) {
+            int length = Math.max(id + 1, CurrencyIndex.size());
+            keys = Arrays.copyOf(keys, length);
+            values = Arrays.copyOf(values, length);
+        }
+        V old = value(id);
+        if (keys[id] == null) {
+            keys[id] = key;
+            size++;
+        }
+        values[id] = value;
+        return old;
+    }
+
+    @Override
+    public V remove(Object key) {
+        int id = indexOf(key);
+        if (id < 0) {
+            return null;
+        }
+        V old = value(id);
+        removeEntry(id);
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(keys, null);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    @Override
+    public Set<Entry<CurrencyUnit, V>> entrySet() {
+        return new AbstractSet<Entry<CurrencyUnit, V>>() {
+            @Override
+            public Iterator<Entry<CurrencyUnit, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public void clear() {
+                CurrencyMap.this.clear();
+            }
+        };
+    }
+
+    private int indexOf(Object key) {
+        if (!(key instanceof CurrencyUnit)) {
+            return -1;
+        }
+        int id = CurrencyIndex.find((CurrencyUnit) key);
+        if (id < 0 || id >= keys.length || keys[id] == null) {
+            return -1;
+        }
+        return id;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V value(int id) {
+        return (V) values[id];
+    }
+
+    private void removeEntry(int id) {
+        keys[id] = null;
+        values[id] = null;
+        size--;
+    }
+
+    private final class EntryIterator implements Iterator<Entry<CurrencyUnit, V>> {
+
+        private int next = advance(0);
+
+        private int current = -1;
+
+        private int advance(int from) {
+            int id = from;
+            while (id < keys.length && keys[id] == null) {
+                id++;
+            }
+            return id;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < keys.length;
+        }
+
+        @Override
+        public Entry<CurrencyUnit, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            current = next;
+            next = advance(next + 1);
+            return new ArrayEntry(current);
+        }
+
+        @Override
+        public void remove() {
+            if (current < 0 || keys[current] == null) {
+                throw new IllegalStateException();
+            }
+            removeEntry(current);
+        }
+    }
+
+    private final class ArrayEntry extends SimpleEntry<CurrencyUnit, V> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int id;
+
+        private ArrayEntry(int id) {
+            super(keys[id], value(id));
+            this.id = id;
+        }
+
+        @Override
+        public V setValue(V value) {
+            if (keys[id] != null) {
+                values[id] = value;
+            }
+            return super.setValue(value);
+        }
+    }
+
+}
@@ -22,6 +22,8 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -35,6 +37,60 @@ import java.util.logging.Logger;
  */
 public class DefaultMonetaryCurrenciesSingletonSpi extends BaseMonetaryCurrenciesSingletonSpi {
 
+    private static final String DEFAULT_CHAIN_KEY = "currencies.default-chain";
+
+    /**
+     * The currencies resolved by code using the default provider chain, or null, if not yet evaluated or
+     * invalidated by {@link #reload()}.
+     */
+    private volatile CodeCache codeCache;
+
+    /**
+     * Discards the currencies cached by code, so they are resolved again from the providers currently
+     * loaded. This is required only, if the {@link CurrencyProviderSpi} instances returned by the
+     * {@link Bootstrap} component change, while this instance is kept.
+     *
+     * @since 1.4.2
+     */
+    public void reload() {
+        this.codeCache = null;
+    }
+
+    /**
+     * Access a currency by code. Currencies found using the default provider chain are cached by code, until
+     * {@link #reload()} is called, or the currencies registered with {@link ConfigurableCurrencyUnitProvider}
+     * or the configuration change. Unknown codes are not cached.
+     *
+     * @param currencyCode the currency code, not null.
+     * @param providers    the (optional) providers to consider, if empty, the default provider chain is used.
+     * @return the corresponding {@link CurrencyUnit} instance.
+     * @throws javax.money.UnknownCurrencyException if no such currency exists.
+     */
+    @Override
+    public CurrencyUnit getCurrency(String currencyCode, String... providers) {
+        if (currencyCode == null || providers == null || providers.length > 0) {
+            return super.getCurrency(currencyCode, providers);
+        }
+        CodeCache cache = getCodeCache();
+        CurrencyUnit unit = cache.units.get(currencyCode);
+        if (unit == null) {
+            unit = super.getCurrency(currencyCode);
+            cache.units.put(currencyCode, unit);
+        }
+        return unit;
+    }
+
+    private CodeCache getCodeCache() {
+        int version = ConfigurableCurrencyUnitProvider.getVersion();
+        Object configVersion = MonetaryConfig.getVersion();
+        CodeCache cache = this.codeCache;
+        if (cache == null || cache.version != version || cache.configVersion != configVersion) {
+            cache = new CodeCache(version, configVersion);
+            this.codeCache = cache;
+        }
+        return cache;
+    }
+
     @Override
     public Set<CurrencyUnit> getCurrencies(CurrencyQuery query) {
         Set<CurrencyUnit> result = new HashSet<>();
@@ -95,11 +151,10 @@ public class DefaultMonetaryCurrenciesSingletonSpi extends BaseMonetaryCurrencie
     @Override
     public List<String> getDefaultProviderChain() {
         List<String> provList = new ArrayList<>();
-        String defaultChain = MonetaryConfig.getConfig().get("currencies.default-chain");
+        List<String> defaultChain = MonetaryConfig.getList(DEFAULT_CHAIN_KEY);
         if(defaultChain!=null) {
-            String[] items = defaultChain.split(",");
-            for (String item : items) {
-                if (getProviderNames().contains(item.trim())) {
+            for (String item : defaultChain) {
+                if (getProviderNames().contains(item)) {
                     provList.add(item);
                 } else {
                     Logger.getLogger(getClass().getName())
@@ -135,4 +190,21 @@ public class DefaultMonetaryCurrenciesSingletonSpi extends BaseMonetaryCurrencie
         return result;
     }
 
+    /**
+     * The currencies resolved by code for a given state of the providers.
+     */
+    private static final class CodeCache {
+
+        private final ConcurrentMap<String, CurrencyUnit> units = new ConcurrentHashMap<>();
+
+        private final int version;
+
+        private final Object configVersion;
+
+        private CodeCache(int version, Object configVersion) {
+            this.version = version;
+            this.configVersion = configVersion;
+        }
+    }
+
 }
@@ -43,6 +43,11 @@ public final class JDKCurrencyAdapter implements CurrencyUnit, Serializable, Com
      */
     private final Currency baseCurrency;
 
+    /**
+     * The id assigned by {@link CurrencyIndex} plus one, 0 if not yet known.
+     */
+    transient int indexId;
+
     private final CurrencyContext CONTEXT = CurrencyContextBuilder.of(Currency.class.getName()).build();
 
     /**
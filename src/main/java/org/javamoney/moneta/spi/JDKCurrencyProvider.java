@@ -18,6 +18,8 @@ package org.javamoney.moneta.spi;
 import org.javamoney.moneta.spi.base.BaseCurrencyProviderSpi;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -37,6 +39,25 @@ public class JDKCurrencyProvider extends BaseCurrencyProviderSpi {
     /** Internal shared cache of {@link javax.money.CurrencyUnit} instances. */
     private static final Map<String, CurrencyUnit> CACHED = loadCurrencies();
 
+    /** The {@link CurrencyUnit} instances by numeric code, currencies without numeric code are not included. */
+    private static final Map<Integer, List<CurrencyUnit>> CACHED_BY_NUMERIC_CODE = loadNumericCodes();
+
+    /**
+     * The {@link CurrencyUnit} instances by ISO country code, {@link #NONE} for countries without currency.
+     * This covers all locales without variant and extensions, since the JDK evaluates their currency by
+     * country only.
+     */
+    private static final Map<String, Object> CACHED_BY_COUNTRY = loadCountries();
+
+    /** Marks locales without currency. */
+    private static final Object NONE = new Object();
+
+    /** The maximal number of other locales cached in {@link #cachedByLocale}. */
+    private static final int MAX_CACHED_LOCALES = 1024;
+
+    /** The {@link CurrencyUnit} instances of other locales, {@link #NONE} for locales without currency. */
+    private static final ConcurrentMap<Locale, Object> cachedByLocale = new ConcurrentHashMap<>();
+
     private static Map<String, CurrencyUnit> loadCurrencies() {
         Set<Currency> availableCurrencies = Currency.getAvailableCurrencies();
         Map<String, CurrencyUnit> result = new HashMap<>(availableCurrencies.size());
@@ -47,6 +68,43 @@ public class JDKCurrencyProvider extends BaseCurrencyProviderSpi {
         return Collections.unmodifiableMap(result);
     }
 
+    private static Map<Integer, List<CurrencyUnit>> loadNumericCodes() {
+        Map<Integer, List<CurrencyUnit>> result = new HashMap<>();
+        for (CurrencyUnit cu : CACHED.values()) {
+            int numericCode = cu.getNumericCode();
+            if (numericCode < 0) {
+                continue;
+            }
+            List<CurrencyUnit> units = result.get(numericCode);
+            if (units == null) {
+                result.put(numericCode, Collections.singletonList(cu));
+            } else {
+                List<CurrencyUnit> newUnits = new ArrayList<>(units);
+                newUnits.add(cu);
+                result.put(numericCode, Collections.unmodifiableList(newUnits));
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    private static Map<String, Object> loadCountries() {
+        Map<String, Object> result = new HashMap<>();
+        for (String country : Locale.getISOCountries()) {
+            Object cu = evaluateCurrencyUnit(new Locale("", country));
+            result.put(country, cu == null ? NONE : cu);
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Access the shared {@link CurrencyUnit} instances of all JDK currencies.
+     *
+     * @return the currencies, not modifiable.
+     */
+    static Collection<CurrencyUnit> getCachedCurrencies() {
+        return CACHED.values();
+    }
+
     @Override
     public String getProviderName(){
         return "default";
@@ -93,16 +151,34 @@ public class JDKCurrencyProvider extends BaseCurrencyProviderSpi {
     }
 
     private List<CurrencyUnit> getCurrencyUnits(int numCode) {
-        List<CurrencyUnit> result = new ArrayList<>();
-        for(Currency currency: Currency.getAvailableCurrencies()){
-            if(currency.getNumericCode()==numCode){
-                result.add(CACHED.get(currency.getCurrencyCode()));
-            }
+        List<CurrencyUnit> result = CACHED_BY_NUMERIC_CODE.get(numCode);
+        if (result == null) {
+            return Collections.emptyList();
         }
         return result;
     }
 
     private CurrencyUnit getCurrencyUnit(Locale locale) {
+        Object cu = null;
+        if (locale.getVariant().isEmpty() && locale.getExtensionKeys().isEmpty()) {
+            cu = CACHED_BY_COUNTRY.get(locale.getCountry());
+        }
+        if (cu == null) {
+            cu = cachedByLocale.get(locale);
+            if (cu == null) {
+                cu = evaluateCurrencyUnit(locale);
+                if (cu == null) {
+                    cu = NONE;
+                }
+                if (cachedByLocale.size() < MAX_CACHED_LOCALES) {
+                    cachedByLocale.put(locale, cu);
+                }
+            }
+        }
+        return cu == NONE ? null : (CurrencyUnit) cu;
+    }
+
+    private static CurrencyUnit evaluateCurrencyUnit(Locale locale) {
 		Currency cur;
 		try {
 			cur = Currency.getInstance(locale);
@@ -110,9 +186,9 @@ public class JDKCurrencyProvider extends BaseCurrencyProviderSpi {
 				return CACHED.get(cur.getCurrencyCode());
 			}
 		} catch (Exception e) {
-			if (Logger.getLogger(getClass().getName()).isLoggable(Level.FINEST)) {
-				Logger.getLogger(getClass().getName()).finest(
-						"No currency for locale found: " + locale);
+			Logger log = Logger.getLogger(JDKCurrencyProvider.class.getName());
+			if (log.isLoggable(Level.FINEST)) {
+				log.finest("No currency for locale found: " + locale);
 			}
 		}
 		return null;
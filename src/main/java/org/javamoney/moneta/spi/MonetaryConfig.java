@@ -17,16 +17,27 @@ package org.javamoney.moneta.spi;
 
 import java.io.IOException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Loader for the Java Money JSR configuration.
+ * <p>
+ * The configuration is read from all {@code javamoney.properties} resources, and can be overridden
+ * programmatically using {@link #set(String, String)}. Reads are served from an immutable snapshot, which
+ * is replaced on each override, so they never lock. The typed accessors {@link #getBoolean(String, boolean)},
+ * {@link #getInt(String, int)} and {@link #getList(String)} parse each value only once per snapshot.
  *
  * @author Anatole Tresch
  */
@@ -37,9 +48,23 @@ public final class MonetaryConfig {
 
     private static final MonetaryConfig INSTANCE = new MonetaryConfig();
 
+    /**
+     * Marks values, which are not configured or invalid, in the parsed values of a {@link Snapshot}.
+     */
+    private static final Object NONE = new Object();
+
     private final Map<String, String> config = new HashMap<>();
     private final Map<String, Integer> priorities = new HashMap<>();
 
+    /**
+     * The programmatic overrides, guarded by this instance.
+     */
+    private final Map<String, String> overrides = new HashMap<>();
+
+    private final List<ChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile Snapshot snapshot;
+
     private MonetaryConfig() {
         try {
             Enumeration<URL> urls = getClass().getClassLoader().getResources(
@@ -59,6 +84,7 @@ public final class MonetaryConfig {
         } catch (IOException e) {
             LOG.log(Level.SEVERE, "Error loading javamoney.properties.", e);
         }
+        this.snapshot = new Snapshot(config);
     }
 
     private void updateConfig(Properties props) {
@@ -96,8 +122,204 @@ public final class MonetaryConfig {
         }
     }
 
+    /**
+     * Access the current configuration, including the programmatic overrides.
+     *
+     * @return the current configuration, never null.
+     */
     public static Map<String, String> getConfig() {
-        return Collections.unmodifiableMap(INSTANCE.config);
+        return INSTANCE.snapshot.config;
+    }
+
+    /**
+     * Access a configured value.
+     *
+     * @param key the key, not null.
+     * @return the value, or null, if not configured.
+     * @since 1.4.2
+     */
+    public static String get(String key) {
+        return INSTANCE.snapshot.config.get(key);
+    }
+
+    /**
+     * Access a configured boolean value.
+     *
+     * @param key          the key, not null.
+     * @param defaultValue the value returned, if the key is not configured.
+     * @return the configured value, parsed as by {@link Boolean#parseBoolean(String)}, or the default value.
+     * @since 1.4.2
+     */
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        Snapshot current = INSTANCE.snapshot;
+        Object value = current.booleans.get(key);
+        if (value == null) {
+            String text = current.config.get(key);
+            value = text == null ? NONE : Boolean.valueOf(Boolean.parseBoolean(text.trim()));
+            current.booleans.put(key, value);
+        }
+        return value == NONE ? defaultValue : (Boolean) value;
+    }
+
+    /**
+     * Access a configured int value.
+     *
+     * @param key          the key, not null.
+     * @param defaultValue the value returned, if the key is not configured or invalid.
+     * @return the configured value, or the default value.
+     * @since 1.4.2
+     */
+    public static int getInt(String key, int defaultValue) {
+        Snapshot current = INSTANCE.snapshot;
+        Object value = current.ints.get(key);
+        if (value == null) {
+            String text = current.config.get(key);
+            value = NONE;
+            if (text != null) {
+                try {
+                    value = Integer.valueOf(text.trim());
+                } catch (NumberFormatException e) {
+                    LOG.warning("Invalid int value configured for " + key + ": " + text + ", using "
+                            + defaultValue + ".");
+                }
+            }
+            current.ints.put(key, value);
+        }
+        return value == NONE ? defaultValue : (Integer) value;
+    }
+
+    /**
+     * Access a configured comma separated list.
+     *
+     * @param key the key, not null.
+     * @return the trimmed, non empty items of the configured value, or null, if the key is not configured.
+     * The list returned is immutable, the same instance is returned until the configuration changes, so
+     * callers can cache values derived from it by its identity.
+     * @since 1.4.2
+     */
+    @SuppressWarnings("unchecked")
+    public static List<String> getList(String key) {
+        Snapshot current = INSTANCE.snapshot;
+        Object value = current.lists.get(key);
+        if (value == null) {
+            String text = current.config.get(key);
+            value = NONE;
+            if (text != null) {
+                List<String> items = new ArrayList<>();
+                for (String item : text.split(",")) {
+                    item = item.trim();
+                    if (!item.isEmpty()) {
+                        items.add(item);
+                    }
+                }
+                value = Collections.unmodifiableList(items);
+            }
+            Object existing = current.lists.putIfAbsent(key, value);
+            if (existing != null) {
+                value = existing;
+            }
+        }
+        return value == NONE ? null : (List<String>) value;
+    }
+
+    /**
+     * Access a token identifying the current configuration, which is replaced on each change, so values
+     * derived from the configuration can be cached by its identity.
+     *
+     * @return the current configuration token, not null.
+     */
+    static Object getVersion() {
+        return INSTANCE.snapshot;
+    }
+
+    /**
+     * Programmatically overrides a configured value. The override takes precedence over all
+     * {@code javamoney.properties} resources, the registered {@link ChangeListener}s are informed, if the
+     * effective value has changed.
+     *
+     * @param key   the key, not null.
+     * @param value the new value, or null, for removing the override.
+     * @since 1.4.2
+     */
+    public static void set(String key, String value) {
+        Objects.requireNonNull(key, "Key required.");
+        String oldValue;
+        String newValue;
+        synchronized (INSTANCE) {
+            oldValue = INSTANCE.snapshot.config.get(key);
+            if (value == null) {
+                INSTANCE.overrides.remove(key);
+            } else {
+                INSTANCE.overrides.put(key, value);
+            }
+            Map<String, String> newConfig = new HashMap<>(INSTANCE.config);
+            newConfig.putAll(INSTANCE.overrides);
+            INSTANCE.snapshot = new Snapshot(newConfig);
+            newValue = newConfig.get(key);
+        }
+        if (!Objects.equals(oldValue, newValue)) {
+            for (ChangeListener listener : INSTANCE.listeners) {
+                try {
+                    listener.configChanged(key, newValue);
+                } catch (Exception e) {
+                    LOG.log(Level.WARNING, "Config change listener failed: " + listener, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Registers a listener informed about changes of the configuration.
+     *
+     * @param listener the listener, not null.
+     * @since 1.4.2
+     */
+    public static void addChangeListener(ChangeListener listener) {
+        INSTANCE.listeners.add(Objects.requireNonNull(listener, "Listener required."));
+    }
+
+    /**
+     * Removes a listener registered using {@link #addChangeListener(ChangeListener)}.
+     *
+     * @param listener the listener, not null.
+     * @since 1.4.2
+     */
+    public static void removeChangeListener(ChangeListener listener) {
+        INSTANCE.listeners.remove(listener);
+    }
+
+    /**
+     * Callback that can be registered to be informed, when a configured value was changed using
+     * {@link MonetaryConfig#set(String, String)}.
+     *
+     * @since 1.4.2
+     */
+    public interface ChangeListener {
+        /**
+         * Callback called from {@link MonetaryConfig}, after a value has changed.
+         *
+         * @param key   the key changed.
+         * @param value the new value, or null, if the key is no longer configured.
+         */
+        void configChanged(String key, String value);
+    }
+
+    /**
+     * Immutable view of the configuration, caching the values parsed by the typed accessors.
+     */
+    private static final class Snapshot {
+
+        private final Map<String, String> config;
+
+        private final ConcurrentMap<String, Object> booleans = new ConcurrentHashMap<>();
+
+        private final ConcurrentMap<String, Object> ints = new ConcurrentHashMap<>();
+
+        private final ConcurrentMap<String, Object> lists = new ConcurrentHashMap<>();
+
+        private Snapshot(Map<String, String> config) {
+            this.config = Collections.unmodifiableMap(new HashMap<>(config));
+        }
     }
 
 }
@@ -38,7 +38,10 @@ public class MoneyAmountFactory extends AbstractAmountFactory<Money> {
 
     @Override
     protected Money create(Number number, CurrencyUnit currency, MonetaryContext monetaryContext) {
-        return Money.of(number, currency, MonetaryContext.from(monetaryContext, Money.class));
+        if (monetaryContext.getAmountType() != Money.class) {
+            monetaryContext = MonetaryContext.from(monetaryContext, Money.class);
+        }
+        return Money.of(number, currency, monetaryContext);
     }
 
     @Override
@@ -22,7 +22,11 @@ import javax.money.MonetaryException;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
+import java.util.Arrays;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -41,6 +45,46 @@ public final class MoneyUtils {
      */
     private static final Logger LOG = Logger.getLogger(MoneyUtils.class.getName());
 
+    /**
+     * Maximal number of {@link MonetaryContext} instances, for which the evaluated {@link MathContext} is cached.
+     */
+    private static final int MAX_CACHED_CONTEXTS = 256;
+
+    /**
+     * The cached {@link MathContext} evaluations, keyed by {@link MonetaryContext}.
+     */
+    private static final ConcurrentMap<MonetaryContext, ContextEntry> CONTEXT_ENTRIES = new ConcurrentHashMap<>();
+
+    /**
+     * The entry evaluated last, checked by identity before accessing {@link #CONTEXT_ENTRIES}.
+     */
+    private static volatile ContextEntry lastContextEntry = new ContextEntry(null);
+
+    /**
+     * Maximal number of interned {@link MonetaryContext} instances, which are looked up by identity.
+     */
+    private static final int MAX_INTERNED_CONTEXTS = 16;
+
+    /**
+     * The entries of the interned {@link MonetaryContext} instances, scanned by identity before falling back
+     * to {@link #CONTEXT_ENTRIES}, which requires evaluating {@link MonetaryContext#hashCode()}. The array is
+     * replaced (copy on write) whenever a context is interned.
+     */
+    private static volatile ContextEntry[] internedEntries = new ContextEntry[0];
+
+    /**
+     * The powers of ten, which are exactly representable as {@code double}.
+     */
+    private static final double[] DOUBLE_POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    /**
+     * Upper bound of the unscaled values evaluated by {@link #getDecimalScale(double)}. Two decimals with at most
+     * 15 significant digits never map to the same {@code double}, so a matching decimal is always the unique
+     * shortest one.
+     */
+    private static final double MAX_UNSCALED_DOUBLE = 1e15;
+
     private MoneyUtils() {
     }
 
@@ -71,7 +115,84 @@ public final class MoneyUtils {
         } else if(Double.isInfinite(num)) {
             throw new ArithmeticException("Invalid input Double.xxx_INFINITY.");
         }
-        return new BigDecimal(String.valueOf(num));
+        return toBigDecimal(num);
+    }
+
+    /**
+     * Creates the same {@link BigDecimal} as {@code new BigDecimal(String.valueOf(num))}, but without
+     * formatting and parsing a {@link String} for values covered by {@link #getDecimalScale(double)}.
+     * NaN and infinite values are not checked, so they fail the same way the {@link String} based
+     * conversion does.
+     *
+     * @param num the number
+     * @return the corresponding {@link BigDecimal}
+     */
+    static BigDecimal toBigDecimal(double num) {
+        int scale = getDecimalScale(num);
+        if (scale < 0) {
+            return new BigDecimal(String.valueOf(num));
+        }
+        long unscaled = getUnscaledValue(num, scale);
+        if (unscaled == 0L) {
+            return BigDecimal.valueOf(0L, 1);
+        }
+        double abs = Math.abs(num);
+        if (abs >= 1e-3 && abs < 1e7) {
+            // plain notation, with at least one fraction digit, e.g. 12.0
+            return scale == 0 ? BigDecimal.valueOf(unscaled * 10L, 1) : BigDecimal.valueOf(unscaled, scale);
+        }
+        // computerized scientific notation, with at least one digit after the point, e.g. 1.0E7
+        while (unscaled % 10L == 0L) {
+            unscaled /= 10L;
+            scale--;
+        }
+        if (unscaled > -10L && unscaled < 10L) {
+            unscaled *= 10L;
+            scale++;
+        }
+        return BigDecimal.valueOf(unscaled, scale);
+    }
+
+    /**
+     * Evaluates the number of fraction digits of the shortest decimal, which uniquely identifies the given
+     * {@code double}, so {@code getUnscaledValue(num, scale) * 10^-scale} is the value {@link Double#toString(double)}
+     * renders. Only decimals with up to 15 significant digits are evaluated, which covers the amounts typically
+     * passed as {@code double}, e.g. {@code 12.99} or {@code 0.0125}.
+     *
+     * @param num the number
+     * @return the number of fraction digits, or -1, if the value is not covered, or is NaN or infinite.
+     */
+    public static int getDecimalScale(double num) {
+        if (num == 0.0d) {
+            return 0;
+        }
+        double abs = Math.abs(num);
+        if (!(abs < MAX_UNSCALED_DOUBLE)) {
+            return -1;
+        }
+        for (int scale = 0; scale < DOUBLE_POWERS_OF_TEN.length; scale++) {
+            double scaled = abs * DOUBLE_POWERS_OF_TEN[scale];
+            if (scaled >= MAX_UNSCALED_DOUBLE) {
+                return -1;
+            }
+            // both operands are exact, so the division yields the double nearest to the decimal
+            if (Math.round(scaled) / DOUBLE_POWERS_OF_TEN[scale] == abs) {
+                return scale;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Access the unscaled value of the given {@code double} for a scale evaluated by
+     * {@link #getDecimalScale(double)}.
+     *
+     * @param num   the number
+     * @param scale the scale as returned by {@link #getDecimalScale(double)}, not negative.
+     * @return the unscaled value.
+     */
+    public static long getUnscaledValue(double num, int scale) {
+        return Math.round(num * DOUBLE_POWERS_OF_TEN[scale]);
     }
 
     /**
@@ -85,6 +206,23 @@ public final class MoneyUtils {
         return ConvertBigDecimal.of(num);
     }
 
+    /**
+     * Registers a {@link NumberConverter} for a {@link Number} type not supported by this library, which is
+     * then used by {@link #getBigDecimal(Number)} for the type and its subclasses, instead of the conversion
+     * based on {@link Number#toString()}. Converters should be registered before instances of the type or
+     * its subclasses are converted, since the conversion is evaluated only once per class.
+     *
+     * @param type      the number type, not null.
+     * @param converter the converter, not null.
+     * @param <T>       the number type.
+     * @throws IllegalArgumentException if the type is already supported, e.g. {@link BigDecimal}.
+     * @since 1.4.2
+     */
+    public static <T extends Number> void registerNumberConverter(Class<T> type,
+                                                                  NumberConverter<? super T> converter) {
+        ConvertBigDecimal.register(type, converter);
+    }
+
     /**
      * Creates a {@link BigDecimal} from the given {@link Number} doing the
      * valid conversion depending the type given, if a {@link MonetaryContext}
@@ -96,16 +234,48 @@ public final class MoneyUtils {
     public static BigDecimal getBigDecimal(Number num, MonetaryContext moneyContext) {
     	BigDecimal bd = getBigDecimal(num);
         if (moneyContext!=null) {
-            MathContext mc = getMathContext(moneyContext, RoundingMode.HALF_EVEN);
-            bd = new BigDecimal(bd.toString(), mc);
-            if (moneyContext.getMaxScale() > 0) {
-                LOG.fine(String.format("Got Max Scale %s", moneyContext.getMaxScale()));
-                bd = bd.setScale(moneyContext.getMaxScale(), mc.getRoundingMode());
+            ContextEntry entry = getContextEntry(moneyContext);
+            MathContext mc = entry.getMathContext(RoundingMode.HALF_EVEN);
+            if (mc.getPrecision() > 0 && bd.precision() > mc.getPrecision()) {
+                bd = bd.round(mc);
+            }
+            if (entry.maxScale > 0 && bd.scale() != entry.maxScale) {
+                if (LOG.isLoggable(Level.FINE)) {
+                    LOG.fine(String.format("Got Max Scale %s", entry.maxScale));
+                }
+                bd = bd.setScale(entry.maxScale, mc.getRoundingMode());
             }
         }
         return bd;
     }
 
+    /**
+     * Checks if {@link #getBigDecimal(Number, MonetaryContext)} leaves the normalized number
+     * {@code unscaled * 10^-scale} unchanged, so it can be used without rounding or rescaling.
+     *
+     * @param unscaled     the unscaled value.
+     * @param scale        the scale.
+     * @param moneyContext the {@link MonetaryContext}, not null.
+     * @return true, if the number already complies with the given context.
+     */
+    public static boolean isContextCompatible(long unscaled, int scale, MonetaryContext moneyContext) {
+        ContextEntry entry = getContextEntry(moneyContext);
+        if (entry.maxScale > 0 && scale != entry.maxScale) {
+            return false;
+        }
+        int precision = entry.getMathContext(RoundingMode.HALF_EVEN).getPrecision();
+        if (precision == 0 || precision >= 19) {
+            return true;
+        }
+        long magnitude = Math.abs(unscaled);
+        long limit = 1L;
+        for (int i = 0; i < precision; i++) {
+            limit *= 10L;
+        }
+        // Long.MIN_VALUE has 19 digits and a negative magnitude
+        return magnitude >= 0L && magnitude < limit;
+    }
+
     /**
      * Evaluates the {@link MathContext} from the given {@link MonetaryContext}.
      *
@@ -115,18 +285,101 @@ public final class MoneyUtils {
      * @return the corresponding {@link MathContext}
      */
     public static MathContext getMathContext(MonetaryContext monetaryContext, RoundingMode defaultMode) {
-        MathContext ctx = monetaryContext.get(MathContext.class);
-        if (ctx!=null) {
-            return ctx;
+        Objects.requireNonNull(monetaryContext, "MonetaryContext required.");
+        return getContextEntry(monetaryContext).getMathContext(defaultMode);
+    }
+
+    /**
+     * Evaluates the {@link MathContext} with the given precision and the {@link RoundingMode} of the given
+     * {@link MonetaryContext}. Instances for small precisions are cached per context.
+     *
+     * @param monetaryContext the {@link MonetaryContext}
+     * @param precision       the precision, {@code >= 0}.
+     * @param defaultMode     the default {@link RoundingMode}, to be used if no one is set
+     *                        in {@link MonetaryContext}.
+     * @return the corresponding {@link MathContext}
+     */
+    public static MathContext getMathContext(MonetaryContext monetaryContext, int precision,
+                                             RoundingMode defaultMode) {
+        Objects.requireNonNull(monetaryContext, "MonetaryContext required.");
+        return getContextEntry(monetaryContext).getMathContext(precision, defaultMode);
+    }
+
+    /**
+     * Evaluates the {@link RoundingMode} of the given {@link MonetaryContext}, either set explicitly, or
+     * as part of its {@link MathContext}.
+     *
+     * @param monetaryContext the {@link MonetaryContext}
+     * @param defaultMode     the default {@link RoundingMode}, to be used if no one is set
+     *                        in {@link MonetaryContext}.
+     * @return the corresponding {@link RoundingMode}
+     */
+    public static RoundingMode getRoundingMode(MonetaryContext monetaryContext, RoundingMode defaultMode) {
+        Objects.requireNonNull(monetaryContext, "MonetaryContext required.");
+        return getContextEntry(monetaryContext).getRoundingMode(defaultMode);
+    }
+
+    /**
+     * Returns the canonical instance of the given {@link MonetaryContext}. Equal contexts passed to this method
+     * are mapped to the same instance, whose numeric settings are evaluated once and subsequently looked up by
+     * identity. Only a limited number of contexts is interned, further contexts are returned unchanged.
+     *
+     * @param monetaryContext the {@link MonetaryContext}, not null.
+     * @return the canonical instance, equal to the given context.
+     */
+    public static MonetaryContext intern(MonetaryContext monetaryContext) {
+        Objects.requireNonNull(monetaryContext, "MonetaryContext required.");
+        ContextEntry entry = getContextEntry(monetaryContext);
+        if (entry.interned) {
+            return entry.context;
+        }
+        synchronized (CONTEXT_ENTRIES) {
+            if (entry.interned) {
+                return entry.context;
+            }
+            ContextEntry[] entries = internedEntries;
+            if (entries.length >= MAX_INTERNED_CONTEXTS || CONTEXT_ENTRIES.get(entry.context) != entry) {
+                return monetaryContext;
+            }
+            ContextEntry[] newEntries = Arrays.copyOf(entries, entries.length + 1);
+            newEntries[entries.length] = entry;
+            entry.interned = true;
+            internedEntries = newEntries;
+        }
+        return entry.context;
+    }
+
+    /**
+     * Access the cached evaluation of the given {@link MonetaryContext}. The last context used is checked
+     * by identity first, since in most cases the same (default) context is passed over and over again,
+     * followed by the interned contexts.
+     *
+     * @param monetaryContext the {@link MonetaryContext}, not null.
+     * @return the cached entry, never null.
+     */
+    private static ContextEntry getContextEntry(MonetaryContext monetaryContext) {
+        ContextEntry entry = lastContextEntry;
+        if (entry.context == monetaryContext) {
+            return entry;
         }
-        RoundingMode roundingMode = monetaryContext.get(RoundingMode.class);
-        if (roundingMode == null) {
-            roundingMode = defaultMode;
+        for (ContextEntry interned : internedEntries) {
+            if (interned.context == monetaryContext) {
+                lastContextEntry = interned;
+                return interned;
+            }
         }
-        if (roundingMode == null) {
-            roundingMode = RoundingMode.HALF_EVEN;
+        entry = CONTEXT_ENTRIES.get(monetaryContext);
+        if (entry == null) {
+            entry = new ContextEntry(monetaryContext);
+            if (CONTEXT_ENTRIES.size() < MAX_CACHED_CONTEXTS) {
+                ContextEntry existing = CONTEXT_ENTRIES.putIfAbsent(monetaryContext, entry);
+                if (existing != null) {
+                    entry = existing;
+                }
+            }
         }
-        return new MathContext(monetaryContext.getPrecision(), roundingMode);
+        lastContextEntry = entry;
+        return entry;
     }
 
     /**
@@ -141,7 +394,7 @@ public final class MoneyUtils {
     public static void checkAmountParameter(MonetaryAmount amount, CurrencyUnit currencyUnit) {
         Objects.requireNonNull(amount, "Amount must not be null.");
         final CurrencyUnit amountCurrency = amount.getCurrency();
-        if (!(currencyUnit.getCurrencyCode().equals(amountCurrency.getCurrencyCode()))) {
+        if (amountCurrency != currencyUnit && !(currencyUnit.getCurrencyCode().equals(amountCurrency.getCurrencyCode()))) {
             throw new MonetaryException("Currency mismatch: " + currencyUnit + '/' + amountCurrency);
         }
     }
@@ -156,4 +409,94 @@ public final class MoneyUtils {
         Objects.requireNonNull(number, "Number is required.");
     }
 
+    /**
+     * Immutable evaluation of the numeric settings of a {@link MonetaryContext}. The {@link MathContext}
+     * of the context's own {@link RoundingMode} is created eagerly, others lazily, one per default
+     * {@link RoundingMode}, respectively per precision. Concurrent initialization may create the same (equal)
+     * instance twice, which is harmless.
+     */
+    private static final class ContextEntry {
+        /**
+         * Maximal precision, for which the {@link MathContext} instances are cached.
+         */
+        private static final int MAX_CACHED_PRECISION = 32;
+
+        private final MonetaryContext context;
+        private final MathContext mathContext;
+        private final RoundingMode roundingMode;
+        private final int precision;
+        private final int maxScale;
+        private final MathContext[] mathContexts = new MathContext[RoundingMode.values().length];
+        private MathContext[][] precisionMathContexts;
+        private volatile boolean interned;
+
+        ContextEntry(MonetaryContext context) {
+            this.context = context;
+            if (context == null) {
+                this.mathContext = null;
+                this.roundingMode = null;
+                this.precision = 0;
+                this.maxScale = -1;
+            } else {
+                this.mathContext = context.get(MathContext.class);
+                if (this.mathContext != null) {
+                    this.roundingMode = this.mathContext.getRoundingMode();
+                } else {
+                    this.roundingMode = context.get(RoundingMode.class);
+                }
+                this.precision = context.getPrecision();
+                this.maxScale = context.getMaxScale();
+                if (this.mathContext == null && this.roundingMode != null) {
+                    mathContexts[this.roundingMode.ordinal()] = new MathContext(precision, roundingMode);
+                }
+            }
+        }
+
+        RoundingMode getRoundingMode(RoundingMode defaultMode) {
+            if (roundingMode != null) {
+                return roundingMode;
+            }
+            if (defaultMode != null) {
+                return defaultMode;
+            }
+            return RoundingMode.HALF_EVEN;
+        }
+
+        MathContext getMathContext(RoundingMode defaultMode) {
+            if (mathContext != null) {
+                return mathContext;
+            }
+            RoundingMode mode = getRoundingMode(defaultMode);
+            MathContext mc = mathContexts[mode.ordinal()];
+            if (mc == null) {
+                mc = new MathContext(precision, mode);
+                mathContexts[mode.ordinal()] = mc;
+            }
+            return mc;
+        }
+
+        MathContext getMathContext(int precision, RoundingMode defaultMode) {
+            RoundingMode mode = getRoundingMode(defaultMode);
+            if (precision < 0 || precision > MAX_CACHED_PRECISION) {
+                return new MathContext(precision, mode);
+            }
+            MathContext[][] cache = precisionMathContexts;
+            if (cache == null) {
+                cache = new MathContext[RoundingMode.values().length][];
+                precisionMathContexts = cache;
+            }
+            MathContext[] modeCache = cache[mode.ordinal()];
+            if (modeCache == null) {
+                modeCache = new MathContext[MAX_CACHED_PRECISION + 1];
+                cache[mode.ordinal()] = modeCache;
+            }
+            MathContext mc = modeCache[precision];
+            if (mc == null) {
+                mc = new MathContext(precision, mode);
+                modeCache[precision] = mc;
+            }
+            return mc;
+        }
+    }
+
 }
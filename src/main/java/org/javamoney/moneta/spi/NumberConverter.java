@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2012, 2020, Anatole Tresch, Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.spi;
+
+import java.math.BigDecimal;
+
+/**
+ * Converts instances of a {@link Number} type to {@link BigDecimal}. Converters for number types not
+ * known to this library, e.g. decimal types of other libraries, can be registered using
+ * {@link MoneyUtils#registerNumberConverter(Class, NumberConverter)}, they are then used by all amount
+ * types and factories instead of the conversion based on {@link Number#toString()}.
+ *
+ * @param <T> the number type.
+ * @since 1.4.2
+ */
+public interface NumberConverter<T extends Number> {
+
+    /**
+     * Converts the given number exactly.
+     *
+     * @param number the number, not null.
+     * @return the numeric value as {@link BigDecimal}, never null.
+     * @throws ArithmeticException if the number can not be represented as {@link BigDecimal}, e.g. NaN.
+     */
+    BigDecimal toBigDecimal(T number);
+
+}
@@ -35,10 +35,26 @@ import java.util.logging.Logger;
  */
 public class PriorityAwareServiceProvider implements ServiceProvider {
     /**
-     * List of services loaded, per class.
+     * List of services loaded, per class, sorted and not modifiable.
      */
     private final ConcurrentHashMap<Class, List<Object>> servicesLoaded = new ConcurrentHashMap<>();
 
+    /**
+     * Locks per class, ensuring each service type is loaded only once, also when first requested concurrently.
+     */
+    private final ConcurrentHashMap<Class, Object> loadLocks = new ConcurrentHashMap<>();
+
+    /**
+     * The {@link Priority} values per service class, 0 if not annotated.
+     */
+    private static final ClassValue<Integer> PRIORITIES = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            Priority priority = type.getAnnotation(Priority.class);
+            return priority == null ? 0 : priority.value();
+        }
+    };
+
     private static final Comparator<Object> SERVICE_COMPARATOR = new Comparator<Object>(){
 
         @Override
@@ -71,8 +87,22 @@ public class PriorityAwareServiceProvider implements ServiceProvider {
         if (found != null) {
             return found;
         }
-
-        return loadServices(serviceType);
+        Object lock = loadLocks.get(serviceType);
+        if (lock == null) {
+            Object newLock = new Object();
+            lock = loadLocks.putIfAbsent(serviceType, newLock);
+            if (lock == null) {
+                lock = newLock;
+            }
+        }
+        synchronized (lock) {
+            @SuppressWarnings("unchecked")
+            List<T> loaded = (List<T>) servicesLoaded.get(serviceType);
+            if (loaded != null) {
+                return loaded;
+            }
+            return loadServices(serviceType);
+        }
     }
 
     @Override
@@ -85,16 +115,8 @@ public class PriorityAwareServiceProvider implements ServiceProvider {
     }
 
     public static int compareServices(Object o1, Object o2) {
-        int prio1 = 0;
-        int prio2 = 0;
-        Priority prio1Annot = o1.getClass().getAnnotation(Priority.class);
-        if (prio1Annot != null) {
-            prio1 = prio1Annot.value();
-        }
-        Priority prio2Annot = o2.getClass().getAnnotation(Priority.class);
-        if (prio2Annot != null) {
-            prio2 = prio2Annot.value();
-        }
+        int prio1 = PRIORITIES.get(o1.getClass());
+        int prio2 = PRIORITIES.get(o2.getClass());
         if (prio1 < prio2) {
             return 1;
         }
@@ -105,11 +127,11 @@ public class PriorityAwareServiceProvider implements ServiceProvider {
     }
 
     /**
-     * Loads and registers services.
+     * Loads and registers services, called while holding the load lock of the service type.
      *
      * @param serviceType The service type.
      * @param <T>         the concrete type.
-     * @return the items found, never {@code null}.
+     * @return the items found, sorted and not modifiable, never {@code null}.
      */
     private <T> List<T> loadServices(final Class<T> serviceType) {
         List<T> services = new ArrayList<>();
@@ -118,14 +140,15 @@ public class PriorityAwareServiceProvider implements ServiceProvider {
                 services.add(t);
             }
             Collections.sort(services, SERVICE_COMPARATOR);
+            List<T> result = Collections.unmodifiableList(services);
             @SuppressWarnings("unchecked")
-            final List<T> previousServices = (List<T>) servicesLoaded.putIfAbsent(serviceType, (List<Object>) services);
-            return Collections.unmodifiableList(previousServices != null ? previousServices : services);
+            final List<T> previousServices = (List<T>) servicesLoaded.putIfAbsent(serviceType, (List<Object>) result);
+            return previousServices != null ? previousServices : result;
         } catch (Exception e) {
             Logger.getLogger(PriorityAwareServiceProvider.class.getName()).log(Level.WARNING,
                     "Error loading services of type " + serviceType, e);
             Collections.sort(services, SERVICE_COMPARATOR);
-            return services;
+            return Collections.unmodifiableList(services);
         }
     }
 
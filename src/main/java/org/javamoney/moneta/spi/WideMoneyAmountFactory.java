@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2012, 2020, Anatole Tresch, Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.spi;
+
+import org.javamoney.moneta.WideMoney;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryContext;
+import javax.money.MonetaryContextBuilder;
+import javax.money.NumberValue;
+import java.math.RoundingMode;
+
+/**
+ * Implementation of {@link javax.money.MonetaryAmountFactory} creating instances of {@link WideMoney}.
+ * The scale of the amounts created is defined by the maximal scale of the {@link MonetaryContext} set.
+ */
+public class WideMoneyAmountFactory extends AbstractAmountFactory<WideMoney> {
+
+    static final MonetaryContext DEFAULT_CONTEXT = WideMoney.DEFAULT_CONTEXT;
+    static final MonetaryContext MAX_CONTEXT =
+            MonetaryContextBuilder.of(WideMoney.class).setPrecision(38).setMaxScale(WideMoney.MAX_SCALE)
+                    .setFixedScale(true).set(RoundingMode.HALF_EVEN).build();
+
+    @Override
+    protected WideMoney create(Number number, CurrencyUnit currency, MonetaryContext monetaryContext) {
+        return WideMoney.of(number, currency, monetaryContext);
+    }
+
+    @Override
+    public Class<WideMoney> getAmountType() {
+        return WideMoney.class;
+    }
+
+    @Override
+    public NumberValue getMaxNumber() {
+        return WideMoney.MAX_VALUE.getNumber();
+    }
+
+    @Override
+    public NumberValue getMinNumber() {
+        return WideMoney.MIN_VALUE.getNumber();
+    }
+
+    @Override
+    protected MonetaryContext loadDefaultMonetaryContext() {
+        return DEFAULT_CONTEXT;
+    }
+
+    @Override
+    protected MonetaryContext loadMaxMonetaryContext() {
+        return MAX_CONTEXT;
+    }
+
+}
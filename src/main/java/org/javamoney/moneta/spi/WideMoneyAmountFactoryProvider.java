@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2012, 2020, Anatole Tresch, Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.spi;
+
+import javax.money.MonetaryAmountFactory;
+import javax.money.MonetaryContext;
+import javax.money.spi.MonetaryAmountFactoryProviderSpi;
+
+import org.javamoney.moneta.WideMoney;
+
+/**
+ * Implementation of {@link MonetaryAmountFactoryProviderSpi} creating instances of
+ * {@link WideMoneyAmountFactory}. {@link WideMoney} is only used, when explicitly requested by its type,
+ * so queries for amount factories are not affected.
+ */
+public final class WideMoneyAmountFactoryProvider implements MonetaryAmountFactoryProviderSpi<WideMoney>{
+
+    @Override
+    public Class<WideMoney> getAmountType(){
+        return WideMoney.class;
+    }
+
+    @Override
+    public MonetaryAmountFactory<WideMoney> createMonetaryAmountFactory(){
+        return new WideMoneyAmountFactory();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see MonetaryAmountFactoryProviderSpi#getQueryInclusionPolicy()
+     */
+    @Override
+    public QueryInclusionPolicy getQueryInclusionPolicy(){
+        return QueryInclusionPolicy.DIRECT_REFERENCE_ONLY;
+    }
+
+    @Override
+    public MonetaryContext getDefaultMonetaryContext(){
+        return WideMoneyAmountFactory.DEFAULT_CONTEXT;
+    }
+
+    @Override
+    public MonetaryContext getMaximalMonetaryContext(){
+        return WideMoneyAmountFactory.MAX_CONTEXT;
+    }
+
+}
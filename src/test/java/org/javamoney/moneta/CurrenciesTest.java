@@ -19,10 +19,12 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertTrue;
 
+import java.util.Collection;
 import java.util.Currency;
 import java.util.Locale;
 import java.util.Set;
 
+import javax.money.CurrencyQueryBuilder;
 import javax.money.CurrencyUnit;
 import javax.money.Monetary;
 
@@ -141,4 +143,32 @@ public class CurrenciesTest {
 		assertTrue(toString.contains("USD"), "Does not contain currency code.");
 	}
 
+
+    /**
+     * Test method for
+     * {@link javax.money.Monetary#getCurrencies(javax.money.CurrencyQuery)} with numeric codes and locales,
+     * including locales without currency.
+     */
+    @Test
+    public void testGetCurrenciesNumericCodeAndLocale() {
+        for (int i = 0; i < 2; i++) {
+            Collection<CurrencyUnit> cur = Monetary.getCurrencies(CurrencyQueryBuilder.of()
+                    .setNumericCodes(Currency.getInstance("EUR").getNumericCode()).setProviderNames("default")
+                    .build());
+            assertEquals(cur.size(), 1);
+            assertEquals(cur.iterator().next().getCurrencyCode(), "EUR");
+            assertTrue(Monetary.getCurrencies(CurrencyQueryBuilder.of().setNumericCodes(-2)
+                    .setProviderNames("default").build()).isEmpty());
+            cur = Monetary.getCurrencies(Locale.GERMANY, "default");
+            assertEquals(cur.size(), 1);
+            assertEquals(cur.iterator().next().getCurrencyCode(), "EUR");
+            cur = Monetary.getCurrencies(new Locale("fr", "CH", "POSIX"), "default");
+            assertEquals(cur.size(), 1);
+            assertEquals(cur.iterator().next().getCurrencyCode(), "CHF");
+            assertTrue(Monetary.getCurrencies(Locale.ENGLISH, "default").isEmpty());
+            assertTrue(Monetary.getCurrencies(new Locale("", "AQ"), "default").isEmpty());
+            assertTrue(Monetary.getCurrencies(new Locale("", "XY"), "default").isEmpty());
+        }
+    }
+
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2012, 2020, Anatole Tresch, Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link FastMoneyColumnStore}.
+ */
+public class FastMoneyColumnStoreTest {
+
+    private static final CurrencyUnit EURO = Monetary.getCurrency("EUR");
+    private static final CurrencyUnit CHF = Monetary.getCurrency("CHF");
+
+    private static FastMoneyColumnStore store(FastMoney... amounts) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (FastMoneyColumnStore.Writer writer = FastMoneyColumnStore.writer(Channels.newChannel(out))) {
+            for (FastMoney amount : amounts) {
+                writer.write(amount);
+            }
+        }
+        return FastMoneyColumnStore.of(ByteBuffer.wrap(out.toByteArray()));
+    }
+
+    @Test
+    public void testRandomAccess() throws IOException {
+        FastMoneyColumnStore store = store(FastMoney.of(1.5, EURO), FastMoney.of(-2, CHF), FastMoney.of(3, EURO));
+        assertEquals(store.size(), 3);
+        assertEquals(store.getCurrencies(), Arrays.asList(EURO, CHF));
+        assertEquals(store.get(0), FastMoney.of(1.5, EURO));
+        assertEquals(store.get(1), FastMoney.of(-2, CHF));
+        assertEquals(store.getRawValue(2), 300000L);
+        assertEquals(store.getCurrencyId(2), 0);
+        assertEquals(store.getCurrency(1), CHF);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void testRandomAccess_InvalidIndex() throws IOException {
+        store(FastMoney.of(1, EURO)).get(1);
+    }
+
+    @Test
+    public void testCursorAndIterator() throws IOException {
+        FastMoney[] amounts = {FastMoney.of(1, EURO), FastMoney.MAX_VALUE, FastMoney.MIN_VALUE};
+        FastMoneyColumnStore store = store(amounts);
+        FastMoneyColumnStore.Cursor cursor = store.cursor();
+        for (FastMoney amount : amounts) {
+            assertTrue(cursor.next());
+            assertEquals(cursor.getRawValue(), amount.getRawValue());
+            assertEquals(cursor.getCurrency(), amount.getCurrency());
+            assertEquals(cursor.get(), amount);
+        }
+        assertFalse(cursor.hasNext());
+        assertFalse(cursor.next());
+        List<FastMoney> read = new ArrayList<>();
+        for (FastMoney amount : store) {
+            read.add(amount);
+        }
+        assertEquals(read, Arrays.asList(amounts));
+    }
+
+    @Test
+    public void testEmpty() throws IOException {
+        FastMoneyColumnStore store = store();
+        assertEquals(store.size(), 0);
+        assertFalse(store.iterator().hasNext());
+        assertTrue(store.sumByCurrency().isEmpty());
+    }
+
+    @Test
+    public void testAggregation() throws IOException {
+        FastMoneyColumnStore store = store(FastMoney.of(1.5, EURO), FastMoney.of(-2, CHF), FastMoney.of(3, EURO),
+                FastMoney.of(-4.25, EURO), FastMoney.of(7, CHF));
+        Map<CurrencyUnit, FastMoney> sums = store.sumByCurrency();
+        assertEquals(sums.size(), 2);
+        assertEquals(sums.get(EURO), FastMoney.of(0.25, EURO));
+        assertEquals(sums.get(CHF), FastMoney.of(5, CHF));
+        assertEquals(store.minByCurrency().get(EURO), FastMoney.of(-4.25, EURO));
+        assertEquals(store.minByCurrency().get(CHF), FastMoney.of(-2, CHF));
+        assertEquals(store.maxByCurrency().get(EURO), FastMoney.of(3, EURO));
+        assertEquals(store.maxByCurrency().get(CHF), FastMoney.of(7, CHF));
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testAggregation_Overflow() throws IOException {
+        store(FastMoney.MAX_VALUE, FastMoney.of(1, "XXX")).sumByCurrency();
+    }
+
+    @Test
+    public void testMappedFile() throws IOException {
+        Path file = Files.createTempFile("fastmoney", ".fmcs");
+        try {
+            int count = 20000;
+            try (FastMoneyColumnStore.Writer writer = FastMoneyColumnStore.writer(file)) {
+                for (int i = 0; i < count; i++) {
+                    writer.write(Money.of(new BigDecimal(i).movePointLeft(2), i % 3 == 0 ? CHF : EURO));
+                }
+            }
+            FastMoneyColumnStore store = FastMoneyColumnStore.map(file);
+            assertEquals(store.size(), count);
+            assertEquals(store.get(12346), FastMoney.of(new BigDecimal("123.46"), EURO));
+            assertEquals(store.get(12345), FastMoney.of(new BigDecimal("123.45"), CHF));
+            long sum = 0;
+            for (FastMoneyColumnStore.Cursor cursor = store.cursor(); cursor.next(); ) {
+                sum += cursor.getRawValue();
+            }
+            FastMoney total = store.sumByCurrency().get(EURO).add(store.sumByCurrency().get(CHF).getFactory()
+                    .setCurrency(EURO).create());
+            assertEquals(total.getRawValue(), sum);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testOf_Invalid() {
+        FastMoneyColumnStore.of(ByteBuffer.allocate(64));
+    }
+
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2012, 2020, Anatole Tresch, Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta;
+
+import static org.testng.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.MonetaryAmount;
+import javax.money.MonetaryRounding;
+import javax.money.RoundingQueryBuilder;
+
+import org.javamoney.moneta.function.MonetaryOperators;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link FastMoneyMath}, comparing its results with the corresponding {@link FastMoney} operations.
+ */
+public class FastMoneyMathTest {
+
+    private static final CurrencyUnit EURO = Monetary.getCurrency("EUR");
+    private static final CurrencyUnit CHF = Monetary.getCurrency("CHF");
+
+    /**
+     * Evaluates an operation on both APIs, expecting either the same raw result, or an
+     * {@link ArithmeticException} from both.
+     */
+    private abstract static class Check {
+        abstract long raw();
+
+        abstract FastMoney object();
+
+        void verify() {
+            Long expected;
+            try {
+                expected = object().getRawValue();
+            } catch (ArithmeticException e) {
+                expected = null;
+            }
+            Long result;
+            try {
+                result = raw();
+            } catch (ArithmeticException e) {
+                result = null;
+            }
+            assertEquals(result, expected);
+        }
+    }
+
+    private static long randomRaw(Random random) {
+        return random.nextLong() >> random.nextInt(64);
+    }
+
+    @Test
+    public void testAddSubtractMultiply() {
+        Random random = new Random(31L);
+        for (int i = 0; i < 10000; i++) {
+            final long a = randomRaw(random);
+            final long b = randomRaw(random);
+            new Check() {
+                long raw() {
+                    return FastMoneyMath.add(a, b);
+                }
+
+                FastMoney object() {
+                    return FastMoney.ofRaw(a, EURO).add(FastMoney.ofRaw(b, EURO));
+                }
+            }.verify();
+            new Check() {
+                long raw() {
+                    return FastMoneyMath.subtract(a, b);
+                }
+
+                FastMoney object() {
+                    return FastMoney.ofRaw(a, EURO).subtract(FastMoney.ofRaw(b, EURO));
+                }
+            }.verify();
+            final long factor = b >> 40;
+            new Check() {
+                long raw() {
+                    return FastMoneyMath.multiply(a, factor);
+                }
+
+                FastMoney object() {
+                    return FastMoney.ofRaw(a, EURO).multiply(factor);
+                }
+            }.verify();
+            new Check() {
+                long raw() {
+                    return FastMoneyMath.negate(a);
+                }
+
+                FastMoney object() {
+                    return FastMoney.ofRaw(a, EURO).negate();
+                }
+            }.verify();
+        }
+    }
+
+    @Test
+    public void testMultiplyDivideByRate() {
+        Random random = new Random(37L);
+        RoundingMode[] modes = {RoundingMode.HALF_EVEN, RoundingMode.HALF_UP, RoundingMode.DOWN,
+                RoundingMode.CEILING, RoundingMode.FLOOR};
+        for (int i = 0; i < 10000; i++) {
+            final long a = randomRaw(random);
+            // rates accepted by FastMoney.multiply(Number, RoundingMode) and FastMoney.divide(Number, RoundingMode)
+            final BigDecimal rate = BigDecimal.valueOf(random.nextLong() >> (random.nextInt(60) + 4),
+                    random.nextInt(9) + 4);
+            final RoundingMode mode = modes[random.nextInt(modes.length)];
+            final long divisor = random.nextLong() >> random.nextInt(64);
+            new Check() {
+                long raw() {
+                    return FastMoneyMath.multiply(a, rate, mode);
+                }
+
+                FastMoney object() {
+                    return FastMoney.ofRaw(a, EURO).multiply(rate, mode);
+                }
+            }.verify();
+            new Check() {
+                long raw() {
+                    return FastMoneyMath.divide(a, rate, mode);
+                }
+
+                FastMoney object() {
+                    return FastMoney.ofRaw(a, EURO).divide(rate, mode);
+                }
+            }.verify();
+            new Check() {
+                long raw() {
+                    return FastMoneyMath.divide(a, divisor, mode);
+                }
+
+                FastMoney object() {
+                    return FastMoney.ofRaw(a, EURO).divide(divisor, mode);
+                }
+            }.verify();
+        }
+    }
+
+    @Test
+    public void testPercent() {
+        Random random = new Random(41L);
+        for (int i = 0; i < 1000; i++) {
+            long a = random.nextLong() >> 20;
+            BigDecimal percent = BigDecimal.valueOf(random.nextInt(100000), random.nextInt(4));
+            MonetaryAmount expected = FastMoney.ofRaw(a, EURO).with(MonetaryOperators.percent(percent));
+            assertEquals(FastMoneyMath.percent(a, percent), ((FastMoney) expected).getRawValue());
+        }
+        assertEquals(FastMoneyMath.percent(FastMoney.of(200, EURO).getRawValue(), BigDecimal.TEN),
+                FastMoney.of(20, EURO).getRawValue());
+    }
+
+    @Test
+    public void testRoundToCash() {
+        Random random = new Random(43L);
+        MonetaryRounding cashRounding = Monetary.getRounding(RoundingQueryBuilder.of().setProviderName("default")
+                .setCurrency(CHF).set("cashRounding", true).build());
+        for (int i = 0; i < 10000; i++) {
+            long a = random.nextLong() >> (random.nextInt(40) + 20);
+            MonetaryAmount expected = FastMoney.ofRaw(a, CHF).with(cashRounding);
+            assertEquals(FastMoneyMath.roundToCash(a, 2, 5, RoundingMode.HALF_UP),
+                    ((FastMoney) expected).getRawValue(), String.valueOf(a));
+        }
+    }
+
+    @Test
+    public void testRound() {
+        assertEquals(FastMoneyMath.round(FastMoney.of(new BigDecimal("1.235"), EURO).getRawValue(), 2,
+                RoundingMode.HALF_EVEN), FastMoney.of(new BigDecimal("1.24"), EURO).getRawValue());
+        assertEquals(FastMoneyMath.round(-123456L, 0, RoundingMode.FLOOR), -200000L);
+        assertEquals(FastMoneyMath.round(-123456L, 7, RoundingMode.FLOOR), -123456L);
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testRound_Overflow() {
+        FastMoneyMath.round(Long.MAX_VALUE, 0, RoundingMode.UP);
+    }
+
+    @Test
+    public void testMinorUnits() {
+        Random random = new Random(47L);
+        for (int i = 0; i < 1000; i++) {
+            final long minor = random.nextLong() >> random.nextInt(64);
+            final int digits = random.nextInt(9);
+            new Check() {
+                long raw() {
+                    return FastMoneyMath.ofMinor(minor, digits);
+                }
+
+                FastMoney object() {
+                    return FastMoney.ofMinor(EURO, minor, digits);
+                }
+            }.verify();
+        }
+        assertEquals(FastMoneyMath.ofMinor(1234L, 2), FastMoney.of(new BigDecimal("12.34"), EURO).getRawValue());
+        assertEquals(FastMoneyMath.toMinor(FastMoneyMath.ofMinor(1234L, 2), 2, RoundingMode.UNNECESSARY), 1234L);
+        assertEquals(FastMoneyMath.toMinor(1234567L, 2, RoundingMode.HALF_UP), 1235L);
+        assertEquals(FastMoneyMath.toBigDecimal(1234567L), new BigDecimal("12.34567"));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testOfMinor_NegativeDigits() {
+        FastMoneyMath.ofMinor(1L, -1);
+    }
+
+}
@@ -19,6 +19,7 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
@@ -30,6 +31,8 @@ import java.io.ObjectOutputStream;
 import java.lang.invoke.MethodHandles;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Random;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -171,6 +174,36 @@ public class FastMoneyTest{
         assertEquals(BigInteger.valueOf(232323123L), m.getNumber().numberValue(BigInteger.class));
     }
 
+    @Test
+    public void testOfDouble_MatchesString() {
+        Random random = new Random(7L);
+        for (int i = 0; i < 100000; i++) {
+            double value = BigDecimal.valueOf(random.nextLong() % 100000000000L, random.nextInt(10)).doubleValue();
+            if (i % 2 == 0) {
+                value = random.nextDouble() * Math.pow(10, random.nextInt(20) - 5);
+            }
+            FastMoney expected = null;
+            try {
+                expected = FastMoney.of(new BigDecimal(String.valueOf(value)), EURO);
+            } catch (ArithmeticException e) {
+                // not representable, must fail as well
+            }
+            try {
+                FastMoney result = FastMoney.of(value, EURO);
+                assertEquals(result, expected, String.valueOf(value));
+            } catch (ArithmeticException e) {
+                assertEquals(null, expected, String.valueOf(value));
+            }
+        }
+        assertEquals(FastMoney.of(12.99, EURO).getRawValue(), 1299000L);
+        assertEquals(FastMoney.of(-1.5e10, EURO).getRawValue(), -1500000000000000L);
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testOfDouble_ScaleTooLarge() {
+        FastMoney.of(0.123456, EURO);
+    }
+
     /**
      * Test method for {@link FastMoney#of(java.lang.Number, java.lang.String)}
      * .
@@ -254,6 +287,41 @@ public class FastMoneyTest{
         assertTrue(m4.compareTo(m2) > 0);
     }
 
+    /**
+     * Test method for {@link FastMoney#compareTo(javax.money.MonetaryAmount)} with other amount types.
+     */
+    @Test
+    public void testCompareTo_MixedTypes(){
+        FastMoney m = FastMoney.of(new BigDecimal("1.23456"), "CHF");
+        assertEquals(0, m.compareTo(Money.of(new BigDecimal("1.23456"), "CHF")));
+        assertTrue(m.compareTo(Money.of(new BigDecimal("1.23457"), "CHF")) < 0);
+        assertTrue(m.compareTo(Money.of(new BigDecimal("-1.23456"), "CHF")) > 0);
+        assertEquals(0, m.compareTo(RoundedMoney.of(new BigDecimal("1.23456"), "CHF")));
+        assertTrue(FastMoney.MAX_VALUE.compareTo(FastMoney.MIN_VALUE) > 0);
+        assertTrue(FastMoney.MIN_VALUE.compareTo(FastMoney.MAX_VALUE) < 0);
+        assertTrue(m.compareTo(FastMoney.of(1, "EUR")) < 0);
+    }
+
+    /**
+     * Test method for {@link FastMoney#isEqualTo(javax.money.MonetaryAmount)} and the ordering methods
+     * with {@link Money} arguments.
+     */
+    @Test
+    public void testComparisons_Money(){
+        FastMoney m = FastMoney.of(10.5, "CHF");
+        assertTrue(m.isEqualTo(Money.of(new BigDecimal("10.50000"), "CHF")));
+        assertTrue(m.isLessThan(Money.of(10.50001, "CHF")));
+        assertTrue(m.isLessThanOrEqualTo(Money.of(10.5, "CHF")));
+        assertTrue(m.isGreaterThan(Money.of(-10.5, "CHF")));
+        assertTrue(m.isGreaterThanOrEqualTo(Money.of(10, "CHF")));
+        assertFalse(m.isGreaterThan(Money.of(11, "CHF")));
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testComparisons_MoneyExceedingScale(){
+        FastMoney.of(10.5, "CHF").isLessThan(Money.of(new BigDecimal("10.500001"), "CHF"));
+    }
+
     /**
      * Test method for {@link FastMoney#abs()}.
      */
@@ -457,6 +525,103 @@ public class FastMoneyTest{
         }
    }
 
+    /**
+     * Test method for {@link FastMoney#multiply(java.lang.Number)}, where only the intermediate
+     * result exceeds the numeric capabilities.
+     */
+    @Test
+    public void testMultiplyNumber_LargeIntermediateResult(){
+        FastMoney m = FastMoney.of(new BigDecimal("90000000000000"), "CHF");
+        assertEquals(m.multiply(new BigDecimal("0.5")), FastMoney.of(new BigDecimal("45000000000000"), "CHF"));
+        assertEquals(m.multiply(new BigDecimal("1.00000000000000001")),
+                FastMoney.of(new BigDecimal("90000000000000.0009"), "CHF"));
+        assertEquals(FastMoney.of(new BigDecimal("0.00003"), "CHF").multiply(new BigDecimal("0.5")),
+                FastMoney.of(new BigDecimal("0.00002"), "CHF"));
+    }
+
+    /**
+     * Test method for {@link FastMoney#multiply(java.lang.Number, java.math.RoundingMode)}.
+     */
+    @Test
+    public void testMultiplyNumberRoundingMode(){
+        FastMoney m = FastMoney.of(new BigDecimal("-0.00003"), "CHF");
+        BigDecimal half = new BigDecimal("0.5");
+        assertEquals(m.multiply(half, RoundingMode.HALF_EVEN), FastMoney.of(new BigDecimal("-0.00002"), "CHF"));
+        assertEquals(m.multiply(half, RoundingMode.HALF_DOWN), FastMoney.of(new BigDecimal("-0.00001"), "CHF"));
+        assertEquals(m.multiply(half, RoundingMode.FLOOR), FastMoney.of(new BigDecimal("-0.00002"), "CHF"));
+        assertEquals(m.multiply(half, RoundingMode.CEILING), FastMoney.of(new BigDecimal("-0.00001"), "CHF"));
+        try {
+            m.multiply(half, RoundingMode.UNNECESSARY);
+            fail("rounding should raise ArithmeticException");
+        } catch (ArithmeticException e) {
+            // should happen
+        }
+    }
+
+    /**
+     * Test method for {@link FastMoney#divide(long, java.math.RoundingMode)} and
+     * {@link FastMoney#divide(java.lang.Number, java.math.RoundingMode)}.
+     */
+    @Test
+    public void testDivideRoundingMode(){
+        FastMoney m = FastMoney.of(2, "CHF");
+        assertEquals(m.divide(3L, RoundingMode.DOWN), FastMoney.of(new BigDecimal("0.66666"), "CHF"));
+        assertEquals(m.divide(3L, RoundingMode.HALF_UP), FastMoney.of(new BigDecimal("0.66667"), "CHF"));
+        assertEquals(m.divide(3L), FastMoney.of(new BigDecimal("0.66667"), "CHF"));
+        assertEquals(m.divide(new BigDecimal("0.3"), RoundingMode.DOWN), FastMoney.of(new BigDecimal("6.66666"), "CHF"));
+        assertEquals(m.negate().divide(new BigDecimal("0.3"), RoundingMode.UP),
+                FastMoney.of(new BigDecimal("-6.66667"), "CHF"));
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testDivideNumber_ByZero(){
+        FastMoney.of(2, "CHF").divide(BigDecimal.ZERO);
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testDivideLong_ByZero(){
+        FastMoney.of(2, "CHF").divide(0L);
+    }
+
+    /**
+     * Compares the exact long based arithmetic of {@link FastMoney#multiply(java.lang.Number, RoundingMode)}
+     * and {@link FastMoney#divide(java.lang.Number, RoundingMode)} with {@link BigDecimal} arithmetic.
+     */
+    @Test
+    public void testMultiplyDivide_MatchesBigDecimal(){
+        Random random = new Random(354L);
+        RoundingMode[] modes = {RoundingMode.UP, RoundingMode.DOWN, RoundingMode.CEILING, RoundingMode.FLOOR,
+                RoundingMode.HALF_UP, RoundingMode.HALF_DOWN, RoundingMode.HALF_EVEN};
+        for (int i = 0; i < 20000; i++) {
+            BigDecimal value = BigDecimal.valueOf(random.nextLong() >> random.nextInt(64), 5);
+            BigDecimal operand = BigDecimal.valueOf(random.nextLong() >> random.nextInt(64), random.nextInt(19));
+            if (operand.abs().compareTo(FastMoney.MAX_VALUE.getNumber().numberValue(BigDecimal.class)) > 0) {
+                // exceeds the accepted operand range
+                continue;
+            }
+            RoundingMode mode = modes[random.nextInt(modes.length)];
+            FastMoney m = FastMoney.of(value, "CHF");
+            assertArithmetic(value.multiply(operand).setScale(5, mode), m, operand, mode, true);
+            if (operand.signum() != 0) {
+                assertArithmetic(value.divide(operand, 5, mode), m, operand, mode, false);
+            }
+        }
+    }
+
+    private void assertArithmetic(BigDecimal expected, FastMoney m, BigDecimal operand, RoundingMode mode,
+                                  boolean multiply){
+        boolean overflow = expected.compareTo(FastMoney.MAX_VALUE.getNumber().numberValue(BigDecimal.class)) > 0
+                || expected.compareTo(FastMoney.MIN_VALUE.getNumber().numberValue(BigDecimal.class)) < 0;
+        try {
+            FastMoney result = multiply ? m.multiply(operand, mode) : m.divide(operand, mode);
+            assertFalse(overflow, "Overflow expected for " + m + (multiply ? " * " : " / ") + operand);
+            assertEquals(result.getNumber().numberValue(BigDecimal.class).compareTo(expected), 0,
+                    m + (multiply ? " * " : " / ") + operand + " " + mode);
+        } catch (ArithmeticException e) {
+            assertTrue(overflow, "Unexpected " + e + " for " + m + (multiply ? " * " : " / ") + operand);
+        }
+    }
+
     /**
      * Test method for {@link FastMoney#multiply(double)}.
      */
@@ -1109,6 +1274,16 @@ public class FastMoneyTest{
                      FastMoney.of(new BigDecimal("0.34738"), "CHF").getNumber().numberValue(BigDecimal.class));
     }
 
+    /**
+     * Test method for {@link FastMoney#getNumber()}, ensuring the view is created only once.
+     */
+    @Test
+    public void testGetNumber_Cached(){
+        FastMoney m = FastMoney.of(new BigDecimal("12.345"), "CHF");
+        assertTrue(m.getNumber() == m.getNumber());
+        assertEquals(m.getNumber().numberValue(BigDecimal.class), new BigDecimal("12.345"));
+    }
+
     /**
      * Test method for {@link FastMoney#toString()}.
      */
@@ -1257,4 +1432,80 @@ public class FastMoneyTest{
    	assertEquals(1.234, amount.getNumber().doubleValue());
    	assertEquals(DOLLAR, amount.getCurrency());
    }
+
+    @Test
+    public void testMixedTypes_MatchesBigDecimal() {
+        Random random = new Random(29L);
+        for (int i = 0; i < 10000; i++) {
+            FastMoney fast = FastMoney.ofRaw(random.nextLong() >> (random.nextInt(40) + 2), EURO);
+            BigDecimal fastBD = fast.getNumber().numberValue(BigDecimal.class);
+            BigDecimal other = BigDecimal.valueOf(random.nextLong() >> (random.nextInt(40) + 2), FastMoney.SCALE)
+                    .stripTrailingZeros();
+            Money money = Money.of(other, EURO);
+            assertEquals(fast.add(money), FastMoney.of(fastBD.add(other), EURO));
+            assertEquals(fast.subtract(money), FastMoney.of(fastBD.subtract(other), EURO));
+            assertEquals(fast.compareTo(money), Integer.signum(fastBD.compareTo(other)));
+            assertEquals(fast.isLessThanOrEqualTo(money), fastBD.compareTo(other) <= 0);
+            RoundedMoney rounded = RoundedMoney.of(other, EURO);
+            assertEquals(fast.add(rounded), FastMoney.of(fastBD.add(other), EURO));
+            assertEquals(fast.isEqualTo(rounded), fastBD.compareTo(other) == 0);
+            assertEquals(rounded.isGreaterThan(fast), other.compareTo(fastBD) > 0);
+        }
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testMixedTypes_ScaleExceeded() {
+        FastMoney.of(1, EURO).add(Money.of(new BigDecimal("0.000001"), EURO));
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testMixedTypes_Overflow() {
+        FastMoney.of(1, EURO).add(Money.of(new BigDecimal("1E+14"), EURO));
+    }
+
+    @Test
+    public void testCachedValues() {
+        assertSame(FastMoney.zero(EURO), FastMoney.of(0, EURO));
+        assertSame(FastMoney.of(BigDecimal.ZERO, EURO), FastMoney.zero(EURO));
+        assertSame(FastMoney.of(1, EURO), FastMoney.ofMinor(EURO, 100));
+        assertSame(FastMoney.of(-5L, EURO), FastMoney.of(new BigDecimal("-5.00"), EURO));
+        assertSame(Monetary.getAmountFactory(FastMoney.class).setCurrency(EURO).setNumber(100).create(),
+                FastMoney.of(100, EURO));
+        assertNotSame(FastMoney.of(new BigDecimal("1.5"), EURO), FastMoney.of(new BigDecimal("1.5"), EURO));
+        assertNotSame(FastMoney.of(100000, EURO), FastMoney.of(100000, EURO));
+        CurrencyUnit otherEuro = CurrencyUnitBuilder.of("EUR", "test").build();
+        FastMoney other = FastMoney.of(1, otherEuro);
+        assertSame(other.getCurrency(), otherEuro);
+        assertEquals(other, FastMoney.of(1, otherEuro));
+    }
+
+    @Test
+    public void testOf_IntegralAndDecimalFastPaths() {
+        Random random = new Random(53L);
+        for (int i = 0; i < 10000; i++) {
+            long value = random.nextLong() >> (random.nextInt(47) + 17);
+            // scale 6 is converted on the BigDecimal path
+            FastMoney expected = FastMoney.of(BigDecimal.valueOf(value).setScale(6), EURO);
+            assertEquals(FastMoney.of(value, EURO), expected);
+            assertEquals(FastMoney.of((int) value, EURO).getRawValue(), (int) value * 100000L);
+            BigDecimal decimal = BigDecimal.valueOf(value, random.nextInt(6));
+            assertEquals(FastMoney.of(decimal, EURO).getRawValue(),
+                    decimal.movePointRight(FastMoney.SCALE).longValueExact());
+        }
+        assertEquals(FastMoney.of(92233720368547L, EURO).getRawValue(), 9223372036854700000L);
+        assertEquals(FastMoney.of(-92233720368547L, EURO).getRawValue(), -9223372036854700000L);
+        assertEquals(FastMoney.of(new BigDecimal("92233720368547.75807"), EURO).getRawValue(), Long.MAX_VALUE);
+        assertEquals(FastMoney.of(new BigDecimal("-92233720368547.75808"), EURO).getRawValue(), Long.MIN_VALUE);
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testOf_IntegralOverflow() {
+        FastMoney.of(92233720368548L, EURO);
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testOf_IntegralUnderflow() {
+        FastMoney.of(-92233720368548L, EURO);
+    }
+
 }
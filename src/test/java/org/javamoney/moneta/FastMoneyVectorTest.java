@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2012, 2020, Anatole Tresch, Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.fail;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.MonetaryException;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link FastMoneyVector}.
+ */
+public class FastMoneyVectorTest {
+
+    private static final CurrencyUnit EURO = Monetary.getCurrency("EUR");
+
+    private static FastMoneyVector vector(double... values) {
+        FastMoneyVector vector = FastMoneyVector.of(EURO, values.length);
+        for (int i = 0; i < values.length; i++) {
+            vector.set(i, FastMoney.of(values[i], EURO));
+        }
+        return vector;
+    }
+
+    @Test
+    public void testOf() {
+        FastMoneyVector vector = FastMoneyVector.of(EURO, FastMoney.of(1, EURO), Money.of(2.5, EURO));
+        assertEquals(vector.size(), 2);
+        assertEquals(vector.getCurrency(), EURO);
+        assertEquals(vector.get(0), FastMoney.of(1, EURO));
+        assertEquals(vector.get(1), FastMoney.of(2.5, EURO));
+        assertEquals(FastMoneyVector.of(EURO, Arrays.asList(FastMoney.of(1, EURO), Money.of(2.5, EURO))), vector);
+        assertEquals(FastMoneyVector.of(EURO, 3).get(2), FastMoney.zero(EURO));
+    }
+
+    @Test(expectedExceptions = MonetaryException.class)
+    public void testOf_WrongCurrency() {
+        FastMoneyVector.of(EURO, FastMoney.of(1, "CHF"));
+    }
+
+    @Test
+    public void testAddSubtract() {
+        FastMoneyVector vector = vector(1, -2, 3.5);
+        assertEquals(vector.add(FastMoney.of(1.5, EURO)), vector(2.5, -0.5, 5));
+        assertEquals(vector.subtract(Money.of(0.5, EURO)), vector(2, -1, 4.5));
+        assertEquals(vector.add(vector(1, 1, 1)), vector(3, 0, 5.5));
+        assertEquals(vector.subtract(vector(3, 0, 5.5)), vector(0, 0, 0));
+        vector = vector(1, -2);
+        assertEquals(vector.add(vector), vector(2, -4));
+        assertEquals(vector.subtract(vector), vector(0, 0));
+    }
+
+    @Test
+    public void testAdd_OverflowLeavesVectorUnchanged() {
+        FastMoneyVector vector = FastMoneyVector.of(EURO, FastMoney.of(1, EURO), FastMoney.MAX_VALUE.getFactory()
+                .setCurrency(EURO).create());
+        FastMoneyVector copy = vector.copy();
+        try {
+            vector.add(vector(1, 1));
+            fail("overflow should raise ArithmeticException");
+        } catch (ArithmeticException e) {
+            // should happen
+        }
+        assertEquals(vector, copy);
+        try {
+            vector.add(FastMoney.of(1, EURO));
+            fail("overflow should raise ArithmeticException");
+        } catch (ArithmeticException e) {
+            // should happen
+        }
+        assertEquals(vector, copy);
+    }
+
+    @Test
+    public void testMultiply() {
+        assertEquals(vector(1, -2.5, 0).multiply(3L), vector(3, -7.5, 0));
+        assertEquals(vector(1, -2.5, 0).multiply(0.5), vector(0.5, -1.25, 0));
+        FastMoney amount = FastMoney.of(new BigDecimal("1234.56789"), EURO);
+        assertEquals(FastMoneyVector.of(EURO, amount).multiply(3.4).get(0), amount.multiply(3.4));
+        assertEquals(vector(1, 2).multiply(0.0), vector(0, 0));
+    }
+
+    @Test
+    public void testMultiply_Overflow() {
+        FastMoneyVector vector = vector(1, 90000000000000.0);
+        try {
+            vector.multiply(2L);
+            fail("overflow should raise ArithmeticException");
+        } catch (ArithmeticException e) {
+            // should happen
+        }
+        assertEquals(vector, vector(1, 90000000000000.0));
+    }
+
+    @Test
+    public void testNegate() {
+        assertEquals(vector(1, -2.5, 0).negate(), vector(-1, 2.5, 0));
+    }
+
+    @Test
+    public void testRound() {
+        assertEquals(vector(1.005, 1.015, -1.005).round(RoundingMode.HALF_EVEN), vector(1, 1.02, -1));
+        assertEquals(vector(1.005, 1.015, -1.005).round(2, RoundingMode.HALF_UP), vector(1.01, 1.02, -1.01));
+        assertEquals(vector(149.9, -150).round(-2, RoundingMode.HALF_UP), vector(100, -200));
+        assertEquals(vector(1.23456).round(5, RoundingMode.UNNECESSARY), vector(1.23456));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testRound_InvalidScale() {
+        vector(1).round(-14, RoundingMode.HALF_UP);
+    }
+
+    @Test
+    public void testSumMinMax() {
+        FastMoneyVector vector = vector(1.5, -2, 10.25, 3);
+        assertEquals(vector.sum(), FastMoney.of(12.75, EURO));
+        assertEquals(vector.min(), FastMoney.of(-2, EURO));
+        assertEquals(vector.max(), FastMoney.of(10.25, EURO));
+        assertEquals(FastMoneyVector.of(EURO, 0).sum(), FastMoney.zero(EURO));
+    }
+
+    @Test(expectedExceptions = NoSuchElementException.class)
+    public void testMin_Empty() {
+        FastMoneyVector.of(EURO, 0).min();
+    }
+
+    @Test
+    public void testCopyAndIterator() {
+        FastMoneyVector vector = vector(1, 2);
+        FastMoneyVector copy = vector.copy();
+        vector.negate();
+        assertEquals(copy, vector(1, 2));
+        Iterator<FastMoney> iterator = copy.iterator();
+        assertEquals(iterator.next(), FastMoney.of(1, EURO));
+        assertEquals(iterator.next(), FastMoney.of(2, EURO));
+        assertFalse(iterator.hasNext());
+        assertEquals(copy.toArray(), new FastMoney[]{FastMoney.of(1, EURO), FastMoney.of(2, EURO)});
+    }
+
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2012, 2020, Anatole Tresch, Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.MonetaryAmount;
+import javax.money.MonetaryContextBuilder;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link MonetaryAmountCodec}.
+ */
+public class MonetaryAmountCodecTest {
+
+    private static final CurrencyUnit EURO = Monetary.getCurrency("EUR");
+    private static final CurrencyUnit CHF = Monetary.getCurrency("CHF");
+
+    private static final List<MonetaryAmount> AMOUNTS = Arrays.<MonetaryAmount>asList(
+            FastMoney.of(new BigDecimal("12.99"), EURO), Money.of(new BigDecimal("-0.015"), CHF),
+            RoundedMoney.of(new BigDecimal("100.25"), EURO), FastMoney.MIN_VALUE, FastMoney.MAX_VALUE,
+            Money.of(new BigDecimal("1E+30"), EURO), Money.zero(CHF));
+
+    @Test
+    public void testRoundTrip() {
+        MonetaryAmountCodec codec = MonetaryAmountCodec.of();
+        ByteBuffer buffer = codec.encode(AMOUNTS);
+        assertEquals(buffer.remaining(), codec.getEncodedSize(AMOUNTS));
+        assertEquals(codec.getCount(buffer), AMOUNTS.size());
+        MonetaryAmount[] decoded = codec.decode(buffer);
+        assertEquals(Arrays.asList(decoded), AMOUNTS);
+        assertEquals(buffer.remaining(), 0);
+        for (int i = 0; i < decoded.length; i++) {
+            assertEquals(decoded[i].getClass(), AMOUNTS.get(i).getClass());
+        }
+    }
+
+    @Test
+    public void testRoundTrip_Random() {
+        Random random = new Random(17L);
+        List<MonetaryAmount> amounts = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            BigDecimal number = new BigDecimal(new BigInteger(random.nextInt(100) + 1, random),
+                    random.nextInt(20) - 10);
+            if (random.nextBoolean()) {
+                number = number.negate();
+            }
+            amounts.add(Money.of(number, i % 2 == 0 ? EURO : CHF, MonetaryContextBuilder.of(Money.class)
+                    .setPrecision(0).build()));
+        }
+        MonetaryAmountCodec codec = MonetaryAmountCodec.of(
+                MonetaryContextBuilder.of(Money.class).setPrecision(0).build(), null);
+        assertEquals(Arrays.asList(codec.decode(codec.encode(amounts))), amounts);
+    }
+
+    @Test
+    public void testFixedFastMoneySlots() {
+        MonetaryAmountCodec codec = MonetaryAmountCodec.of();
+        int one = codec.getEncodedSize(Collections.singletonList(FastMoney.of(1, EURO)));
+        int two = codec.getEncodedSize(Arrays.asList(FastMoney.of(1, EURO), FastMoney.MAX_VALUE.getFactory()
+                .setCurrency(EURO).create()));
+        assertEquals(two - one, 11);
+    }
+
+    @Test
+    public void testEncodeIntoBuffer() {
+        MonetaryAmountCodec codec = MonetaryAmountCodec.of();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1024);
+        buffer.put((byte) 42);
+        codec.encode(AMOUNTS, buffer);
+        codec.encode(AMOUNTS.subList(0, 2), buffer);
+        assertEquals(buffer.order(), ByteOrder.BIG_ENDIAN);
+        buffer.flip();
+        assertEquals(buffer.get(), 42);
+        MonetaryAmount[] target = new MonetaryAmount[AMOUNTS.size() + 3];
+        assertEquals(codec.decode(buffer, target, 1), AMOUNTS.size());
+        assertEquals(codec.decode(buffer, target, AMOUNTS.size() + 1), 2);
+        assertNull(target[0]);
+        assertEquals(Arrays.asList(target).subList(1, AMOUNTS.size() + 1), AMOUNTS);
+        assertEquals(target[AMOUNTS.size() + 2], AMOUNTS.get(1));
+        assertEquals(buffer.remaining(), 0);
+    }
+
+    @Test
+    public void testEncodeIntoBuffer_Overflow() {
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        try {
+            MonetaryAmountCodec.of().encode(AMOUNTS, buffer);
+            throw new AssertionError("BufferOverflowException expected");
+        } catch (BufferOverflowException e) {
+            assertEquals(buffer.position(), 0);
+        }
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void testDecode_TargetTooSmall() {
+        MonetaryAmountCodec codec = MonetaryAmountCodec.of();
+        codec.decode(codec.encode(AMOUNTS), new MonetaryAmount[AMOUNTS.size()], 1);
+    }
+
+    @Test
+    public void testDecode_RoundedMoneyRounding() {
+        MonetaryAmountCodec codec = MonetaryAmountCodec.of(Money.DEFAULT_MONETARY_CONTEXT,
+                Monetary.getRounding(EURO));
+        MonetaryAmount decoded = codec.decode(codec.encode(Collections.singletonList(
+                RoundedMoney.of(new BigDecimal("1.25"), EURO))))[0];
+        assertEquals(decoded.multiply(new BigDecimal("1.01")), RoundedMoney.of(new BigDecimal("1.26"), EURO));
+    }
+
+    @Test
+    public void testDecode_RoundedMoneyDeferred() {
+        MonetaryAmountCodec codec = MonetaryAmountCodec.of(Money.DEFAULT_MONETARY_CONTEXT,
+                Monetary.getRounding(EURO));
+        RoundedMoney third = RoundedMoney.of(BigDecimal.ONE, EURO, Monetary.getRounding(EURO))
+                .withDeferredRounding(true).divide(3);
+        RoundedMoney decoded = (RoundedMoney) codec.decode(codec.encode(Collections.singletonList(third)))[0];
+        assertEquals(decoded.isRoundingDeferred(), true);
+        assertEquals(decoded.getUnroundedNumber(), third.getUnroundedNumber());
+        assertEquals(decoded.multiply(3).getNumber().numberValue(BigDecimal.class).compareTo(BigDecimal.ONE), 0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testDecode_InvalidCount() {
+        ByteBuffer buffer = MonetaryAmountCodec.of().encode(Collections.<MonetaryAmount>emptyList());
+        buffer.order(ByteOrder.LITTLE_ENDIAN).putInt(buffer.limit() - 4, Integer.MAX_VALUE - 1);
+        MonetaryAmountCodec.of().decode(buffer);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testDecode_Invalid() {
+        MonetaryAmountCodec.of().decode(ByteBuffer.allocate(64));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testDecode_Truncated() {
+        ByteBuffer buffer = MonetaryAmountCodec.of().encode(AMOUNTS);
+        buffer.limit(buffer.limit() - 1);
+        MonetaryAmountCodec.of().decode(buffer);
+    }
+
+    @Test
+    public void testFileChannel() throws IOException {
+        Path file = Files.createTempFile("amounts", ".bin");
+        try {
+            MonetaryAmountCodec codec = MonetaryAmountCodec.of();
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                codec.write(AMOUNTS, channel);
+                codec.write(AMOUNTS.subList(1, 3), channel);
+            }
+            List<MonetaryAmount> expected = new ArrayList<>(AMOUNTS);
+            expected.addAll(AMOUNTS.subList(1, 3));
+            assertEquals(codec.read(file), expected);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testOtherAmountTypes() {
+        MonetaryAmountCodec codec = MonetaryAmountCodec.of();
+        MonetaryAmount decoded = codec.decode(codec.encode(Collections.singletonList(
+                WideMoney.of(new BigDecimal("1.5"), EURO))))[0];
+        assertEquals(decoded, Money.of(new BigDecimal("1.5"), EURO));
+    }
+
+    @Test
+    public void testDecode_UsesContext() {
+        MonetaryAmountCodec codec = MonetaryAmountCodec.of(
+                MonetaryContextBuilder.of(Money.class).set(MathContext.DECIMAL32).build(), null);
+        MonetaryAmount decoded = codec.decode(codec.encode(Collections.singletonList(
+                Money.of(new BigDecimal("1.5"), EURO))))[0];
+        assertEquals(decoded.getContext().get(MathContext.class), MathContext.DECIMAL32);
+    }
+
+}
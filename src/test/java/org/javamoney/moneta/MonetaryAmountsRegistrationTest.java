@@ -48,10 +48,11 @@ public class MonetaryAmountsRegistrationTest{
     @Test
     public void testGetTypes(){
         assertNotNull(Monetary.getAmountTypes());
-        assertTrue(Monetary.getAmountTypes().size() == 3);
+        assertTrue(Monetary.getAmountTypes().size() == 4);
         assertTrue(Monetary.getAmountTypes().contains(FastMoney.class));
         assertTrue(Monetary.getAmountTypes().contains(Money.class));
         assertTrue(Monetary.getAmountTypes().contains(RoundedMoney.class));
+        assertTrue(Monetary.getAmountTypes().contains(WideMoney.class));
     }
 
     /**
@@ -19,6 +19,7 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
@@ -30,6 +31,7 @@ import java.io.ObjectOutputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
+import java.util.Random;
 
 import javax.money.CurrencyUnit;
 import javax.money.Monetary;
@@ -1140,6 +1142,90 @@ public class MoneyTest {
         assertEquals(money.getNumber().doubleValue(), 25.25);
     }
 
+    /**
+     * Test method for {@link Money#getNumber()}, ensuring the view is created only once.
+     */
+    @Test
+    public void testGetNumber_Cached() {
+        Money m = Money.of(new BigDecimal("12.345"), "CHF");
+        assertTrue(m.getNumber() == m.getNumber());
+        assertEquals(m.getNumber().numberValue(BigDecimal.class), new BigDecimal("12.345"));
+    }
+
+    @Test
+    public void testSerialization_AfterGetNumber() throws IOException, ClassNotFoundException {
+        Money m = Money.of(new BigDecimal("1.2345"), "XXX");
+        m.getNumber();
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(bos);
+        oos.writeObject(m);
+        oos.flush();
+        ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()));
+        Money m2 = (Money) ois.readObject();
+        assertEquals(m2.getNumber().numberValue(BigDecimal.class), m.getNumber().numberValue(BigDecimal.class));
+    }
+
+    @Test
+    public void testCompactRepresentation_MatchesBigDecimal() {
+        Random random = new Random(354);
+        for (int i = 0; i < 20000; i++) {
+            BigDecimal a = new BigDecimal(BigInteger.valueOf(random.nextLong() >> random.nextInt(64)),
+                    random.nextInt(12) - 2);
+            BigDecimal b = new BigDecimal(BigInteger.valueOf(random.nextLong() >> random.nextInt(64)),
+                    random.nextInt(12) - 2);
+            Money ma = Money.of(a, "EUR");
+            Money mb = Money.of(b, "EUR");
+            assertEquals(ma.add(mb).toString(), Money.of(a.add(b), "EUR").toString());
+            assertEquals(ma.subtract(mb).toString(), Money.of(a.subtract(b), "EUR").toString());
+            assertEquals(ma.negate().toString(), Money.of(a.negate(), "EUR").toString());
+            long factor = random.nextInt() >> random.nextInt(32);
+            assertEquals(ma.multiply(factor).toString(), Money.of(a.multiply(BigDecimal.valueOf(factor)), "EUR")
+                    .toString());
+            assertEquals(ma.compareTo(mb), a.compareTo(b));
+            assertEquals(ma.isEqualTo(mb), a.compareTo(b) == 0);
+            assertEquals(ma.equals(mb), a.compareTo(b) == 0);
+            assertEquals(ma.signum(), a.signum());
+        }
+    }
+
+    @Test
+    public void testCompactRepresentation_Normalization() {
+        assertEquals(Money.of(new BigDecimal("1.50"), "EUR").toString(), "EUR 1.5");
+        assertEquals(Money.of(new BigDecimal("1.5"), "EUR").add(Money.of(new BigDecimal("2.50"), "EUR"))
+                .toString(), "EUR 4");
+        assertEquals(Money.of(999999999999999999L, "EUR").add(Money.of(1, "EUR")).toString(),
+                "EUR 1000000000000000000");
+        assertEquals(Money.of(Long.MAX_VALUE, "EUR").add(Money.of(Long.MAX_VALUE, "EUR")).toString(),
+                "EUR 18446744073709551614");
+        assertEquals(Money.ofMinor(EURO, 1230).toString(), "EUR 12.3");
+        assertEquals(Money.zero(EURO), Money.of(BigDecimal.ZERO, EURO));
+        assertEquals(Money.of(new BigDecimal("1E+21"), EURO), Money.of(new BigDecimal("1000000000000000000000"),
+                EURO));
+        assertEquals(Money.of(new BigDecimal("1E+21"), EURO).hashCode(),
+                Money.of(new BigDecimal("1000000000000000000000"), EURO).hashCode());
+        MonetaryContext context = MonetaryContextBuilder.of(Money.class).setPrecision(3).build();
+        assertEquals(Money.of(1234567, EURO, context).toString(), "EUR 1230000");
+        assertEquals(Money.of(1234567, EURO, context), Money.of(new BigDecimal("1234567"), EURO, context));
+        MonetaryContext scaled = MonetaryContextBuilder.of(Money.class).setMaxScale(2).build();
+        assertEquals(Money.of(12, EURO, scaled).toString(), "EUR 12.00");
+    }
+
+    @Test
+    public void testSerialization_Compact() throws IOException, ClassNotFoundException {
+        for (Money m : new Money[]{Money.of(new BigDecimal("-1.2345"), "EUR"),
+                Money.of(new BigDecimal("1234567890123456789012.345"), "EUR")}) {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            ObjectOutputStream oos = new ObjectOutputStream(bos);
+            oos.writeObject(m);
+            oos.flush();
+            ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()));
+            Money m2 = (Money) ois.readObject();
+            assertEquals(m2, m);
+            assertEquals(m2.toString(), m.toString());
+            assertEquals(m2.add(m).toString(), m.multiply(2).toString());
+        }
+    }
+
     @Test
     public void testSerialization() throws IOException, ClassNotFoundException {
         Money m = Money.of(new BigDecimal("1.2345"), "XXX");
@@ -1243,4 +1329,46 @@ public class MoneyTest {
 		assertEquals(DOLLAR, amount.getCurrency());
 	}
 
+    @Test
+    public void testMixedTypes_MatchesBigDecimal() {
+        Random random = new Random(23L);
+        for (int i = 0; i < 10000; i++) {
+            BigDecimal first = BigDecimal.valueOf(random.nextLong() >> random.nextInt(64), random.nextInt(12) - 2);
+            FastMoney second = FastMoney.ofRaw(random.nextLong() >> random.nextInt(64), EURO);
+            BigDecimal secondBD = second.getNumber().numberValue(BigDecimal.class);
+            Money money = Money.of(first, EURO);
+            assertEquals(money.add(second), Money.of(first.add(secondBD), EURO));
+            assertEquals(money.subtract(second), Money.of(first.subtract(secondBD), EURO));
+            assertEquals(money.compareTo(second), Integer.signum(first.compareTo(secondBD)));
+            assertEquals(money.isGreaterThan(second), first.compareTo(secondBD) > 0);
+            assertEquals(money.isEqualTo(second), first.compareTo(secondBD) == 0);
+            RoundedMoney rounded = RoundedMoney.of(secondBD, EURO);
+            assertEquals(money.add(rounded), Money.of(first.add(secondBD), EURO));
+            assertEquals(money.isLessThan(rounded), first.compareTo(secondBD) < 0);
+        }
+        assertEquals(Money.of(1, EURO).subtract(FastMoney.MIN_VALUE.getFactory().setCurrency(EURO).create()),
+                Money.of(FastMoney.MIN_VALUE.getNumber().numberValue(BigDecimal.class).negate().add(BigDecimal.ONE),
+                        EURO));
+    }
+
+    @Test
+    public void testCachedValues() {
+        assertSame(Money.zero(EURO), Money.of(0, EURO));
+        assertSame(Money.of(BigDecimal.ZERO, EURO), Money.zero(EURO));
+        assertSame(Money.of(1, EURO), Money.ofMinor(EURO, 100));
+        assertSame(Money.of(-5L, EURO), Money.of(new BigDecimal("-5.00"), EURO));
+        assertSame(Monetary.getAmountFactory(Money.class).setContext(Money.DEFAULT_MONETARY_CONTEXT)
+                .setCurrency(EURO).setNumber(100).create(), Money.of(100, EURO));
+        assertNotSame(Money.of(new BigDecimal("1.5"), EURO), Money.of(new BigDecimal("1.5"), EURO));
+        assertNotSame(Money.of(100000, EURO), Money.of(100000, EURO));
+        MonetaryContext context = MonetaryContextBuilder.of(Money.class).setPrecision(10).build();
+        Money money = Money.of(1, EURO, context);
+        assertNotSame(money, Money.of(1, EURO));
+        assertEquals(money.getContext(), context);
+        CurrencyUnit otherEuro = CurrencyUnitBuilder.of("EUR", "test").build();
+        Money other = Money.of(1, otherEuro);
+        assertSame(other.getCurrency(), otherEuro);
+        assertEquals(other, Money.of(1, otherEuro));
+    }
+
 }
@@ -15,12 +15,21 @@
  */
 package org.javamoney.moneta;
 
+import java.io.File;
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Locale;
 
+import javax.money.CurrencyQuery;
+import javax.money.CurrencyQueryBuilder;
 import javax.money.CurrencyUnit;
 import javax.money.MonetaryAmount;
 import javax.money.Monetary;
+import javax.money.MonetaryContext;
 
+import org.javamoney.moneta.spi.MoneyUtils;
 import org.testng.annotations.Test;
 
 /**
@@ -203,4 +212,160 @@ public class PerformanceTest {
 		System.out.println();
 	}
 
+	@Test(enabled = false)
+	public void compareMoneyConstruction() {
+		final int NUM = 1000000;
+		MonetaryContext context = Money.DEFAULT_MONETARY_CONTEXT;
+		MathContext mc = MoneyUtils.getMathContext(context, RoundingMode.HALF_EVEN);
+		BigDecimal value = new BigDecimal("1234567.3444");
+		BigDecimal result = BigDecimal.ZERO;
+		long start = System.currentTimeMillis();
+		for (int i = 0; i < NUM; i++) {
+			result = new BigDecimal(value.add(result).toString(), mc);
+		}
+		long end = System.currentTimeMillis();
+		long duration = end - start;
+		System.out.println("Duration for " + NUM
+				+ " context applications (String round trip): "
+				+ duration + " ms (" + ((duration * 1000000) / NUM)
+				+ " ns per loop) -> "
+				+ result);
+
+		result = BigDecimal.ZERO;
+		start = System.currentTimeMillis();
+		for (int i = 0; i < NUM; i++) {
+			result = MoneyUtils.getBigDecimal(value.add(result), context);
+		}
+		end = System.currentTimeMillis();
+		duration = end - start;
+		System.out.println("Duration for " + NUM
+				+ " context applications (MoneyUtils): "
+				+ duration + " ms (" + ((duration * 1000000) / NUM)
+				+ " ns per loop) -> "
+				+ result);
+
+		Money money = Money.of(BigDecimal.ONE, EURO);
+		Money adding = Money.of(value, EURO);
+		start = System.currentTimeMillis();
+		for (int i = 0; i < NUM; i++) {
+			money = money.add(adding);
+		}
+		end = System.currentTimeMillis();
+		duration = end - start;
+		System.out.println("Duration for " + NUM
+				+ " Money additions: "
+				+ duration + " ms (" + ((duration * 1000000) / NUM)
+				+ " ns per loop) -> "
+				+ money);
+	}
+
+	@Test(enabled = false)
+	public void compareSerialization() throws IOException, ClassNotFoundException {
+		final int NUM = 100000;
+		MonetaryAmount[] amounts = {FastMoney.of(new BigDecimal("1234567.3444"), EURO),
+				Money.of(new BigDecimal("1234567.3444"), EURO),
+				RoundedMoney.of(new BigDecimal("1234567.3444"), EURO)};
+		for (MonetaryAmount amount : amounts) {
+			byte[] bytes = SerTest.serialize(amount);
+			long start = System.currentTimeMillis();
+			for (int i = 0; i < NUM; i++) {
+				bytes = SerTest.serialize(amount);
+				amount = SerTest.deserialize(bytes);
+			}
+			long end = System.currentTimeMillis();
+			long duration = end - start;
+			System.out.println("Duration for " + NUM
+					+ " serialization round trips (" + amount.getClass().getSimpleName() + ", "
+					+ bytes.length + " bytes): "
+					+ duration + " ms (" + ((duration * 1000000) / NUM)
+					+ " ns per loop) -> "
+					+ amount);
+		}
+		Money[] batch = new Money[1000];
+		for (int i = 0; i < batch.length; i++) {
+			batch[i] = Money.of(new BigDecimal(i).movePointLeft(2), EURO);
+		}
+		System.out.println("Size of " + batch.length + " Money instances in one stream: "
+				+ SerTest.serialize(batch).length + " bytes");
+	}
+
+	@Test(enabled = false)
+	public void compareMixedTypeArithmetic() {
+		final int NUM = 1000000;
+		FastMoney fast = FastMoney.of(new BigDecimal("12.34"), EURO);
+		Money money = Money.of(new BigDecimal("56.78"), EURO);
+		RoundedMoney rounded = RoundedMoney.of(new BigDecimal("0.05"), EURO);
+		MonetaryAmount[][] pairs = {{money, fast}, {fast, money}, {money, rounded}, {fast, rounded},
+				{rounded, money}};
+		for (MonetaryAmount[] pair : pairs) {
+			MonetaryAmount result = pair[0];
+			int compared = 0;
+			long start = System.currentTimeMillis();
+			for (int i = 0; i < NUM; i++) {
+				result = result.add(pair[1]).subtract(pair[1]);
+				compared += result.compareTo(pair[1]);
+			}
+			long end = System.currentTimeMillis();
+			long duration = end - start;
+			System.out.println("Duration for " + NUM
+					+ " additions, subtractions and comparisons ("
+					+ pair[0].getClass().getSimpleName() + " with " + pair[1].getClass().getSimpleName() + "): "
+					+ duration + " ms (" + ((duration * 1000000) / NUM)
+					+ " ns per loop) -> "
+					+ result + ", " + compared);
+		}
+	}
+
+
+	@Test(enabled = false)
+	public void compareCurrencyLookups() {
+		final int NUM = 100000;
+		CurrencyQuery numericQuery = CurrencyQueryBuilder.of().setNumericCodes(978).build();
+		Locale[] locales = {Locale.GERMANY, Locale.US, new Locale("de", "CH"), Locale.ENGLISH,
+				new Locale("", "AQ")};
+		int found = 0;
+		long start = System.currentTimeMillis();
+		for (int i = 0; i < NUM; i++) {
+			found += Monetary.getCurrencies(numericQuery).size();
+		}
+		long duration = System.currentTimeMillis() - start;
+		System.out.println("Duration for " + NUM + " lookups by numeric code: " + duration + " ms ("
+				+ ((duration * 1000000) / NUM) + " ns per loop) -> " + found);
+		for (Locale locale : locales) {
+			found = 0;
+			start = System.currentTimeMillis();
+			for (int i = 0; i < NUM; i++) {
+				found += Monetary.getCurrencies(locale).size();
+			}
+			duration = System.currentTimeMillis() - start;
+			System.out.println("Duration for " + NUM + " lookups by locale " + locale + ": " + duration
+					+ " ms (" + ((duration * 1000000) / NUM) + " ns per loop) -> " + found);
+		}
+	}
+
+
+	@Test(enabled = false)
+	public void measureStartup() throws IOException, InterruptedException {
+		String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+		for (int i = 0; i < 5; i++) {
+			Process process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+					StartupMain.class.getName()).inheritIO().start();
+			process.waitFor();
+		}
+	}
+
+	/**
+	 * Measures the time to the first currency access in a new JVM, used by {@link #measureStartup()}.
+	 */
+	public static final class StartupMain {
+
+		public static void main(String[] args) {
+			long start = System.nanoTime();
+			CurrencyUnit currency = Monetary.getCurrency("EUR");
+			long duration = System.nanoTime() - start;
+			System.out.println("Duration for first Monetary.getCurrency: " + (duration / 1000000) + " ms -> "
+					+ currency);
+		}
+	}
+
 }
@@ -19,6 +19,7 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 import java.io.ByteArrayInputStream;
@@ -1191,4 +1192,83 @@ public class RoundedMoneyTest {
 		assertEquals(DOLLAR, amount.getCurrency());
 	}
 
+	@Test
+	public void testDeferredRounding() {
+		RoundedMoney immediate = RoundedMoney.of(new BigDecimal("1.01"), EURO, Monetary.getRounding(EURO));
+		RoundedMoney deferred = immediate.withDeferredRounding(true);
+		assertTrue(deferred.isRoundingDeferred());
+		assertFalse(immediate.isRoundingDeferred());
+		assertEquals(immediate.divide(3).multiply(3), RoundedMoney.of(new BigDecimal("1.02"), EURO));
+		RoundedMoney result = deferred.divide(3).multiply(3);
+		assertTrue(result.isRoundingDeferred());
+		assertEquals(result.getNumber().numberValue(BigDecimal.class).compareTo(new BigDecimal("1.01")), 0);
+		assertEquals(result.toString(), "EUR 1.01");
+		assertEquals(deferred.divide(3).getNumber().numberValue(BigDecimal.class), new BigDecimal("0.34"));
+		assertTrue(deferred.divide(3).isEqualTo(RoundedMoney.of(new BigDecimal("0.34"), EURO)));
+		assertEquals(deferred.divide(3).withDeferredRounding(false).multiply(3).getNumber()
+				.numberValue(BigDecimal.class).compareTo(new BigDecimal("1.02")), 0);
+	}
+
+	@Test
+	public void testDeferredRounding_Round() {
+		RoundedMoney third = RoundedMoney.of(new BigDecimal("1.01"), EURO, Monetary.getRounding(EURO))
+				.withDeferredRounding(true).divide(3);
+		RoundedMoney rounded = third.round();
+		assertTrue(rounded.isRoundingDeferred());
+		assertEquals(rounded.add(rounded).add(rounded).getNumber().numberValue(BigDecimal.class),
+				new BigDecimal("1.02"));
+		assertEquals(third.add(third).add(third).getNumber().numberValue(BigDecimal.class)
+				.compareTo(new BigDecimal("1.01")), 0);
+		assertEquals(third.subtract(third).isZero(), true);
+		assertEquals(third.negate().signum(), -1);
+	}
+
+	@Test
+	public void testDeferredRounding_InterestAccrual() {
+		BigDecimal rate = new BigDecimal("1.0001");
+		RoundedMoney deferred = RoundedMoney.of(new BigDecimal("1000"), EURO, Monetary.getRounding(EURO))
+				.withDeferredRounding(true);
+		for (int i = 0; i < 365; i++) {
+			deferred = deferred.multiply(rate);
+		}
+		BigDecimal exact = new BigDecimal("1000").multiply(rate.pow(365)).setScale(2, RoundingMode.HALF_EVEN);
+		assertEquals(deferred.getNumber().numberValue(BigDecimal.class), exact);
+	}
+
+
+	@Test
+	public void testDeferredRounding_AbsUsesUnroundedValue() {
+		RoundedMoney amount = RoundedMoney.of(new BigDecimal("-0.001"), DOLLAR).withDeferredRounding(true);
+		assertEquals(amount.abs().multiply(1000), RoundedMoney.of(BigDecimal.ONE, DOLLAR));
+		assertTrue(amount.abs().getUnroundedNumber().signum() > 0);
+		RoundedMoney positive = RoundedMoney.of(new BigDecimal("0.001"), DOLLAR).withDeferredRounding(true);
+		assertSame(positive.abs(), positive);
+	}
+
+	@Test
+	public void testDeferredRounding_AddUsesMathContext() {
+		RoundedMoney amount = RoundedMoney.of(BigDecimal.ONE, EURO, Monetary.getRounding(EURO))
+				.withDeferredRounding(true);
+		for (int i = 1; i <= 200; i++) {
+			amount = amount.add(Money.of(BigDecimal.ONE.movePointLeft(i % 40 + 1), EURO));
+		}
+		assertTrue(amount.getUnroundedNumber().precision() <= MathContext.DECIMAL64.getPrecision());
+	}
+
+	@Test
+	public void testDeferredRounding_KeepsMode() {
+		RoundedMoney amount = RoundedMoney.of(new BigDecimal("1.01"), EURO, Monetary.getRounding(EURO))
+				.withDeferredRounding(true);
+		assertTrue(amount.with(new BigDecimal("2.005")).isRoundingDeferred());
+		assertEquals(amount.with(new BigDecimal("2.005")).getUnroundedNumber(), new BigDecimal("2.005"));
+		RoundedMoney other = amount.with(DOLLAR, new BigDecimal("3.001"));
+		assertTrue(other.isRoundingDeferred());
+		assertEquals(other.getCurrency(), DOLLAR);
+		assertEquals(other.getUnroundedNumber(), new BigDecimal("3.001"));
+		RoundedMoney stripped = amount.divide(4).stripTrailingZeros();
+		assertTrue(stripped.isRoundingDeferred());
+		assertEquals(stripped.getUnroundedNumber(), new BigDecimal("0.2525"));
+		assertFalse(amount.getFactory().create().isRoundingDeferred());
+	}
+
 }
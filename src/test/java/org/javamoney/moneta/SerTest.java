@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2012, 2020, Anatole Tresch, Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Random;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.MonetaryAmount;
+import javax.money.MonetaryContext;
+import javax.money.MonetaryContextBuilder;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the serialized form of amounts, defined by {@link Ser}.
+ */
+public class SerTest {
+
+    private static final CurrencyUnit EURO = Monetary.getCurrency("EUR");
+
+    static byte[] serialize(Object object) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(object);
+        }
+        return bos.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return (T) ois.readObject();
+        }
+    }
+
+    private static void assertRoundTrip(MonetaryAmount amount) throws IOException, ClassNotFoundException {
+        MonetaryAmount copy = deserialize(serialize(amount));
+        assertEquals(copy.getClass(), amount.getClass());
+        assertEquals(copy, amount);
+        if (amount instanceof RoundedMoney) {
+            // roundings do not necessarily implement equals
+            assertEquals(copy.getContext().get(MathContext.class), amount.getContext().get(MathContext.class));
+        } else {
+            assertEquals(copy.getContext(), amount.getContext());
+        }
+        assertEquals(copy.getNumber().numberValue(BigDecimal.class), amount.getNumber().numberValue(BigDecimal.class));
+    }
+
+    @Test
+    public void testFastMoney() throws IOException, ClassNotFoundException {
+        assertRoundTrip(FastMoney.of(new BigDecimal("12.99"), EURO));
+        assertRoundTrip(FastMoney.of(-1, EURO));
+        assertRoundTrip(FastMoney.zero(EURO));
+        assertRoundTrip(FastMoney.MAX_VALUE);
+        assertRoundTrip(FastMoney.MIN_VALUE);
+        Random random = new Random(3L);
+        for (int i = 0; i < 1000; i++) {
+            assertRoundTrip(FastMoney.ofRaw(random.nextLong() >> random.nextInt(64), EURO));
+        }
+    }
+
+    @Test
+    public void testMoney() throws IOException, ClassNotFoundException {
+        assertRoundTrip(Money.of(new BigDecimal("12.99"), EURO));
+        assertRoundTrip(Money.of(new BigDecimal("-1E+20"), EURO));
+        assertRoundTrip(Money.of(new BigDecimal("123456789012345678901234567890.123"), EURO,
+                MonetaryContextBuilder.of(Money.class).setPrecision(0).build()));
+        assertRoundTrip(Money.zero(EURO));
+        Random random = new Random(5L);
+        for (int i = 0; i < 1000; i++) {
+            assertRoundTrip(Money.of(BigDecimal.valueOf(random.nextLong(), random.nextInt(20) - 5), EURO));
+        }
+    }
+
+    @Test
+    public void testMoney_WithContext() throws IOException, ClassNotFoundException {
+        MonetaryContext context = MonetaryContextBuilder.of(Money.class).set(MathContext.DECIMAL32).build();
+        Money amount = Money.of(new BigDecimal("1.2345"), EURO, context);
+        assertRoundTrip(amount);
+        assertTrue(serialize(amount).length > serialize(Money.of(new BigDecimal("1.2345"), EURO)).length);
+    }
+
+    @Test
+    public void testRoundedMoney() throws IOException, ClassNotFoundException {
+        assertRoundTrip(RoundedMoney.of(new BigDecimal("1.2345"), EURO));
+        assertRoundTrip(RoundedMoney.of(new BigDecimal("-98765.4"), "XXX"));
+        assertRoundTrip(RoundedMoney.of(new BigDecimal("1.2345"), EURO, MathContext.DECIMAL32));
+        assertRoundTrip(RoundedMoney.of(new BigDecimal("1.2345"), EURO,
+                Monetary.getRounding(EURO)));
+    }
+
+    @Test
+    public void testRoundedMoney_DeferredRounding() throws IOException, ClassNotFoundException {
+        RoundedMoney amount = RoundedMoney.of(BigDecimal.ONE, EURO, Monetary.getRounding(EURO))
+                .withDeferredRounding(true).divide(3);
+        RoundedMoney copy = deserialize(serialize(amount));
+        assertTrue(copy.isRoundingDeferred());
+        assertEquals(copy, amount);
+        assertEquals(copy.multiply(3), amount.multiply(3));
+    }
+
+    @Test
+    public void testCurrency_IsResolved() throws IOException, ClassNotFoundException {
+        FastMoney copy = deserialize(serialize(FastMoney.of(1, EURO)));
+        assertSame(copy.getCurrency(), Monetary.getCurrency("EUR"));
+    }
+
+    @Test
+    public void testCurrency_NotRegistered() throws IOException, ClassNotFoundException {
+        CurrencyUnit currency = CurrencyUnitBuilder.of("ZZS", "serialization-test").setDefaultFractionDigits(3)
+                .build(false);
+        assertRoundTrip(FastMoney.of(1, currency));
+        assertRoundTrip(Money.of(1, currency));
+        assertRoundTrip(RoundedMoney.of(BigDecimal.ONE, currency));
+    }
+
+    @Test(expectedExceptions = StreamCorruptedException.class)
+    public void testNumberLength_Invalid() throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeByte(Ser.MONEY | Ser.BIG_NUMBER);
+            oos.writeUTF("EUR");
+            Ser.writeVarLong(oos, 2);
+            Ser.writeVarLong(oos, Integer.MAX_VALUE);
+        }
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+            new Ser().readExternal(ois);
+        }
+    }
+
+    @Test
+    public void testSize() throws IOException {
+        // header byte, currency code and value, plus the stream header and class descriptor
+        assertTrue(serialize(FastMoney.of(new BigDecimal("12.99"), EURO)).length < 64);
+        assertTrue(serialize(Money.of(new BigDecimal("12.99"), EURO)).length < 64);
+        assertTrue(serialize(RoundedMoney.of(new BigDecimal("12.99"), EURO)).length < 64);
+        Object[] amounts = new Object[100];
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = Money.of(i, EURO);
+        }
+        // the class descriptor is written only once per stream
+        assertTrue(serialize(amounts).length < 20 * amounts.length);
+    }
+
+}
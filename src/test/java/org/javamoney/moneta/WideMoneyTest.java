@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2012, 2020, Anatole Tresch, Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.MonetaryAmount;
+import javax.money.MonetaryContext;
+import javax.money.MonetaryContextBuilder;
+import javax.money.MonetaryException;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link WideMoney}.
+ */
+public class WideMoneyTest {
+
+    private static final CurrencyUnit EURO = Monetary.getCurrency("EUR");
+    private static final BigDecimal MAX = new BigDecimal(BigInteger.ONE.shiftLeft(127).subtract(BigInteger.ONE), 5);
+
+    private static BigDecimal number(MonetaryAmount amount) {
+        return amount.getNumber().numberValue(BigDecimal.class);
+    }
+
+    private static void assertNumber(MonetaryAmount amount, BigDecimal expected) {
+        assertEquals(number(amount).compareTo(expected), 0, "expected " + expected + " but found " + amount);
+    }
+
+    @Test
+    public void testOf() {
+        WideMoney amount = WideMoney.of(new BigDecimal("123456789012345678901234.56789"), EURO);
+        assertNumber(amount, new BigDecimal("123456789012345678901234.56789"));
+        assertEquals(amount.getScale(), WideMoney.DEFAULT_SCALE);
+        assertEquals(amount.getCurrency(), EURO);
+        assertEquals(amount.toString(), "EUR 123456789012345678901234.56789");
+        assertEquals(WideMoney.of(-42L, "EUR"), WideMoney.of(new BigDecimal("-42.000"), EURO));
+        assertNumber(WideMoney.of(Long.MIN_VALUE, EURO), BigDecimal.valueOf(Long.MIN_VALUE));
+        assertNumber(WideMoney.of(1.123456, EURO), new BigDecimal("1.12346"));
+        assertTrue(WideMoney.zero(EURO).isZero());
+        assertNumber(WideMoney.MAX_VALUE, MAX);
+        assertNumber(WideMoney.MIN_VALUE, MAX.negate().subtract(new BigDecimal("0.00001")));
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testOf_Overflow() {
+        WideMoney.of(MAX.add(new BigDecimal("0.00001")), EURO);
+    }
+
+    @Test
+    public void testOf_Context() {
+        MonetaryContext context = MonetaryContextBuilder.of(WideMoney.class).setMaxScale(2)
+                .set(RoundingMode.DOWN).build();
+        WideMoney amount = WideMoney.of(new BigDecimal("1.239"), EURO, context);
+        assertEquals(amount.getScale(), 2);
+        assertNumber(amount, new BigDecimal("1.23"));
+        assertEquals(amount.getContext().get(RoundingMode.class), RoundingMode.DOWN);
+        assertNumber(amount.divide(7), new BigDecimal("0.17"));
+        assertNumber(amount.add(FastMoney.of(new BigDecimal("0.01"), EURO)), new BigDecimal("1.24"));
+        assertNumber(amount.subtract(WideMoney.of(new BigDecimal("0.01000"), EURO)), new BigDecimal("1.22"));
+    }
+
+    @Test
+    public void testAddSubtract_ScaleExceeded() {
+        MonetaryContext context = MonetaryContextBuilder.of(WideMoney.class).setMaxScale(2).build();
+        WideMoney amount = WideMoney.of(BigDecimal.ONE, EURO, context);
+        MonetaryAmount[] operands = {FastMoney.of(new BigDecimal("0.019"), EURO),
+                Money.of(new BigDecimal("0.005"), EURO), WideMoney.of(new BigDecimal("0.001"), EURO)};
+        for (MonetaryAmount operand : operands) {
+            try {
+                amount.add(operand);
+                fail("operand exceeding the scale should raise ArithmeticException: " + operand);
+            } catch (ArithmeticException e) {
+                // should happen
+            }
+            try {
+                amount.subtract(operand);
+                fail("operand exceeding the scale should raise ArithmeticException: " + operand);
+            } catch (ArithmeticException e) {
+                // should happen
+            }
+        }
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testFrom_ScaleExceeded() {
+        WideMoney.from(Money.of(new BigDecimal("0.000001"), EURO));
+    }
+
+    @Test(expectedExceptions = MonetaryException.class)
+    public void testOf_InvalidScale() {
+        WideMoney.of(1, EURO, MonetaryContextBuilder.of(WideMoney.class).setMaxScale(19).build());
+    }
+
+    @Test
+    public void testFactory() {
+        WideMoney amount = Monetary.getAmountFactory(WideMoney.class).setCurrency(EURO)
+                .setNumber(new BigDecimal("1234567890123456789012.5")).create();
+        assertEquals(amount, WideMoney.of(new BigDecimal("1234567890123456789012.5"), EURO));
+        WideMoney scaled = amount.getFactory().setContext(MonetaryContextBuilder.of(WideMoney.class)
+                .setMaxScale(10).build()).setNumber(new BigDecimal("0.0123456789")).create();
+        assertEquals(scaled.getScale(), 10);
+        assertNumber(scaled, new BigDecimal("0.0123456789"));
+        assertEquals(amount.getFactory().create(), amount);
+    }
+
+    @Test
+    public void testConversions() {
+        FastMoney fast = FastMoney.of(new BigDecimal("-12345.67891"), EURO);
+        assertEquals(WideMoney.from(fast).toFastMoney(), fast);
+        assertNumber(WideMoney.from(fast), number(fast));
+        assertEquals(WideMoney.from(FastMoney.MAX_VALUE).toFastMoney(), FastMoney.MAX_VALUE);
+        assertEquals(WideMoney.from(FastMoney.MIN_VALUE).toFastMoney(), FastMoney.MIN_VALUE);
+        Money money = Money.of(new BigDecimal("98765432109876543210.12345"), EURO);
+        assertEquals(WideMoney.from(money).toMoney(), money);
+        assertTrue(WideMoney.from(money).isEqualTo(money));
+        WideMoney wide = WideMoney.from(money);
+        assertEquals(WideMoney.from(wide), wide);
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testToFastMoney_Overflow() {
+        WideMoney.from(FastMoney.MAX_VALUE).add(FastMoney.of(1, "XXX")).toFastMoney();
+    }
+
+    @Test
+    public void testAddSubtract() {
+        WideMoney total = WideMoney.zero(EURO);
+        for (int i = 0; i < 3; i++) {
+            total = total.add(FastMoney.of(new BigDecimal("90000000000000.12345"), EURO));
+        }
+        assertNumber(total, new BigDecimal("270000000000000.37035"));
+        total = total.subtract(Money.of(new BigDecimal("270000000000000.37035"), EURO));
+        assertTrue(total.isZero());
+        WideMoney a = WideMoney.of(new BigDecimal("-1"), EURO);
+        assertNumber(a.add(WideMoney.of(new BigDecimal("0.00001"), EURO)), new BigDecimal("-0.99999"));
+        assertNumber(a.subtract(WideMoney.of(Long.MAX_VALUE, EURO)),
+                BigDecimal.valueOf(Long.MIN_VALUE));
+    }
+
+    @Test
+    public void testAddSubtract_Overflow() {
+        WideMoney max = WideMoney.MAX_VALUE;
+        WideMoney min = WideMoney.MIN_VALUE;
+        WideMoney unit = WideMoney.of(new BigDecimal("0.00001"), "XXX");
+        assertEquals(max.subtract(unit).add(unit), max);
+        assertEquals(min.add(unit).subtract(unit), min);
+        assertOverflow(max, unit, true);
+        assertOverflow(min, unit.negate(), true);
+        assertOverflow(min, unit, false);
+        assertOverflow(max, unit.negate(), false);
+    }
+
+    private static void assertOverflow(WideMoney amount, WideMoney operand, boolean add) {
+        try {
+            if (add) {
+                amount.add(operand);
+            } else {
+                amount.subtract(operand);
+            }
+            fail("overflow should raise ArithmeticException");
+        } catch (ArithmeticException e) {
+            // should happen
+        }
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testNegate_Overflow() {
+        WideMoney.MIN_VALUE.negate();
+    }
+
+    @Test
+    public void testMultiplyDivide() {
+        WideMoney amount = WideMoney.of(new BigDecimal("92233720368547.75807"), EURO);
+        assertNumber(amount.multiply(1000000L), new BigDecimal("92233720368547758070"));
+        assertNumber(amount.multiply(new BigDecimal("0.5")), new BigDecimal("46116860184273.87904"));
+        assertNumber(amount.multiply(-2.5), new BigDecimal("-230584300921369.39518"));
+        assertNumber(amount.divide(3L), new BigDecimal("30744573456182.58602"));
+        assertNumber(amount.divide(new BigDecimal("0.25")), new BigDecimal("368934881474191.03228"));
+        assertNumber(amount.remainder(10), new BigDecimal("7.75807"));
+        assertNumber(amount.divideToIntegralValue(10), new BigDecimal("9223372036854"));
+        assertNumber(amount.scaleByPowerOfTen(3), new BigDecimal("92233720368547758.07000"));
+        assertEquals(WideMoney.MIN_VALUE.multiply(1L), WideMoney.MIN_VALUE);
+        assertEquals(WideMoney.MIN_VALUE.divide(1L), WideMoney.MIN_VALUE);
+    }
+
+    @Test
+    public void testMultiply_Overflow() {
+        try {
+            WideMoney.MAX_VALUE.multiply(2L);
+            fail("overflow should raise ArithmeticException");
+        } catch (ArithmeticException e) {
+            // should happen
+        }
+        try {
+            WideMoney.MIN_VALUE.multiply(-1L);
+            fail("overflow should raise ArithmeticException");
+        } catch (ArithmeticException e) {
+            // should happen
+        }
+        try {
+            WideMoney.MIN_VALUE.divide(-1L);
+            fail("overflow should raise ArithmeticException");
+        } catch (ArithmeticException e) {
+            // should happen
+        }
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testDivide_Zero() {
+        WideMoney.of(1, EURO).divide(0L);
+    }
+
+    @Test
+    public void testComparisons() {
+        WideMoney amount = WideMoney.of(new BigDecimal("100000000000000000000"), EURO);
+        assertTrue(amount.isGreaterThan(FastMoney.of(1, EURO)));
+        assertTrue(amount.isGreaterThan(Money.of(new BigDecimal("99999999999999999999.99999"), EURO)));
+        assertTrue(amount.negate().isLessThan(FastMoney.MIN_VALUE.getFactory().setCurrency(EURO).create()));
+        assertTrue(amount.isEqualTo(Money.of(new BigDecimal("1E+20"), EURO)));
+        assertTrue(WideMoney.of(-1, EURO).compareTo(WideMoney.of(0, EURO)) < 0);
+        assertTrue(WideMoney.of(1, EURO).compareTo(WideMoney.of(1, "CHF")) > 0);
+        assertEquals(amount.signum(), 1);
+        assertEquals(amount.negate().signum(), -1);
+        assertFalse(amount.isNegativeOrZero());
+        assertTrue(WideMoney.zero(EURO).isPositiveOrZero());
+        assertEquals(amount.negate().abs(), amount);
+    }
+
+    @Test
+    public void testArithmetic_MatchesBigDecimal() {
+        Random random = new Random(354);
+        for (int i = 0; i < 20000; i++) {
+            BigDecimal a = new BigDecimal(new BigInteger(90, random), 5);
+            BigDecimal b = new BigDecimal(new BigInteger(60, random), random.nextInt(6));
+            if (random.nextBoolean()) {
+                a = a.negate();
+            }
+            if (random.nextBoolean()) {
+                b = b.negate();
+            }
+            WideMoney amount = WideMoney.of(a, EURO);
+            assertNumber(amount.add(WideMoney.of(b, EURO)), a.add(b).setScale(5));
+            assertNumber(amount.subtract(WideMoney.of(b, EURO)), a.subtract(b).setScale(5));
+            long factor = random.nextInt() >> random.nextInt(32);
+            assertNumber(amount.multiply(factor), a.multiply(BigDecimal.valueOf(factor)));
+            BigDecimal c = new BigDecimal(BigInteger.valueOf(factor), random.nextInt(6));
+            assertNumber(amount.multiply(c), a.multiply(c).setScale(5, RoundingMode.HALF_EVEN));
+            long divisor = random.nextLong() >> random.nextInt(64);
+            if (divisor != 0L) {
+                assertNumber(amount.divide(divisor),
+                        a.divide(BigDecimal.valueOf(divisor), 5, RoundingMode.HALF_EVEN));
+            }
+        }
+    }
+
+    @Test
+    public void testSerialization() throws IOException, ClassNotFoundException {
+        WideMoney amount = WideMoney.of(new BigDecimal("-123456789012345678901234.56789"), EURO);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(amount);
+        }
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+            assertEquals(ois.readObject(), amount);
+        }
+    }
+
+}
@@ -20,12 +20,14 @@ import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertTrue;
 
+import java.util.Arrays;
 import java.util.Collection;
 
 import javax.money.Monetary;
 import javax.money.convert.*;
 
 import org.javamoney.moneta.spi.CompoundRateProvider;
+import org.javamoney.moneta.spi.MonetaryConfig;
 import org.testng.annotations.Test;
 
 public class MonetaryConversionTest {
@@ -76,4 +78,17 @@ public class MonetaryConversionTest {
 		assertTrue(types.contains("ECB"));
 	}
 
+	@Test
+	public void testGetDefaultProviderChain_ConfigChanged() {
+		try {
+			MonetaryConfig.set("conversion.default-chain", "IMF,ECB");
+			assertEquals(MonetaryConversions.getDefaultConversionProviderChain(), Arrays.asList("IMF", "ECB"));
+			MonetaryConfig.set("conversion.default-chain", "ECB");
+			assertEquals(MonetaryConversions.getDefaultConversionProviderChain(), Arrays.asList("ECB"));
+		} finally {
+			MonetaryConfig.set("conversion.default-chain", null);
+		}
+		assertTrue(MonetaryConversions.getDefaultConversionProviderChain().contains("IMF"));
+	}
+
 }
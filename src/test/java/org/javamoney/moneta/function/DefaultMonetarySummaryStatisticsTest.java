@@ -20,6 +20,7 @@ import static org.javamoney.moneta.function.StreamFactory.DOLLAR;
 
 import javax.money.CurrencyUnit;
 
+import org.javamoney.moneta.FastMoney;
 import org.javamoney.moneta.Money;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -103,6 +104,58 @@ public class DefaultMonetarySummaryStatisticsTest {
 		Assert.assertEquals(70L, summaryA.getAverage().getNumber().longValue());
 	}
 
+	@Test
+	public void shouldRejectFastMoneyOverflow() {
+		DefaultMonetarySummaryStatistics summary = new DefaultMonetarySummaryStatistics(
+				BRAZILIAN_REAL);
+		FastMoney large = FastMoney.of(90000000000000L, BRAZILIAN_REAL);
+		summary.accept(large);
+		try {
+			summary.accept(large);
+			Assert.fail("ArithmeticException expected.");
+		} catch (ArithmeticException e) {
+			// expected
+		}
+		Assert.assertEquals(1L, summary.getCount());
+		Assert.assertEquals(summary.getSum(), large);
+		Assert.assertEquals(summary.getAverage(), large);
+		summary.accept(FastMoney.of(-90000000000000L, BRAZILIAN_REAL));
+		summary.accept(large);
+		try {
+			summary.accept(large);
+			Assert.fail("ArithmeticException expected.");
+		} catch (ArithmeticException e) {
+			// expected
+		}
+		Assert.assertEquals(3L, summary.getCount());
+		Assert.assertEquals(summary.getMax(), large);
+		Assert.assertEquals(summary.getSum(), large);
+		Assert.assertEquals(summary.getAverage(), FastMoney.of(30000000000000L, BRAZILIAN_REAL));
+		Assert.assertTrue(summary.toString().contains("sum:BRL 90000000000000"));
+	}
+
+	@Test
+	public void shouldUseSumAssignedBySubclass() {
+		DefaultMonetarySummaryStatistics summary = new DefaultMonetarySummaryStatistics(
+				BRAZILIAN_REAL) {
+			@Override
+			public void accept(javax.money.MonetaryAmount amount) {
+				super.accept(amount);
+				if (count == 2) {
+					setSum(Money.of(1000, BRAZILIAN_REAL));
+					setAverage(Money.of(500, BRAZILIAN_REAL));
+				}
+			}
+		};
+		summary.accept(Money.of(10, BRAZILIAN_REAL));
+		summary.accept(Money.of(20, BRAZILIAN_REAL));
+		Assert.assertEquals(1000L, summary.getSum().getNumber().longValue());
+		Assert.assertEquals(500L, summary.getAverage().getNumber().longValue());
+		summary.accept(Money.of(500, BRAZILIAN_REAL));
+		Assert.assertEquals(1500L, summary.getSum().getNumber().longValue());
+		Assert.assertEquals(500L, summary.getAverage().getNumber().longValue());
+	}
+
 	private MonetarySummaryStatistics createSummary(CurrencyUnit currencyUnit) {
 		MonetarySummaryStatistics summary = new DefaultMonetarySummaryStatistics(
 				currencyUnit);
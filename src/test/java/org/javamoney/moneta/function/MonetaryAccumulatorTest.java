@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2012, 2020, Anatole Tresch, Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.function;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Arrays;
+import java.util.Random;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.MonetaryAmount;
+import javax.money.MonetaryContext;
+import javax.money.MonetaryContextBuilder;
+import javax.money.MonetaryException;
+
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.Money;
+import org.javamoney.moneta.RoundedMoney;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link MonetaryAccumulator}.
+ */
+public class MonetaryAccumulatorTest {
+
+    private static final CurrencyUnit EURO = Monetary.getCurrency("EUR");
+
+    @Test
+    public void testFastMoney_MatchesAdd() {
+        Random random = new Random(11L);
+        MonetaryAccumulator accumulator = MonetaryAccumulator.of(EURO);
+        FastMoney expected = FastMoney.zero(EURO);
+        for (int i = 0; i < 10000; i++) {
+            FastMoney amount = FastMoney.ofRaw(random.nextLong() >> 20, EURO);
+            if (i % 3 == 0) {
+                accumulator.subtract(amount);
+                expected = expected.subtract(amount);
+            } else {
+                accumulator.add(amount);
+                expected = expected.add(amount);
+            }
+        }
+        MonetaryAmount sum = accumulator.getSum();
+        assertEquals(sum, expected);
+        assertEquals(accumulator.toFastMoney(), expected);
+        assertEquals(accumulator.getNumber().compareTo(expected.getNumber().numberValue(BigDecimal.class)), 0);
+    }
+
+    @Test
+    public void testFastMoney_IntermediateOverflow() {
+        FastMoney max = FastMoney.MAX_VALUE.getFactory().setCurrency(EURO).create();
+        FastMoney min = FastMoney.MIN_VALUE.getFactory().setCurrency(EURO).create();
+        MonetaryAccumulator accumulator = MonetaryAccumulator.of(max).add(max).add(max);
+        assertEquals(accumulator.getNumber(), max.getNumber().numberValue(BigDecimal.class)
+                .multiply(BigDecimal.valueOf(3)));
+        accumulator.subtract(max).subtract(max);
+        assertEquals(accumulator.getSum(), max);
+        accumulator.reset();
+        accumulator.add(min).add(min).subtract(max).subtract(min);
+        assertEquals(accumulator.getNumber(), min.getNumber().numberValue(BigDecimal.class)
+                .subtract(max.getNumber().numberValue(BigDecimal.class)));
+        accumulator.add(max);
+        assertEquals(accumulator.toFastMoney(), min);
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testFastMoney_ResultOverflow() {
+        FastMoney max = FastMoney.MAX_VALUE.getFactory().setCurrency(EURO).create();
+        MonetaryAccumulator.of(max).add(max).getSum();
+    }
+
+    @Test
+    public void testAverage() {
+        FastMoney max = FastMoney.MAX_VALUE.getFactory().setCurrency(EURO).create();
+        MonetaryAccumulator accumulator = MonetaryAccumulator.of(max).add(max);
+        assertEquals(accumulator.getAverage(2), max);
+        accumulator = MonetaryAccumulator.of(FastMoney.of(10, EURO)).add(FastMoney.of(1, EURO));
+        assertEquals(accumulator.getAverage(3), FastMoney.of(10, EURO).add(FastMoney.of(1, EURO)).divide(3));
+        accumulator = MonetaryAccumulator.of(Money.of(10, EURO)).add(Money.of(1, EURO));
+        assertEquals(accumulator.getAverage(3), Money.of(11, EURO).divide(3));
+        assertEquals(MonetaryAccumulator.of(EURO).getAverage(1), Money.zero(EURO));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testAverage_InvalidCount() {
+        MonetaryAccumulator.of(Money.of(10, EURO)).getAverage(0);
+    }
+
+    @Test
+    public void testMoney_KeepsContext() {
+        MonetaryContext context = MonetaryContextBuilder.of(Money.class).set(MathContext.DECIMAL128).build();
+        Money first = Money.of(new BigDecimal("0.1"), EURO, context);
+        MonetaryAccumulator accumulator = MonetaryAccumulator.of(first);
+        Money expected = first;
+        for (int i = 0; i < 100; i++) {
+            Money amount = Money.of(new BigDecimal(i).movePointLeft(3), EURO);
+            accumulator.add(amount);
+            expected = expected.add(amount);
+        }
+        MonetaryAmount sum = accumulator.getSum();
+        assertTrue(sum instanceof Money);
+        assertEquals(sum, expected);
+        assertEquals(sum.getContext(), first.getContext());
+    }
+
+    @Test
+    public void testRoundedMoney_KeepsRounding() {
+        RoundedMoney first = RoundedMoney.of(new BigDecimal("1.25"), EURO, Monetary.getDefaultRounding());
+        MonetaryAccumulator accumulator = MonetaryAccumulator.of(first)
+                .add(RoundedMoney.of(new BigDecimal("2.50"), EURO, Monetary.getDefaultRounding()));
+        MonetaryAmount sum = accumulator.getSum();
+        assertTrue(sum instanceof RoundedMoney);
+        assertEquals(sum, first.add(RoundedMoney.of(new BigDecimal("2.50"), EURO, Monetary.getDefaultRounding())));
+    }
+
+    @Test
+    public void testMixedTypes() {
+        MonetaryAccumulator accumulator = MonetaryAccumulator.of(EURO)
+                .addAll(Arrays.<MonetaryAmount>asList(Money.of(1.5, EURO), FastMoney.of(2.25, EURO),
+                        RoundedMoney.of(new BigDecimal("-0.75"), EURO)));
+        assertEquals(accumulator.getNumber().compareTo(new BigDecimal("3")), 0);
+        assertEquals(accumulator.getSum(), Money.of(3, EURO));
+        assertEquals(accumulator.toFastMoney(), FastMoney.of(3, EURO));
+        assertEquals(accumulator.toMoney(), Money.of(3, EURO));
+    }
+
+    @Test
+    public void testCombine() {
+        MonetaryAccumulator first = MonetaryAccumulator.of(FastMoney.of(1, EURO)).add(Money.of(0.5, EURO));
+        MonetaryAccumulator second = MonetaryAccumulator.of(FastMoney.of(-3, EURO)).add(Money.of(0.25, EURO));
+        first.combine(second).combine(MonetaryAccumulator.of(EURO));
+        assertEquals(first.getSum(), FastMoney.of(-1.25, EURO));
+    }
+
+    @Test
+    public void testEmpty() {
+        MonetaryAccumulator accumulator = MonetaryAccumulator.of(EURO);
+        assertTrue(accumulator.isEmpty());
+        assertEquals(accumulator.getSum(), Money.zero(EURO));
+        accumulator.add(FastMoney.of(1, EURO));
+        assertFalse(accumulator.isEmpty());
+        accumulator.reset();
+        assertTrue(accumulator.isEmpty());
+        assertEquals(accumulator.getNumber(), BigDecimal.ZERO);
+    }
+
+    @Test(expectedExceptions = MonetaryException.class)
+    public void testCurrencyMismatch() {
+        MonetaryAccumulator.of(EURO).add(Money.of(1, "CHF"));
+    }
+
+}
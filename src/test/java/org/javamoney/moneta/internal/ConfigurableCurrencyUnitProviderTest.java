@@ -16,14 +16,25 @@
 package org.javamoney.moneta.internal;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 
 import javax.money.CurrencyQuery;
 import javax.money.CurrencyQueryBuilder;
 import javax.money.CurrencyUnit;
 import javax.money.Monetary;
+import javax.money.MonetaryException;
+import javax.money.UnknownCurrencyException;
 
 import org.javamoney.moneta.CurrencyUnitBuilder;
 import org.javamoney.moneta.spi.ConfigurableCurrencyUnitProvider;
+import org.javamoney.moneta.spi.MonetaryConfig;
 import org.testng.annotations.Test;
 
 /**
@@ -60,4 +71,97 @@ public class ConfigurableCurrencyUnitProviderTest {
             ConfigurableCurrencyUnitProvider.removeCurrencyUnit(eur.getCurrencyCode());
         }
     }
+
+    /**
+     * Tests that currencies resolved by code reflect registrations and removals.
+     */
+    @Test
+    public void testGetCurrencyAfterChanges() {
+        CurrencyUnit test1 = CurrencyUnitBuilder.of("XTC", "cache-test").build(false);
+        CurrencyUnit test2 = CurrencyUnitBuilder.of("XTC", "cache-test").setDefaultFractionDigits(3).build(false);
+        assertSame(Monetary.getCurrency("EUR"), Monetary.getCurrency("EUR"));
+        ConfigurableCurrencyUnitProvider.registerCurrencyUnit(test1);
+        try {
+            assertSame(Monetary.getCurrency("XTC"), test1);
+            assertSame(Monetary.getCurrency("XTC"), test1);
+            ConfigurableCurrencyUnitProvider.registerCurrencyUnit(test2);
+            assertSame(Monetary.getCurrency("XTC"), test2);
+            ConfigurableCurrencyUnitProvider.removeCurrencyUnit("XTC");
+            try {
+                Monetary.getCurrency("XTC");
+                fail("UnknownCurrencyException expected");
+            } catch (UnknownCurrencyException e) {
+                // expected
+            }
+            ConfigurableCurrencyUnitProvider.registerCurrencyUnit(CurrencyUnitBuilder.of("EUR", "cache-test")
+                    .build(false));
+            try {
+                Monetary.getCurrency("EUR");
+                fail("MonetaryException expected for ambiguous currency");
+            } catch (MonetaryException e) {
+                // expected
+            }
+        } finally {
+            ConfigurableCurrencyUnitProvider.removeCurrencyUnit("XTC");
+            ConfigurableCurrencyUnitProvider.removeCurrencyUnit("EUR");
+        }
+        assertSame(Monetary.getCurrency("EUR"), Monetary.getCurrency("EUR"));
+    }
+
+    /**
+     * Tests that {@link ConfigurableCurrencyUnitProvider#registerAll(java.util.Collection)} makes all
+     * currencies visible and that single code queries share their results.
+     */
+    @Test
+    public void testRegisterAll() {
+        List<CurrencyUnit> units = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            units.add(CurrencyUnitBuilder.of("PTS" + i, "register-all-test").build(false));
+        }
+        ConfigurableCurrencyUnitProvider.registerAll(units);
+        ConfigurableCurrencyUnitProvider provider = new ConfigurableCurrencyUnitProvider();
+        try {
+            for (CurrencyUnit unit : units) {
+                assertSame(ConfigurableCurrencyUnitProvider.getCurrencyUnit(unit.getCurrencyCode()), unit);
+                assertSame(Monetary.getCurrency(unit.getCurrencyCode()), unit);
+            }
+            CurrencyQuery query = CurrencyQueryBuilder.of().setCurrencyCodes("PTS42").build();
+            Set<CurrencyUnit> result = provider.getCurrencies(query);
+            assertEquals(result.size(), 1);
+            assertSame(result.iterator().next(), units.get(42));
+            assertSame(provider.getCurrencies(query), result);
+            assertTrue(provider.getCurrencies(CurrencyQueryBuilder.of().setCurrencyCodes("PTS-1").build())
+                    .isEmpty());
+            assertEquals(provider.getCurrencies(CurrencyQueryBuilder.of().setCurrencyCodes("PTS1", "PTS2", "PTS-1")
+                    .build()).size(), 2);
+            assertTrue(provider.getCurrencies(CurrencyQueryBuilder.of().build()).containsAll(units));
+        } finally {
+            for (CurrencyUnit unit : units) {
+                ConfigurableCurrencyUnitProvider.removeCurrencyUnit(unit.getCurrencyCode());
+            }
+        }
+        assertNull(ConfigurableCurrencyUnitProvider.getCurrencyUnit("PTS42"));
+        assertTrue(provider.getCurrencies(CurrencyQueryBuilder.of().setCurrencyCodes("PTS42").build()).isEmpty());
+    }
+
+    /**
+     * Tests that currencies cached by code are resolved again after the default chain configuration changed.
+     */
+    @Test
+    public void testGetCurrency_DefaultChainChanged() {
+        CurrencyUnit chf = Monetary.getCurrency("CHF");
+        try {
+            MonetaryConfig.set("currencies.default-chain", "ConfigurableCurrencyUnitProvider");
+            try {
+                Monetary.getCurrency("CHF");
+                fail("UnknownCurrencyException expected, CHF is not provided by the default chain");
+            } catch (UnknownCurrencyException e) {
+                // expected
+            }
+        } finally {
+            MonetaryConfig.set("currencies.default-chain", null);
+        }
+        assertSame(Monetary.getCurrency("CHF"), chf);
+    }
+
 }
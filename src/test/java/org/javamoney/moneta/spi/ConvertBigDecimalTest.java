@@ -79,4 +79,70 @@ public class ConvertBigDecimalTest {
 	public void ofBigIntegerTest() {
 		Assert.assertEquals(ConvertBigDecimal.of(BigInteger.valueOf(10L)), expectValue);
 	}
+
+	@Test
+	public void ofRegisteredTypeTest() {
+		MoneyUtils.registerNumberConverter(TestDecimal.class, new NumberConverter<TestDecimal>() {
+			@Override
+			public BigDecimal toBigDecimal(TestDecimal number) {
+				return BigDecimal.valueOf(number.unscaled, number.scale);
+			}
+		});
+		Assert.assertEquals(ConvertBigDecimal.of(new TestDecimal(1050L, 2)), new BigDecimal("10.5"));
+		Assert.assertEquals(ConvertBigDecimal.of(new TestDecimal(12345678901234567L, 20)),
+				new BigDecimal("0.00012345678901234567"));
+		Assert.assertEquals(MoneyUtils.getBigDecimal(new TestDecimal(-5L, 0) {
+		}), BigDecimal.valueOf(-5L));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void registerSupportedTypeTest() {
+		MoneyUtils.registerNumberConverter(Long.class, new NumberConverter<Number>() {
+			@Override
+			public BigDecimal toBigDecimal(Number number) {
+				return BigDecimal.ZERO;
+			}
+		});
+	}
+
+	/**
+	 * Number type unknown to the library, whose {@link #toString()} can not be parsed.
+	 */
+	private static class TestDecimal extends Number {
+
+		private static final long serialVersionUID = 1L;
+
+		private final long unscaled;
+		private final int scale;
+
+		TestDecimal(long unscaled, int scale) {
+			this.unscaled = unscaled;
+			this.scale = scale;
+		}
+
+		@Override
+		public int intValue() {
+			return (int) longValue();
+		}
+
+		@Override
+		public long longValue() {
+			return BigDecimal.valueOf(unscaled, scale).longValue();
+		}
+
+		@Override
+		public float floatValue() {
+			return (float) doubleValue();
+		}
+
+		@Override
+		public double doubleValue() {
+			return BigDecimal.valueOf(unscaled, scale).doubleValue();
+		}
+
+		@Override
+		public String toString() {
+			return unscaled + "e-" + scale;
+		}
+	}
 }
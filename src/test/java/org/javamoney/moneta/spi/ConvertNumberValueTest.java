@@ -169,4 +169,28 @@ public class ConvertNumberValueTest {
 		Assert.assertEquals(expectedValue.get(), number.get());
 		Assert.assertEquals(expectedValue.get(), numberExact.get());
 	}
+
+	@Test
+	public void exactIntegralTest() {
+		Assert.assertEquals(ConvertNumberValue.ofExact(Integer.class, Long.valueOf(Integer.MIN_VALUE)),
+				Integer.valueOf(Integer.MIN_VALUE));
+		Assert.assertEquals(ConvertNumberValue.ofExact(Long.class, Long.MAX_VALUE), Long.valueOf(Long.MAX_VALUE));
+		Assert.assertEquals(ConvertNumberValue.ofExact(Byte.class, new BigDecimal("-128.00")),
+				Byte.valueOf((byte) -128));
+	}
+
+	@Test(expectedExceptions = ArithmeticException.class)
+	public void exactIntegralOverflowTest() {
+		ConvertNumberValue.ofExact(Short.class, 32768);
+	}
+
+	@Test(expectedExceptions = ArithmeticException.class)
+	public void exactIntegralRoundingTest() {
+		ConvertNumberValue.ofExact(Integer.class, new BigDecimal("1.5"));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void unsupportedTypeTest() {
+		ConvertNumberValue.of(DefaultNumberValue.class, 1);
+	}
 }
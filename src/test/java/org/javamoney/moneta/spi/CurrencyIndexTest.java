@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2012, 2020, Anatole Tresch, Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.spi;
+
+import org.javamoney.moneta.CurrencyUnitBuilder;
+import org.testng.annotations.Test;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test for the {@link CurrencyIndex} class.
+ */
+public class CurrencyIndexTest {
+
+    @Test
+    public void testJdkCurrencies() {
+        CurrencyUnit chf = Monetary.getCurrency("CHF");
+        CurrencyUnit eur = Monetary.getCurrency("EUR");
+        int chfId = CurrencyIndex.indexOf(chf);
+        int eurId = CurrencyIndex.indexOf(eur);
+        assertTrue(chfId >= 0);
+        assertTrue(chfId < eurId);
+        assertTrue(eurId < CurrencyIndex.size());
+        assertEquals(CurrencyIndex.find(eur), eurId);
+        assertSame(CurrencyIndex.get(chfId), chf);
+        assertSame(CurrencyIndex.canonical(chf), chf);
+    }
+
+    @Test
+    public void testCanonical() {
+        CurrencyUnit usd = Monetary.getCurrency("USD");
+        CurrencyUnit other = CurrencyUnitBuilder.of("USD", "CurrencyIndexTest").build();
+        assertEquals(CurrencyIndex.indexOf(other), CurrencyIndex.indexOf(usd));
+        assertSame(CurrencyIndex.canonical(other), usd);
+    }
+
+    @Test
+    public void testRegister() {
+        CurrencyUnit custom = CurrencyUnitBuilder.of("IDX-TEST", "CurrencyIndexTest").build();
+        assertEquals(CurrencyIndex.find(custom), -1);
+        int size = CurrencyIndex.size();
+        int id = CurrencyIndex.indexOf(custom);
+        assertEquals(id, size);
+        assertEquals(CurrencyIndex.size(), size + 1);
+        assertEquals(CurrencyIndex.find(custom), id);
+        CurrencyUnit same = CurrencyUnitBuilder.of("IDX-TEST", "CurrencyIndexTest").setDefaultFractionDigits(4)
+                .build();
+        assertEquals(CurrencyIndex.indexOf(same), id);
+        assertSame(CurrencyIndex.canonical(same), custom);
+        assertSame(CurrencyIndex.get(id), custom);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testGetUnknownId() {
+        CurrencyIndex.get(CurrencyIndex.size());
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2012, 2020, Anatole Tresch, Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.spi;
+
+import org.javamoney.moneta.CurrencyUnitBuilder;
+import org.testng.annotations.Test;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test for the {@link CurrencyMap} class.
+ */
+public class CurrencyMapTest {
+
+    private final CurrencyUnit chf = Monetary.getCurrency("CHF");
+    private final CurrencyUnit eur = Monetary.getCurrency("EUR");
+    private final CurrencyUnit usd = Monetary.getCurrency("USD");
+
+    @Test
+    public void testPutGetRemove() {
+        CurrencyMap<String> map = new CurrencyMap<>();
+        assertTrue(map.isEmpty());
+        assertNull(map.put(eur, "eur"));
+        assertNull(map.put(chf, null));
+        assertEquals(map.put(eur, "euro"), "eur");
+        assertEquals(map.size(), 2);
+        assertEquals(map.get(eur), "euro");
+        assertEquals(map.get(CurrencyUnitBuilder.of("EUR", "CurrencyMapTest").build()), "euro");
+        assertTrue(map.containsKey(chf));
+        assertNull(map.get(chf));
+        assertFalse(map.containsKey(usd));
+        assertNull(map.get(usd));
+        assertNull(map.get("EUR"));
+        assertNull(map.get(CurrencyUnitBuilder.of("MAP-UNKNOWN", "CurrencyMapTest").build()));
+        assertEquals(map.remove(eur), "euro");
+        assertNull(map.remove(eur));
+        assertEquals(map.size(), 1);
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertFalse(map.containsKey(chf));
+    }
+
+    @Test
+    public void testCustomCurrency() {
+        CurrencyUnit custom = CurrencyUnitBuilder.of("MAP-TEST", "CurrencyMapTest").build();
+        CurrencyMap<Integer> map = new CurrencyMap<>();
+        map.put(chf, 1);
+        map.put(custom, 2);
+        assertEquals(map.get(custom), Integer.valueOf(2));
+        assertSame(map.keySet().toArray()[1], custom);
+    }
+
+    @Test
+    public void testEqualsHashMap() {
+        Map<CurrencyUnit, Integer> expected = new HashMap<>();
+        expected.put(usd, 1);
+        expected.put(chf, 2);
+        expected.put(eur, 3);
+        CurrencyMap<Integer> map = new CurrencyMap<>(expected);
+        assertEquals(map, expected);
+        assertEquals(expected, map);
+        assertEquals(map.hashCode(), expected.hashCode());
+        assertEquals(map.keySet().toArray(), new Object[]{chf, eur, usd});
+    }
+
+    @Test
+    public void testIterator() {
+        CurrencyMap<Integer> map = new CurrencyMap<>();
+        map.put(usd, 1);
+        map.put(chf, 2);
+        map.put(eur, 3);
+        for (Map.Entry<CurrencyUnit, Integer> entry : map.entrySet()) {
+            entry.setValue(entry.getValue() * 10);
+        }
+        assertEquals(map.get(chf), Integer.valueOf(20));
+        Iterator<CurrencyUnit> iterator = map.keySet().iterator();
+        assertEquals(iterator.next(), chf);
+        iterator.remove();
+        assertEquals(map.size(), 2);
+        assertFalse(map.containsKey(chf));
+        assertEquals(map.values().toArray(), new Object[]{30, 10});
+    }
+
+}
@@ -17,6 +17,10 @@ package org.javamoney.moneta.spi;
 
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import static org.testng.Assert.*;
 
 /**
@@ -41,4 +45,47 @@ public class MonetaryConfigTest {
     public void testConfigNormal() throws Exception {
         assertEquals(MonetaryConfig.getConfig().get("myTestValue"), "myTestValue");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testTypedValues() throws Exception {
+        assertEquals(MonetaryConfig.get("myTestValue"), "myTestValue");
+        assertFalse(MonetaryConfig.getBoolean("myTestValue", true));
+        assertTrue(MonetaryConfig.getBoolean("test.notConfigured", true));
+        assertEquals(MonetaryConfig.getInt("test.notConfigured", 42), 42);
+        assertEquals(MonetaryConfig.getInt("myTestValue", 42), 42);
+        assertNull(MonetaryConfig.getList("test.notConfigured"));
+        assertEquals(MonetaryConfig.getList("myTestValue"), Arrays.asList("myTestValue"));
+    }
+
+    @Test
+    public void testSet() throws Exception {
+        final List<String> changes = new ArrayList<>();
+        MonetaryConfig.ChangeListener listener = new MonetaryConfig.ChangeListener() {
+            @Override
+            public void configChanged(String key, String value) {
+                changes.add(key + "=" + value);
+            }
+        };
+        MonetaryConfig.addChangeListener(listener);
+        try {
+            MonetaryConfig.set("test.override", " 12 ");
+            assertEquals(MonetaryConfig.getInt("test.override", 0), 12);
+            assertEquals(MonetaryConfig.getConfig().get("test.override"), " 12 ");
+            MonetaryConfig.set("test.override", " 12 ");
+            MonetaryConfig.set("test.override", "a, b,,c ");
+            assertEquals(MonetaryConfig.getList("test.override"), Arrays.asList("a", "b", "c"));
+            MonetaryConfig.set("test.override", "true");
+            assertTrue(MonetaryConfig.getBoolean("test.override", false));
+            MonetaryConfig.set("myTestValue", "overridden");
+            assertEquals(MonetaryConfig.get("myTestValue"), "overridden");
+        } finally {
+            MonetaryConfig.set("test.override", null);
+            MonetaryConfig.set("myTestValue", null);
+            MonetaryConfig.removeChangeListener(listener);
+        }
+        assertNull(MonetaryConfig.get("test.override"));
+        assertEquals(MonetaryConfig.get("myTestValue"), "myTestValue");
+        assertEquals(changes, Arrays.asList("test.override= 12 ", "test.override=a, b,,c ",
+                "test.override=true", "myTestValue=overridden", "test.override=null", "myTestValue=myTestValue"));
+    }
+}
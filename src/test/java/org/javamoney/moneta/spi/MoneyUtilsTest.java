@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2012, 2014, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.spi;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import javax.money.MonetaryContext;
+import javax.money.MonetaryContextBuilder;
+
+import org.javamoney.moneta.Money;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link MoneyUtils}.
+ */
+public class MoneyUtilsTest {
+
+    @Test
+    public void testGetBigDecimalWithContext_RoundsToPrecision() {
+        MonetaryContext ctx = MonetaryContextBuilder.of(Money.class).setPrecision(5).set(RoundingMode.HALF_UP)
+                .build();
+        assertEquals(MoneyUtils.getBigDecimal(new BigDecimal("123.456789"), ctx), new BigDecimal("123.46"));
+        assertEquals(MoneyUtils.getBigDecimal(new BigDecimal("-123.455"), ctx), new BigDecimal("-123.46"));
+    }
+
+    @Test
+    public void testGetBigDecimalWithContext_WithinContextIsNotChanged() {
+        MonetaryContext ctx = MonetaryContextBuilder.of(Money.class).setPrecision(5).build();
+        BigDecimal value = new BigDecimal("1.2345");
+        assertEquals(MoneyUtils.getBigDecimal(value, ctx), value);
+    }
+
+    @Test
+    public void testGetBigDecimalWithContext_AppliesMaxScale() {
+        MonetaryContext ctx = MonetaryContextBuilder.of(Money.class).setMaxScale(2).set(RoundingMode.DOWN).build();
+        assertEquals(MoneyUtils.getBigDecimal(new BigDecimal("1.239"), ctx), new BigDecimal("1.23"));
+        assertEquals(MoneyUtils.getBigDecimal(1, ctx), new BigDecimal("1.00"));
+    }
+
+    @Test
+    public void testGetBigDecimalWithContext_MatchesStringRoundTrip() {
+        MonetaryContext ctx = MonetaryContextBuilder.of(Money.class).setPrecision(7).set(RoundingMode.HALF_EVEN)
+                .build();
+        MathContext mc = new MathContext(7, RoundingMode.HALF_EVEN);
+        String[] values = {"0", "1", "-1", "12345678", "1234567.5", "1234568.5", "0.000123456789", "-98765.4321",
+                "1E+12", "123456789012345678901234567890.123"};
+        for (String value : values) {
+            BigDecimal bd = new BigDecimal(value);
+            BigDecimal expected = new BigDecimal(MoneyUtils.getBigDecimal(bd).toString(), mc);
+            assertEquals(MoneyUtils.getBigDecimal(bd, ctx), expected, value);
+        }
+    }
+
+    @Test
+    public void testGetMathContext_IsCached() {
+        MonetaryContext ctx = MonetaryContextBuilder.of(Money.class).setPrecision(10).build();
+        MathContext mc = MoneyUtils.getMathContext(ctx, RoundingMode.HALF_EVEN);
+        assertEquals(mc, new MathContext(10, RoundingMode.HALF_EVEN));
+        assertSame(MoneyUtils.getMathContext(ctx, RoundingMode.HALF_EVEN), mc);
+        assertSame(MoneyUtils.getMathContext(
+                MonetaryContextBuilder.of(Money.class).setPrecision(10).build(), RoundingMode.HALF_EVEN), mc);
+        assertEquals(MoneyUtils.getMathContext(ctx, RoundingMode.UP), new MathContext(10, RoundingMode.UP));
+    }
+
+    @Test
+    public void testGetMathContext_ContextSettingsOverrideDefault() {
+        MonetaryContext ctx = MonetaryContextBuilder.of(Money.class).setPrecision(10).set(RoundingMode.FLOOR)
+                .build();
+        assertEquals(MoneyUtils.getMathContext(ctx, RoundingMode.UP), new MathContext(10, RoundingMode.FLOOR));
+        ctx = MonetaryContextBuilder.of(Money.class).set(MathContext.DECIMAL32).build();
+        assertSame(MoneyUtils.getMathContext(ctx, RoundingMode.UP), MathContext.DECIMAL32);
+    }
+
+    @Test
+    public void testGetBigDecimalDouble_MatchesString() {
+        double[] values = {0.0, -0.0, 1.0, -1.0, 0.1, 0.2, 0.3, 12.99, -12.99, 0.001, 0.000999, 1e-5, 1.5e-10, 1e7,
+                9999999.0, 12345678.9, 1.2e7, 1e14, 123456789012345.0, 999999999999999.0, 1e15, 1e16, 1e22, 1e23,
+                Double.MIN_VALUE, Double.MAX_VALUE, Double.MIN_NORMAL, Math.PI, -Math.E, 0.1 + 0.2, 1.0 / 3,
+                Long.MAX_VALUE, Long.MIN_VALUE};
+        for (double value : values) {
+            assertConvertedLikeString(value);
+        }
+        Random random = new Random(42L);
+        for (int i = 0; i < 200000; i++) {
+            // decimals with up to 15 digits at all magnitudes
+            long unscaled = random.nextLong() % (1L + Math.abs(random.nextLong() % 1000000000000000L));
+            int scale = random.nextInt(40) - 20;
+            assertConvertedLikeString(BigDecimal.valueOf(unscaled, scale).doubleValue());
+            // arbitrary doubles
+            assertConvertedLikeString(random.nextDouble() * Math.pow(10, random.nextInt(30) - 15));
+            assertConvertedLikeString(Double.longBitsToDouble(random.nextLong()));
+        }
+    }
+
+    @Test
+    public void testGetDecimalScale() {
+        assertEquals(MoneyUtils.getDecimalScale(0.0), 0);
+        assertEquals(MoneyUtils.getDecimalScale(12.0), 0);
+        assertEquals(MoneyUtils.getDecimalScale(12.99), 2);
+        assertEquals(MoneyUtils.getUnscaledValue(12.99, 2), 1299L);
+        assertEquals(MoneyUtils.getDecimalScale(-0.0125), 4);
+        assertEquals(MoneyUtils.getUnscaledValue(-0.0125, 4), -125L);
+        assertEquals(MoneyUtils.getDecimalScale(0.1 + 0.2), -1);
+        assertEquals(MoneyUtils.getDecimalScale(1e15), -1);
+        assertEquals(MoneyUtils.getDecimalScale(Double.NaN), -1);
+        assertEquals(MoneyUtils.getDecimalScale(Double.NEGATIVE_INFINITY), -1);
+    }
+
+    @Test
+    public void testIntern() {
+        MonetaryContext first = MonetaryContextBuilder.of(Money.class).setPrecision(11).set(RoundingMode.DOWN).build();
+        MonetaryContext second = MonetaryContextBuilder.of(Money.class).setPrecision(11).set(RoundingMode.DOWN).build();
+        MonetaryContext interned = MoneyUtils.intern(first);
+        assertSame(interned, first);
+        assertSame(MoneyUtils.intern(second), first);
+        assertSame(Money.of(1, "CHF", second).getContext(), first);
+        assertSame(MoneyUtils.intern(Money.DEFAULT_MONETARY_CONTEXT), Money.DEFAULT_MONETARY_CONTEXT);
+        assertSame(MoneyUtils.getMathContext(second, RoundingMode.HALF_EVEN),
+                MoneyUtils.getMathContext(first, RoundingMode.UP));
+        assertEquals(MoneyUtils.getMathContext(first, RoundingMode.UP), new MathContext(11, RoundingMode.DOWN));
+        assertEquals(MoneyUtils.getRoundingMode(first, RoundingMode.UP), RoundingMode.DOWN);
+    }
+
+    @Test
+    public void testGetMathContextWithPrecision() {
+        MonetaryContext context = MonetaryContextBuilder.of(Money.class).set(RoundingMode.CEILING).build();
+        MathContext mc = MoneyUtils.getMathContext(context, 4, RoundingMode.HALF_EVEN);
+        assertEquals(mc, new MathContext(4, RoundingMode.CEILING));
+        assertSame(MoneyUtils.getMathContext(context, 4, RoundingMode.HALF_EVEN), mc);
+        assertEquals(MoneyUtils.getMathContext(context, 100, RoundingMode.HALF_EVEN),
+                new MathContext(100, RoundingMode.CEILING));
+        MonetaryContext noMode = MonetaryContextBuilder.of(Money.class).build();
+        assertEquals(MoneyUtils.getMathContext(noMode, 2, RoundingMode.UP), new MathContext(2, RoundingMode.UP));
+        assertEquals(MoneyUtils.getRoundingMode(noMode, null), RoundingMode.HALF_EVEN);
+    }
+
+    private static void assertConvertedLikeString(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return;
+        }
+        BigDecimal expected = new BigDecimal(String.valueOf(value));
+        BigDecimal result = MoneyUtils.getBigDecimal(value);
+        // equals also compares the scale
+        assertEquals(result, expected, String.valueOf(value));
+        int scale = MoneyUtils.getDecimalScale(value);
+        if (scale >= 0) {
+            assertTrue(BigDecimal.valueOf(MoneyUtils.getUnscaledValue(value, scale), scale).compareTo(expected) == 0,
+                    String.valueOf(value));
+        }
+    }
+
+}
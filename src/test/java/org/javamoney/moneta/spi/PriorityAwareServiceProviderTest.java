@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2012, 2020, Anatole Tresch, Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.spi;
+
+import org.testng.annotations.Test;
+
+import javax.money.spi.CurrencyProviderSpi;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test for the {@link PriorityAwareServiceProvider} class.
+ */
+public class PriorityAwareServiceProviderTest {
+
+    @Test
+    public void testGetServices() {
+        PriorityAwareServiceProvider provider = new PriorityAwareServiceProvider();
+        List<CurrencyProviderSpi> services = provider.getServices(CurrencyProviderSpi.class);
+        assertFalse(services.isEmpty());
+        assertSame(provider.getServices(CurrencyProviderSpi.class), services);
+        assertSame(provider.getService(CurrencyProviderSpi.class), services.get(0));
+        for (int i = 1; i < services.size(); i++) {
+            assertTrue(PriorityAwareServiceProvider.compareServices(services.get(i - 1), services.get(i)) <= 0);
+        }
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void testGetServicesNotModifiable() {
+        new PriorityAwareServiceProvider().getServices(CurrencyProviderSpi.class).clear();
+    }
+
+    @Test
+    public void testGetServicesConcurrently() throws Exception {
+        final PriorityAwareServiceProvider provider = new PriorityAwareServiceProvider();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<CurrencyProviderSpi>>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(new Callable<List<CurrencyProviderSpi>>() {
+                    @Override
+                    public List<CurrencyProviderSpi> call() {
+                        return provider.getServices(CurrencyProviderSpi.class);
+                    }
+                }));
+            }
+            List<CurrencyProviderSpi> first = results.get(0).get();
+            for (Future<List<CurrencyProviderSpi>> result : results) {
+                assertSame(result.get(), first);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}